@@ -0,0 +1,83 @@
+package benchmarks;
+
+import components.Card;
+import components.Deck;
+import components.players.AIPlayer;
+import components.players.DifficultAIPlayer;
+import components.players.MediumAIPlayer;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The {@code AIPlayerBenchmark} class measures one {@link AIPlayer#play(Card)} decision of the medium and
+ * difficult AI players. The played card is put back into the hand after every call, so each call sees
+ * the same hand.
+ *
+ * @author Riley Woolf
+ * @version 1.0
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class AIPlayerBenchmark {
+    /**
+     * The type of AI player.
+     */
+    @Param({"medium", "difficult"})
+    public String playerType;
+
+    /**
+     * The number of cards in the player's hand.
+     */
+    @Param({"7", "20"})
+    public int handSize;
+
+    /**
+     * The AI player making the decision.
+     */
+    private AIPlayer player;
+
+    /**
+     * The top card of the discard pile.
+     */
+    private Card topCard;
+
+    /**
+     * Deals a seeded hand to the player and picks a colored top card.
+     */
+    @Setup(Level.Trial)
+    public void setUp() {
+        player = switch (playerType) {
+            case "medium" -> new MediumAIPlayer("Medium AI", 0, false);
+            case "difficult" -> new DifficultAIPlayer("Difficult AI", 0, false);
+            default -> throw new IllegalArgumentException("Unknown player type: " + playerType);
+        };
+
+        Deck deck = new Deck(new SplittableRandom(3));
+        for (int i = 0; i < handSize; i++) {
+            player.addCard(deck.draw());
+        }
+        do {
+            topCard = deck.draw();
+        } while (topCard.getColor() == null);
+    }
+
+    /**
+     * Asks the player for a card, then gives the card back.
+     *
+     * @return the card the player chose, or {@code null} if it had to draw
+     */
+    @Benchmark
+    public Card play() {
+        Card card = player.play(topCard);
+        if (card != null) {
+            player.addCard(card);
+        }
+        return card;
+    }
+}
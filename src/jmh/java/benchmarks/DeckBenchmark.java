@@ -0,0 +1,68 @@
+package benchmarks;
+
+import components.Deck;
+import components.DiscardPile;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The {@code DeckBenchmark} class measures drawing from and shuffling a {@link Deck}.
+ * <p>
+ * Drawing runs through the whole deck and refills it from a discard pile each time it runs out,
+ * the same way a game recycles its played cards.
+ * </p>
+ *
+ * @author Riley Woolf
+ * @version 1.0
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DeckBenchmark {
+    /**
+     * The deck being drawn from and shuffled.
+     */
+    private Deck deck;
+
+    /**
+     * The pile the drawn cards go to, and the deck is refilled from.
+     */
+    private DiscardPile discardPile;
+
+    /**
+     * Creates a seeded deck and an empty discard pile.
+     */
+    @Setup(Level.Trial)
+    public void setUp() {
+        deck = new Deck(new SplittableRandom(1));
+        discardPile = new DiscardPile();
+    }
+
+    /**
+     * Draws one card, refilling the deck from the discard pile when it runs out.
+     *
+     * @return the code of the card drawn
+     */
+    @Benchmark
+    public int draw() {
+        if (deck.size() == 0) {
+            deck.refill(discardPile);
+        }
+        int code = deck.drawCode();
+        discardPile.add(code);
+        return code;
+    }
+
+    /**
+     * Shuffles the deck.
+     */
+    @Benchmark
+    public void shuffle() {
+        deck.shuffle();
+    }
+}
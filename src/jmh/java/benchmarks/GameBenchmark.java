@@ -0,0 +1,91 @@
+package benchmarks;
+
+import components.Game;
+import components.SpecialRules;
+import components.players.DifficultAIPlayer;
+import components.players.MediumAIPlayer;
+import components.players.Player;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The {@code GameBenchmark} class measures a whole {@link Game#play()} for every player count from 2 to 10
+ * and every combination of {@link SpecialRules}, with medium and difficult AI players taking alternate seats.
+ * Each call builds a fresh game with its own seed, so the measurement includes dealing.
+ * <p>
+ * Run a subset with JMH's parameter flag, e.g. {@code -p players=4 -p rules=none,zeros+sevens}.
+ * </p>
+ *
+ * @author Riley Woolf
+ * @version 1.0
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class GameBenchmark {
+    /**
+     * The number of players at the table.
+     */
+    @Param({"2", "3", "4", "5", "6", "7", "8", "9", "10"})
+    public int players;
+
+    /**
+     * The special rules in play, joined by '+'.
+     */
+    @Param({"none", "stacking", "zeros", "sevens", "jumpIn",
+            "stacking+zeros", "stacking+sevens", "stacking+jumpIn", "zeros+sevens", "zeros+jumpIn", "sevens+jumpIn",
+            "stacking+zeros+sevens", "stacking+zeros+jumpIn", "stacking+sevens+jumpIn", "zeros+sevens+jumpIn",
+            "stacking+zeros+sevens+jumpIn"})
+    public String rules;
+
+    /**
+     * The special rules parsed from {@link #rules}.
+     */
+    private SpecialRules specialRules;
+
+    /**
+     * The seed of the next game.
+     */
+    private long seed;
+
+    /**
+     * Parses the special rules.
+     */
+    @Setup(Level.Trial)
+    public void setUp() {
+        specialRules = parseRules(rules);
+    }
+
+    /**
+     * Plays one whole game with new players.
+     *
+     * @return the winner of the game
+     */
+    @Benchmark
+    public Player play() {
+        List<Player> table = new ArrayList<>(players);
+        for (int i = 0; i < players; i++) {
+            table.add(i % 2 == 0 ? new DifficultAIPlayer("Player " + (i + 1), i, false)
+                                 : new MediumAIPlayer("Player " + (i + 1), i, false));
+        }
+        return new Game(table, specialRules, seed++).play();
+    }
+
+    /**
+     * Parses a '+'-separated list of rule names into special rules.
+     *
+     * @param rules the rule names, or "none"
+     * @return the special rules
+     */
+    static SpecialRules parseRules(String rules) {
+        List<String> names = List.of(rules.split("\\+"));
+        return new SpecialRules(names.contains("stacking"), names.contains("zeros"), names.contains("sevens"),
+                names.contains("jumpIn"));
+    }
+}
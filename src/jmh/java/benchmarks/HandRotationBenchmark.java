@@ -0,0 +1,57 @@
+package benchmarks;
+
+import components.Game;
+import components.SpecialRules;
+import components.players.DifficultAIPlayer;
+import components.players.Player;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The {@code HandRotationBenchmark} class measures {@link Game#zeroCardRotateHands()}, which runs every time
+ * a zero is played with the zeros-rotate rule on.
+ *
+ * @author Riley Woolf
+ * @version 1.0
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class HandRotationBenchmark {
+    /**
+     * The number of players at the table.
+     */
+    @Param({"2", "4", "10"})
+    public int players;
+
+    /**
+     * The game whose hands are rotated.
+     */
+    private Game game;
+
+    /**
+     * Deals a seeded game.
+     */
+    @Setup(Level.Trial)
+    public void setUp() {
+        List<Player> table = new ArrayList<>(players);
+        for (int i = 0; i < players; i++) {
+            table.add(new DifficultAIPlayer("Player " + (i + 1), i, false));
+        }
+        game = new Game(table, new SpecialRules(false, true, false, false), 5L);
+    }
+
+    /**
+     * Rotates every hand one seat along.
+     */
+    @Benchmark
+    public void zeroCardRotateHands() {
+        game.zeroCardRotateHands();
+    }
+}
@@ -0,0 +1,135 @@
+package benchmarks;
+
+import components.Card;
+import components.CardCodec;
+import components.CodeHand;
+import components.Deck;
+import components.Hand;
+import components.LegalMoves;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import utils.CardType;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The {@code ValidMoveBenchmark} class compares ways of finding the playable cards of a hand:
+ * the original chain of type and color comparisons in {@code Card.validMove}, a per-card check on the
+ * card codes, and the precomputed {@link LegalMoves} table that checks the whole hand with one AND.
+ *
+ * @author Riley Woolf
+ * @version 1.0
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ValidMoveBenchmark {
+    /**
+     * The number of cards in the hand.
+     */
+    @Param({"7", "20"})
+    public int handSize;
+
+    /**
+     * The hand as card objects.
+     */
+    private List<Card> cards;
+
+    /**
+     * The hand as card codes.
+     */
+    private Hand hand;
+
+    /**
+     * The top card of the discard pile.
+     */
+    private Card topCard;
+
+    /**
+     * Deals a random hand and a random top card.
+     */
+    @Setup(Level.Trial)
+    public void setUp() {
+        Deck deck = new Deck();
+        cards = new ArrayList<>();
+        hand = new CodeHand();
+        for (int i = 0; i < handSize; i++) {
+            Card card = deck.draw();
+            cards.add(card);
+            hand.add(card);
+        }
+        do {
+            topCard = deck.draw();
+        } while (topCard.getColor() == null);
+    }
+
+    /**
+     * The original comparison chain from {@code Card.validMove}, called on every card.
+     */
+    @Benchmark
+    public void legacyChain(Blackhole blackhole) {
+        int playable = 0;
+        for (Card c : cards) {
+            if (legacyValidMove(c, topCard)) playable++;
+        }
+        blackhole.consume(playable);
+    }
+
+    /**
+     * {@link Card#validMove(Card)}, called on every card.
+     */
+    @Benchmark
+    public void cardValidMove(Blackhole blackhole) {
+        int playable = 0;
+        for (Card c : cards) {
+            if (c.validMove(topCard)) playable++;
+        }
+        blackhole.consume(playable);
+    }
+
+    /**
+     * The code comparison from {@link CardCodec#validMove(int, int)}, called on every card code.
+     */
+    @Benchmark
+    public void codePerCard(Blackhole blackhole) {
+        int topState = CardCodec.topState(topCard);
+        int playable = 0;
+        for (int i = 0; i < hand.size(); i++) {
+            if (CardCodec.validMove(hand.codeAt(i), topState)) playable++;
+        }
+        blackhole.consume(playable);
+    }
+
+    /**
+     * The precomputed table, one AND and a popcount for the whole hand.
+     */
+    @Benchmark
+    public void maskLookup(Blackhole blackhole) {
+        long playable = LegalMoves.playable(hand.faceMask(), CardCodec.topState(topCard));
+        blackhole.consume(Long.bitCount(playable));
+    }
+
+    /**
+     * A copy of {@code Card.validMove} as it was before the card codes were added.
+     *
+     * @param card    the card to play
+     * @param topCard the current top card on the discard pile
+     * @return {@code true} if the move is valid, {@code false} otherwise
+     */
+    private static boolean legacyValidMove(Card card, Card topCard) {
+        if (card.getType() == CardType.WILD || card.getType() == CardType.WILD_DRAW_FOUR) {
+            return true;
+        } else if (card.getColor() == topCard.getColor()) {
+            return true;
+        } else if (card.getType() == CardType.NUMBER) {
+            return card.getNumber() == topCard.getNumber();
+        } else {
+            return card.getType() == topCard.getType();
+        }
+    }
+}
@@ -1,36 +1,61 @@
 import components.Game;
 import components.SpecialRules;
+import components.Tournament;
+import components.TournamentResult;
+import components.batch.BatchRunner;
 import components.players.*;
+import components.stats.GameStats;
+import utils.CardType;
+import utils.ConsoleGameListener;
+import utils.ConsoleRenderer;
 
+import java.io.IOException;
 import java.util.*;
 
 public class Main {
-    public static void main(String[] args) {
+    public static void main(String[] args) throws IOException {
+        // Any arguments mean a batch run, see BatchConfig for the options.
+        if (args.length > 0) {
+            BatchRunner.main(args);
+            return;
+        }
+
         Scanner scanner = new Scanner(System.in);
 
         // Ask the user how many players to play with.
         System.out.println("How many players?");
         int numPlayers = scanner.nextInt();
 
-        // Populate the list of players with the types of players the user wants.
-        List<Player> players = new ArrayList<>();
+        // Populate the list of player factories with the types of players the user wants.
+        List<PlayerFactory> playerFactories = new ArrayList<>();
+        boolean hasHuman = false;
         for (int i = 0; i < numPlayers; i++) {
             System.out.println("What type of player do you want Player " + (i + 1) + " to be?");
-            System.out.println("Human (h), Easy Computer (e), Medium Computer (m), Difficult Computer (d)");
+            System.out.println("Human (h), Easy Computer (e), Medium Computer (m), Difficult Computer (d), "
+                    + "Search Computer (s)");
             String type = scanner.next();
+            String name = "Player " + (i + 1);
 
             switch (type) {
-                case "h" -> players.add(new HumanPlayer("Player " + (i + 1), i));
-                case "e" -> players.add(new EasyAIPlayer("Player " + (i + 1), i));
+                case "h" -> {
+                    hasHuman = true;
+                    playerFactories.add(index -> new HumanPlayer(name, index));
+                }
+                case "e" -> playerFactories.add(index -> new EasyAIPlayer(name, index));
                 case "m" -> {
                     System.out.print("Do you want to print out the AI's game moves? (true/false) ");
                     boolean printAI = scanner.nextBoolean();
-                    players.add(new MediumAIPlayer("Player " + (i + 1), i, printAI));
+                    playerFactories.add(index -> new MediumAIPlayer(name, index, printAI));
                 }
                 case "d" -> {
                     System.out.print("Do you want to print out the AI's game moves? (true/false) ");
                     boolean printAI = scanner.nextBoolean();
-                    players.add(new DifficultAIPlayer("Player " + (i + 1), i, printAI));
+                    playerFactories.add(index -> new DifficultAIPlayer(name, index, printAI));
+                }
+                case "s" -> {
+                    System.out.print("Do you want to print out the AI's game moves? (true/false) ");
+                    boolean printAI = scanner.nextBoolean();
+                    playerFactories.add(index -> new ISMCTSAIPlayer(name, index, printAI));
                 }
             }
         }
@@ -39,19 +64,17 @@ public class Main {
         System.out.print("Do you want to play with special rules? (true/false) ");
         SpecialRules specialRules;
         if (scanner.nextBoolean()) {
-//            System.out.print("Allow stacking of draw two cards? (true/false) ");
-//            boolean stacking = scanner.nextBoolean();
-            // TODO: uncomment lines above when stacking is implemented.
-            boolean stacking = false;
+            System.out.print("Allow stacking of draw two cards? (true/false) ");
+            boolean stacking = scanner.nextBoolean();
             System.out.print("Allow hands to rotate when a 0 is played? (true/false) ");
             boolean zeros = scanner.nextBoolean();
             System.out.print("Allow player to switch hands when a 7 is played? (true/false) ");
             boolean sevens = scanner.nextBoolean();
-//            System.out.print("Allow players to jump in when someone plays a card matching one in their hand? (true/false) ");
-//            boolean jumpIn = scanner.nextBoolean();
-            // TODO: uncomment lines above when jump in is implemented.
-            boolean jumpIn = false;
-            specialRules = new SpecialRules(stacking, zeros, sevens, jumpIn);
+            System.out.print("Allow players to jump in when someone plays a card matching one in their hand? (true/false) ");
+            boolean jumpIn = scanner.nextBoolean();
+            System.out.print("Keep drawing until a playable card is drawn? (true/false) ");
+            boolean drawUntilPlayable = scanner.nextBoolean();
+            specialRules = new SpecialRules(stacking, zeros, sevens, jumpIn, drawUntilPlayable);
         } else {
             specialRules = new SpecialRules();
         }
@@ -66,25 +89,63 @@ public class Main {
         }
 
         if (numGames == 1) {
+            List<Player> players = new ArrayList<>();
+            for (int i = 0; i < playerFactories.size(); i++) {
+                players.add(playerFactories.get(i).create(i));
+            }
             Game game = new Game(players, specialRules);
+            if (!hasHuman) {
+                System.out.print("Do you want to watch a summary of the game? (true/false) ");
+                if (scanner.nextBoolean()) {
+                    game.addListener(new ConsoleGameListener(game, new ConsoleRenderer(System.out, 250)));
+                }
+            }
             Player winner = game.play();
             System.out.println("WINNER WINNER CHICKEN DINNER: " + winner.getName());
         } else {
-            Map<Player, Integer> playerToWins = new HashMap<>();
-            for (int i = 0; i < numGames; i++) {
-                Game game = new Game(players, specialRules);
-                Player winner = game.play();
+            // Humans play one game at a time, computers use every core.
+            int threads = hasHuman ? 1 : Runtime.getRuntime().availableProcessors();
+            Tournament tournament = new Tournament(playerFactories, specialRules, threads);
+            tournament.setCollectStats(true);
+            TournamentResult result = tournament.run(numGames);
+            printResult(result);
+        }
 
-                playerToWins.put(winner, playerToWins.getOrDefault(winner, 0) + 1);
-            }
+        System.out.println("Thanks for playing! Exiting game...");
+    }
 
-            for (Player p : playerToWins.keySet()) {
-                System.out.println("PLAYER: " + p.getName() + " PLAYER TYPE: " + p.getPlayerType() + " WINS: "
-                        + playerToWins.get(p));
+    /**
+     * Prints the wins and statistics of a tournament, for each seat and each player type.
+     *
+     * @param result the result of the tournament
+     */
+    private static void printResult(TournamentResult result) {
+        GameStats stats = result.getStats();
+        for (int i = 0; i < result.getNumSeats(); i++) {
+            double[] interval = stats.getWinRateInterval(i);
+            System.out.println("PLAYER: " + result.getName(i) + " PLAYER TYPE: " + result.getPlayerType(i)
+                    + " WINS: " + result.getWins(i)
+                    + String.format(" WIN RATE: %.1f%% (95%% CI %.1f-%.1f%%)",
+                    100 * stats.getWinRate(i), 100 * interval[0], 100 * interval[1]));
+            System.out.println(String.format("    per game: %.2f cards drawn, %.2f turns passed, "
+                            + "%.2f skips, %.2f reverses, %.2f draw twos, %.2f wilds, %.2f wild draw fours",
+                    stats.getCardsDrawnPerGame(i), stats.getTurnsPassedPerGame(i),
+                    stats.getCardsPlayedPerGame(i, CardType.SKIP), stats.getCardsPlayedPerGame(i, CardType.REVERSE),
+                    stats.getCardsPlayedPerGame(i, CardType.DRAW_TWO), stats.getCardsPlayedPerGame(i, CardType.WILD),
+                    stats.getCardsPlayedPerGame(i, CardType.WILD_DRAW_FOUR)));
+            StringBuilder trajectory = new StringBuilder("    average hand size at turns 0/10/25/50:");
+            for (int turn : new int[]{0, 10, 25, 50}) {
+                trajectory.append(String.format(" %.1f", stats.getAverageHandSize(i, turn)));
             }
-
+            System.out.println(trajectory);
         }
 
-        System.out.println("Thanks for playing! Exiting game...");
+        for (String type : result.getPlayerTypes()) {
+            double[] interval = result.getTypeWinRateInterval(type);
+            System.out.println(String.format("PLAYER TYPE: %s WINS: %d OF %d SEAT-GAMES (95%% CI %.1f-%.1f%%)",
+                    type, result.getTypeWins(type), result.getTypeGames(type), 100 * interval[0], 100 * interval[1]));
+        }
+        System.out.println(String.format("GAMES: %d AVERAGE TURNS: %.1f (SD %.1f)",
+                result.getNumGames(), stats.getAverageTurns(), stats.getTurnsStandardDeviation()));
     }
 }
@@ -5,17 +5,24 @@ import utils.Color;
 
 /**
  * The {@code Card} class represents a card in a card game, like Uno. Each card has a color, a type, and a number
- * (if applicable). The class provides methods to get and set the card's attributes, check if it's a
+ * (if applicable). The class provides methods to get the card's attributes, check if it's a
  * valid move based on the current top card on the discard pile, and convert the card to a string representation.
+ * <p>
+ * Cards are immutable, and there is exactly one instance for each top state (see {@link CardCodec}): one for
+ * each colored face, one for each wild face without a color, and one for each wild face with each declared
+ * color. {@link #of(Color, CardType, int)} and {@link CardCodec#decode(int)} hand out these shared instances,
+ * so dealing and playing never allocate cards, and any thread can hold a card. Playing a wild does not change
+ * it: the game puts the instance with the declared color on top instead.
+ * </p>
  *
  * @author Riley Woolf
  * @version 1.0
  */
-public class Card {
+public final class Card {
     /**
-     * The color of the card.
+     * The color of the card, or the declared color of a played wild, or {@code null} for a wild in hand.
      */
-    private Color color;
+    private final Color color;
 
     /**
      * The type of the card (e.g., Number, Wild, Wild Draw Four).
@@ -28,16 +35,39 @@ public class Card {
     private final int number;
 
     /**
-     * Constructs a new Card with the specified color, type, and number.
+     * The compact code of the card's face, see {@link CardCodec}.
+     */
+    private final int code;
+
+    /**
+     * The top state of the card, which includes the declared color of a wild, see {@link CardCodec}.
+     */
+    private final int topState;
+
+    /**
+     * Constructs the shared card for a top state. Only {@link CardCodec} creates cards.
+     *
+     * @param topState the top state of the card
+     */
+    Card(int topState) {
+        this.code = CardCodec.faceOfTopState(topState);
+        this.color = CardCodec.colorOfTopState(topState);
+        this.type = CardCodec.typeOf(code);
+        this.number = CardCodec.numberOf(code);
+        this.topState = topState;
+    }
+
+    /**
+     * Gets the shared card with the specified color, type, and number.
      *
-     * @param color  the color of the card
+     * @param color  the color of the card, or the declared color of a wild, or {@code null} for a wild
+     *               without a declared color
      * @param type   the type of the card (e.g., Number, Wild, Wild Draw Four)
      * @param number the number on the card (applicable only for Number cards)
+     * @return the card
      */
-    public Card(Color color, CardType type, int number) {
-        this.color = color;
-        this.type = type;
-        this.number = number;
+    public static Card of(Color color, CardType type, int number) {
+        return CardCodec.decodeTopState(CardCodec.topState(CardCodec.encode(color, type, number), color));
     }
 
     /**
@@ -49,15 +79,6 @@ public class Card {
         return color;
     }
 
-    /**
-     * Sets the color of the card.
-     *
-     * @param color the new color to set
-     */
-    public void setColor(Color color) {
-        this.color = color;
-    }
-
     /**
      * Gets the type of the card.
      *
@@ -76,6 +97,26 @@ public class Card {
         return number;
     }
 
+    /**
+     * Gets the compact code of the card's face. Wild cards have the same code whatever their color.
+     *
+     * @return the code of the card's face
+     * @see CardCodec
+     */
+    public int getCode() {
+        return code;
+    }
+
+    /**
+     * Gets the top state of the card: its face, with the declared color if it is a played wild.
+     *
+     * @return the top state of the card
+     * @see CardCodec
+     */
+    public int getTopState() {
+        return topState;
+    }
+
     /**
      * Checks if the given card is a valid move based on the current top card on the discard pile.
      *
@@ -83,15 +124,7 @@ public class Card {
      * @return {@code true} if the move is valid, {@code false} otherwise
      */
     public boolean validMove(Card topCard) {
-        if (this.getType() == CardType.WILD || this.getType() == CardType.WILD_DRAW_FOUR) {
-            return true;
-        } else if (this.getColor() == topCard.getColor()) {
-            return true;
-        } else if (this.getType() == CardType.NUMBER) {
-            return this.getNumber() == topCard.getNumber();
-        } else {
-            return this.getType() == topCard.getType();
-        }
+        return LegalMoves.isLegal(code, CardCodec.topState(topCard));
     }
 
     /**
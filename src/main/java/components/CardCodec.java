@@ -0,0 +1,266 @@
+package components;
+
+import utils.CardType;
+import utils.Color;
+
+/**
+ * The {@code CardCodec} class converts between {@link Card} objects and compact integer card codes.
+ * <p>
+ * Every distinct card face gets a code that fits in a byte:
+ * <ul>
+ *     <li>{@code 0-51}: colored cards, coded as {@code color * 13 + rank}, where the rank is the number
+ *         (0-9) or {@link #SKIP_RANK}, {@link #REVERSE_RANK}, or {@link #DRAW_TWO_RANK}.</li>
+ *     <li>{@link #WILD} and {@link #WILD_DRAW_FOUR}: the two wild faces, which have no color.</li>
+ * </ul>
+ * </p>
+ * <p>
+ * The top card of the discard pile also needs to remember the color chosen for a wild, so it is described
+ * by a top state instead. Top states {@code 0-53} are the face codes, and {@link #DECLARED_WILD} onwards
+ * are wilds with a declared color, coded as {@code DECLARED_WILD + (drawFour ? 4 : 0) + color}.
+ * </p>
+ * <p>
+ * Cards are immutable, so decoding returns one shared instance per top state, created when the class is
+ * loaded: a face code gives its card, with no color for a wild, and a top state gives the card with the
+ * declared color.
+ * </p>
+ *
+ * @author Riley Woolf
+ * @version 1.0
+ */
+public final class CardCodec {
+    /**
+     * The number of ranks of each color: the numbers 0-9, Skip, Reverse, and Draw Two.
+     */
+    public static final int RANKS_PER_COLOR = 13;
+
+    /**
+     * The rank of a Skip card.
+     */
+    public static final int SKIP_RANK = 10;
+
+    /**
+     * The rank of a Reverse card.
+     */
+    public static final int REVERSE_RANK = 11;
+
+    /**
+     * The rank of a Draw Two card.
+     */
+    public static final int DRAW_TWO_RANK = 12;
+
+    /**
+     * The code of a Wild card.
+     */
+    public static final int WILD = 52;
+
+    /**
+     * The code of a Wild Draw Four card.
+     */
+    public static final int WILD_DRAW_FOUR = 53;
+
+    /**
+     * The number of distinct card faces.
+     */
+    public static final int FACE_COUNT = 54;
+
+    /**
+     * The first top state of a wild card with a declared color.
+     */
+    public static final int DECLARED_WILD = 54;
+
+    /**
+     * The number of distinct top states.
+     */
+    public static final int TOP_STATE_COUNT = 62;
+
+    /**
+     * The number of cards in a full deck: two of every colored face and four of each wild.
+     */
+    public static final int DECK_SIZE = 112;
+
+    /**
+     * Cached colors, indexed by ordinal.
+     */
+    private static final Color[] COLORS = Color.values();
+
+    /**
+     * The shared card instances, indexed by top state.
+     */
+    private static final Card[] CARDS = new Card[TOP_STATE_COUNT];
+
+    static {
+        for (int topState = 0; topState < TOP_STATE_COUNT; topState++) {
+            CARDS[topState] = new Card(topState);
+        }
+    }
+
+    /**
+     * This class only has static methods.
+     */
+    private CardCodec() {
+    }
+
+    /**
+     * Gets the code of the specified card face. The color of a wild card is ignored.
+     *
+     * @param color  the color of the card
+     * @param type   the type of the card
+     * @param number the number on the card (applicable only for Number cards)
+     * @return the code of the card face
+     */
+    public static int encode(Color color, CardType type, int number) {
+        return switch (type) {
+            case NUMBER -> color.ordinal() * RANKS_PER_COLOR + number;
+            case SKIP -> color.ordinal() * RANKS_PER_COLOR + SKIP_RANK;
+            case REVERSE -> color.ordinal() * RANKS_PER_COLOR + REVERSE_RANK;
+            case DRAW_TWO -> color.ordinal() * RANKS_PER_COLOR + DRAW_TWO_RANK;
+            case WILD -> WILD;
+            case WILD_DRAW_FOUR -> WILD_DRAW_FOUR;
+        };
+    }
+
+    /**
+     * Gets the code of the specified card's face. The color of a wild card is ignored.
+     *
+     * @param card the card to encode
+     * @return the code of the card face
+     */
+    public static int encode(Card card) {
+        return card.getCode();
+    }
+
+    /**
+     * Gets the shared card for the specified code. Wild cards have no color.
+     *
+     * @param code the code of the card face
+     * @return the card with that face
+     */
+    public static Card decode(int code) {
+        return CARDS[code];
+    }
+
+    /**
+     * Gets the shared card for the specified top state, with the declared color if it is a wild.
+     *
+     * @param topState the top state
+     * @return the card with that face and color
+     */
+    public static Card decodeTopState(int topState) {
+        return CARDS[topState];
+    }
+
+    /**
+     * Gets the color of the specified card face.
+     *
+     * @param code the code of the card face
+     * @return the color of the face, or {@code null} for wild faces
+     */
+    public static Color colorOf(int code) {
+        return code < WILD ? COLORS[code / RANKS_PER_COLOR] : null;
+    }
+
+    /**
+     * Gets the type of the specified card face.
+     *
+     * @param code the code of the card face
+     * @return the type of the face
+     */
+    public static CardType typeOf(int code) {
+        if (code == WILD) {
+            return CardType.WILD;
+        } else if (code == WILD_DRAW_FOUR) {
+            return CardType.WILD_DRAW_FOUR;
+        }
+        return switch (code % RANKS_PER_COLOR) {
+            case SKIP_RANK -> CardType.SKIP;
+            case REVERSE_RANK -> CardType.REVERSE;
+            case DRAW_TWO_RANK -> CardType.DRAW_TWO;
+            default -> CardType.NUMBER;
+        };
+    }
+
+    /**
+     * Gets the number on the specified card face.
+     *
+     * @param code the code of the card face
+     * @return the number on the face, or -1 if it is not a Number card
+     */
+    public static int numberOf(int code) {
+        if (code >= WILD) {
+            return -1;
+        }
+        int rank = code % RANKS_PER_COLOR;
+        return rank < SKIP_RANK ? rank : -1;
+    }
+
+    /**
+     * Gets the top state of a face, with the color declared for it if it is a wild.
+     *
+     * @param code  the code of the card face
+     * @param color the declared color, or {@code null} if none has been declared
+     * @return the top state
+     */
+    public static int topState(int code, Color color) {
+        if (code < WILD || color == null) {
+            return code;
+        }
+        return DECLARED_WILD + (code == WILD_DRAW_FOUR ? 4 : 0) + color.ordinal();
+    }
+
+    /**
+     * Gets the top state of the specified top card.
+     *
+     * @param topCard the current top card on the discard pile
+     * @return the top state
+     */
+    public static int topState(Card topCard) {
+        return topCard.getTopState();
+    }
+
+    /**
+     * Gets the face code of the card behind the specified top state.
+     *
+     * @param topState the top state
+     * @return the code of the top card's face
+     */
+    public static int faceOfTopState(int topState) {
+        if (topState < DECLARED_WILD) {
+            return topState;
+        }
+        return topState - DECLARED_WILD < 4 ? WILD : WILD_DRAW_FOUR;
+    }
+
+    /**
+     * Gets the color that must be matched for the specified top state.
+     *
+     * @param topState the top state
+     * @return the color to match, or {@code null} for a wild with no declared color
+     */
+    public static Color colorOfTopState(int topState) {
+        if (topState >= DECLARED_WILD) {
+            return COLORS[(topState - DECLARED_WILD) & 3];
+        }
+        return colorOf(topState);
+    }
+
+    /**
+     * Checks if the specified face can be played on the specified top state.
+     *
+     * @param code     the code of the card face to play
+     * @param topState the top state of the discard pile
+     * @return {@code true} if the move is valid, {@code false} otherwise
+     */
+    public static boolean validMove(int code, int topState) {
+        if (code >= WILD) {
+            return true;
+        } else if (topState < WILD) {
+            // Same color or same rank (number, Skip, Reverse, or Draw Two).
+            return code / RANKS_PER_COLOR == topState / RANKS_PER_COLOR
+                    || code % RANKS_PER_COLOR == topState % RANKS_PER_COLOR;
+        } else if (topState >= DECLARED_WILD) {
+            return code / RANKS_PER_COLOR == ((topState - DECLARED_WILD) & 3);
+        }
+        // Only wilds can be played on a wild without a declared color.
+        return false;
+    }
+}
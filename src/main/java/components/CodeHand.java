@@ -0,0 +1,297 @@
+package components;
+
+import utils.CardType;
+import utils.Color;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.RandomAccess;
+
+/**
+ * The {@code CodeHand} class is a {@link Hand} that keeps the codes of its cards in a byte array,
+ * in the order the cards were added.
+ * <p>
+ * The hand never holds {@link Card} objects; {@link #get(int)} decodes the card on demand with {@link CardCodec}.
+ * Alongside the array it keeps a count of each face, so {@link #faceMask()} and {@link #countOf(int)} take
+ * constant time however big the hand grows, as it can under the draw-until-playable rule. Color and type
+ * counts scan the array, so this hand suits players that care about the order of their cards, such as humans.
+ * See {@link CountingHand} for a hand with constant-time counts of every kind.
+ * </p>
+ *
+ * @author Riley Woolf
+ * @version 1.0
+ */
+public class CodeHand extends AbstractList<Card> implements Hand, RandomAccess {
+    /**
+     * The initial capacity of the hand, enough for a dealt hand plus a few draws.
+     */
+    private static final int INITIAL_CAPACITY = 16;
+
+    /**
+     * The codes of the cards in the hand.
+     */
+    private byte[] codes;
+
+    /**
+     * The number of cards in the hand.
+     */
+    private int size;
+
+    /**
+     * The number of cards of each face in the hand, indexed by code.
+     */
+    private final int[] faceCounts = new int[CardCodec.FACE_COUNT];
+
+    /**
+     * The faces held at least once, kept in step with {@link #faceCounts}.
+     */
+    private long faceMask;
+
+    /**
+     * Constructs a new, empty hand.
+     */
+    public CodeHand() {
+        codes = new byte[INITIAL_CAPACITY];
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int size() {
+        return size;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Card get(int index) {
+        return CardCodec.decode(codeAt(index));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int codeAt(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+        return codes[index];
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public long faceMask() {
+        return faceMask;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int countOf(int code) {
+        return faceCounts[code];
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int colorCount(Color color) {
+        int count = 0;
+        for (int i = 0; i < size; i++) {
+            if (CardCodec.colorOf(codes[i]) == color) count++;
+        }
+        return count;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int typeCount(CardType type) {
+        int count = 0;
+        for (int i = 0; i < size; i++) {
+            if (CardCodec.typeOf(codes[i]) == type) count++;
+        }
+        return count;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Color mostCommonColor() {
+        int[] colorCounts = new int[Color.values().length];
+        for (int i = 0; i < size; i++) {
+            if (codes[i] < CardCodec.WILD) colorCounts[codes[i] / CardCodec.RANKS_PER_COLOR]++;
+        }
+
+        int best = 0;
+        for (int i = 1; i < colorCounts.length; i++) {
+            if (colorCounts[i] > colorCounts[best]) best = i;
+        }
+        return Color.values()[best];
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Card set(int index, Card card) {
+        Card old = get(index);
+        uncount(codes[index]);
+        codes[index] = (byte) card.getCode();
+        count(card.getCode());
+        return old;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void add(int index, Card card) {
+        if (index < 0 || index > size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+        ensureCapacity();
+        System.arraycopy(codes, index, codes, index + 1, size - index);
+        codes[index] = (byte) card.getCode();
+        count(card.getCode());
+        size++;
+        modCount++;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void addCode(int code) {
+        ensureCapacity();
+        codes[size++] = (byte) code;
+        count(code);
+        modCount++;
+    }
+
+    /**
+     * {@inheritDoc}
+     * Copies the codes in with a single array copy.
+     */
+    @Override
+    public void addCodes(byte[] codes, int offset, int length) {
+        if (size + length > this.codes.length) {
+            this.codes = Arrays.copyOf(this.codes, Math.max(this.codes.length * 2, size + length));
+        }
+        System.arraycopy(codes, offset, this.codes, size, length);
+        for (int i = offset; i < offset + length; i++) {
+            count(codes[i]);
+        }
+        size += length;
+        modCount++;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Card remove(int index) {
+        Card card = get(index);
+        uncount(codes[index]);
+        System.arraycopy(codes, index + 1, codes, index, size - index - 1);
+        size--;
+        modCount++;
+        return card;
+    }
+
+    /**
+     * Removes one card with the same face as the specified card.
+     *
+     * @param o the card to remove
+     * @return {@code true} if a card was removed, {@code false} otherwise
+     */
+    @Override
+    public boolean remove(Object o) {
+        return o instanceof Card card && removeCode(card.getCode());
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean removeCode(int code) {
+        if (faceCounts[code] == 0) {
+            return false;
+        }
+        for (int i = 0; i < size; i++) {
+            if (codes[i] == code) {
+                uncount(code);
+                System.arraycopy(codes, i + 1, codes, i, size - i - 1);
+                size--;
+                modCount++;
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Finds the first card with the same face as the specified card.
+     *
+     * @param o the card to look for
+     * @return the position of the card, or -1 if the hand has no such card
+     */
+    @Override
+    public int indexOf(Object o) {
+        if (o instanceof Card card) {
+            for (int i = 0; i < size; i++) {
+                if (codes[i] == card.getCode()) return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void clear() {
+        size = 0;
+        Arrays.fill(faceCounts, 0);
+        faceMask = 0L;
+        modCount++;
+    }
+
+    /**
+     * Counts a card added to the hand.
+     *
+     * @param code the code of the card
+     */
+    private void count(int code) {
+        faceCounts[code]++;
+        faceMask |= 1L << code;
+    }
+
+    /**
+     * Uncounts a card removed from the hand.
+     *
+     * @param code the code of the card
+     */
+    private void uncount(int code) {
+        if (--faceCounts[code] == 0) {
+            faceMask &= ~(1L << code);
+        }
+    }
+
+    /**
+     * Grows the code array if it is full.
+     */
+    private void ensureCapacity() {
+        if (size == codes.length) {
+            codes = Arrays.copyOf(codes, codes.length * 2);
+        }
+    }
+}
@@ -0,0 +1,317 @@
+package components;
+
+import utils.CardType;
+import utils.Color;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * The {@code CountingHand} class is a {@link Hand} that stores how many cards of each face it holds,
+ * along with running totals per color and per type.
+ * <p>
+ * Adding and removing a card, counting colors and types, finding the most common color, and checking the
+ * size of the hand are all constant time, however big the hand gets. The cards are kept in face code order
+ * (see {@link CardCodec}) rather than the order they were added in, so {@link #add(int, Card)} ignores
+ * the index and the position of a card can change as other cards come and go.
+ * </p>
+ *
+ * @author Riley Woolf
+ * @version 1.0
+ */
+public class CountingHand extends AbstractList<Card> implements Hand {
+    /**
+     * Cached colors, indexed by ordinal.
+     */
+    private static final Color[] COLORS = Color.values();
+
+    /**
+     * The number of cards of each face, indexed by code.
+     */
+    private final int[] faceCounts = new int[CardCodec.FACE_COUNT];
+
+    /**
+     * The number of cards of each color, indexed by ordinal.
+     */
+    private final int[] colorCounts = new int[COLORS.length];
+
+    /**
+     * The number of cards of each type, indexed by ordinal.
+     */
+    private final int[] typeCounts = new int[CardType.values().length];
+
+    /**
+     * The faces held at least once, with bit {@code code} set for each.
+     */
+    private long faceMask;
+
+    /**
+     * The number of cards in the hand.
+     */
+    private int size;
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int size() {
+        return size;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Card get(int index) {
+        return CardCodec.decode(codeAt(index));
+    }
+
+    /**
+     * {@inheritDoc}
+     * Walks the faces held in the hand, so it takes at most one step per distinct face.
+     */
+    @Override
+    public int codeAt(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+        long remaining = faceMask;
+        while (true) {
+            int code = Long.numberOfTrailingZeros(remaining);
+            if (index < faceCounts[code]) {
+                return code;
+            }
+            index -= faceCounts[code];
+            remaining &= remaining - 1;
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public long faceMask() {
+        return faceMask;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int countOf(int code) {
+        return faceCounts[code];
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int colorCount(Color color) {
+        return colorCounts[color.ordinal()];
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int typeCount(CardType type) {
+        return typeCounts[type.ordinal()];
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Color mostCommonColor() {
+        int best = 0;
+        for (int i = 1; i < colorCounts.length; i++) {
+            if (colorCounts[i] > colorCounts[best]) best = i;
+        }
+        return COLORS[best];
+    }
+
+    /**
+     * Adds a card to the hand. The cards are kept in face order, so the index is ignored.
+     *
+     * @param index ignored
+     * @param card  the card to add
+     */
+    @Override
+    public void add(int index, Card card) {
+        addCode(card.getCode());
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void addCode(int code) {
+        faceCounts[code]++;
+        faceMask |= 1L << code;
+        if (code < CardCodec.WILD) {
+            colorCounts[code / CardCodec.RANKS_PER_COLOR]++;
+        }
+        typeCounts[CardCodec.typeOf(code).ordinal()]++;
+        size++;
+        modCount++;
+    }
+
+    /**
+     * {@inheritDoc}
+     * Updates the counts card by card, and the size once.
+     */
+    @Override
+    public void addCodes(byte[] codes, int offset, int length) {
+        for (int i = offset; i < offset + length; i++) {
+            int code = codes[i];
+            faceCounts[code]++;
+            faceMask |= 1L << code;
+            if (code < CardCodec.WILD) {
+                colorCounts[code / CardCodec.RANKS_PER_COLOR]++;
+            }
+            typeCounts[CardCodec.typeOf(code).ordinal()]++;
+        }
+        size += length;
+        modCount++;
+    }
+
+    /**
+     * Replaces the card at the specified position. The new card takes its place in face order.
+     *
+     * @param index the position of the card to replace
+     * @param card  the new card
+     * @return the card that was replaced
+     */
+    @Override
+    public Card set(int index, Card card) {
+        int old = codeAt(index);
+        removeCode(old);
+        addCode(card.getCode());
+        return CardCodec.decode(old);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Card remove(int index) {
+        int code = codeAt(index);
+        removeCode(code);
+        return CardCodec.decode(code);
+    }
+
+    /**
+     * Removes one card with the same face as the specified card.
+     *
+     * @param o the card to remove
+     * @return {@code true} if a card was removed, {@code false} otherwise
+     */
+    @Override
+    public boolean remove(Object o) {
+        return o instanceof Card card && removeCode(card.getCode());
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean removeCode(int code) {
+        if (faceCounts[code] == 0) {
+            return false;
+        }
+        if (--faceCounts[code] == 0) {
+            faceMask &= ~(1L << code);
+        }
+        if (code < CardCodec.WILD) {
+            colorCounts[code / CardCodec.RANKS_PER_COLOR]--;
+        }
+        typeCounts[CardCodec.typeOf(code).ordinal()]--;
+        size--;
+        modCount++;
+        return true;
+    }
+
+    /**
+     * Finds the first card with the same face as the specified card.
+     *
+     * @param o the card to look for
+     * @return the position of the card, or -1 if the hand has no such card
+     */
+    @Override
+    public int indexOf(Object o) {
+        if (!(o instanceof Card card) || faceCounts[card.getCode()] == 0) {
+            return -1;
+        }
+        int index = 0;
+        long below = faceMask & ((1L << card.getCode()) - 1);
+        while (below != 0) {
+            index += faceCounts[Long.numberOfTrailingZeros(below)];
+            below &= below - 1;
+        }
+        return index;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean contains(Object o) {
+        return o instanceof Card card && faceCounts[card.getCode()] > 0;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void clear() {
+        while (faceMask != 0) {
+            faceCounts[Long.numberOfTrailingZeros(faceMask)] = 0;
+            faceMask &= faceMask - 1;
+        }
+        Arrays.fill(colorCounts, 0);
+        Arrays.fill(typeCounts, 0);
+        size = 0;
+        modCount++;
+    }
+
+    /**
+     * Returns an iterator over the cards in face order. The iterator does not support removal.
+     *
+     * @return an iterator over the cards in the hand
+     */
+    @Override
+    public Iterator<Card> iterator() {
+        return new Iterator<>() {
+            private long remaining = faceMask;
+            private int code = -1;
+            private int left = 0;
+
+            @Override
+            public boolean hasNext() {
+                return left > 0 || remaining != 0;
+            }
+
+            @Override
+            public Card next() {
+                if (left == 0) {
+                    if (remaining == 0) throw new NoSuchElementException();
+                    code = Long.numberOfTrailingZeros(remaining);
+                    remaining &= remaining - 1;
+                    left = faceCounts[code];
+                }
+                left--;
+                return CardCodec.decode(code);
+            }
+        };
+    }
+}
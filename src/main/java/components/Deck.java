@@ -1,21 +1,25 @@
 package components;
 
+import components.metrics.GameMetrics;
 import utils.CardType;
 import utils.Color;
 
 import java.util.ArrayList;
-import java.util.Collections;
+import java.util.Arrays;
 import java.util.List;
+import java.util.SplittableRandom;
 
 /**
  * The {@code Deck} class represents a deck of cards used in a card game.
- * It contains methods to initialize, shuffle, draw, and return cards to the deck.
+ * It contains methods to initialize, shuffle, draw, and return cards to the deck, and to refill it from
+ * a {@link DiscardPile}.
  * <p>
  * The deck is initially created with standard cards, including number cards, special cards
  * (e.g., Skip, Reverse, Draw Two), and wild cards (Wild and Wild Draw Four).
  * </p>
  * <p>
- * The class uses the {@link Card} class to represent individual cards.
+ * The cards are stored as compact codes (see {@link CardCodec}) in an array, with the top of the deck
+ * at the end, so drawing a card never shifts the rest of the deck.
  * </p>
  *
  * @author Riley Woolf
@@ -23,28 +27,96 @@ import java.util.List;
  */
 public class Deck {
     /**
-     * The list of cards in the deck.
+     * The codes of the cards in the deck, see {@link CardCodec}. The top of the deck is the last card.
      */
-    private final List<Card> cards;
+    private byte[] codes;
 
     /**
-     * Constructs a new Deck and initializes it by creating and shuffling the cards.
+     * The number of cards left in the deck.
+     */
+    private int size;
+
+    /**
+     * The random source used to shuffle the deck.
+     */
+    private SplittableRandom random;
+
+    /**
+     * Constructs a new Deck with an unseeded random source and initializes it by creating and shuffling the cards.
      */
     public Deck() {
-        cards = new ArrayList<>();
+        this(new SplittableRandom());
+    }
+
+    /**
+     * Constructs a new Deck that shuffles with the specified random source, and initializes it by creating
+     * and shuffling the cards. Two decks given random sources with the same seed deal the same cards.
+     *
+     * @param random the random source used to shuffle the deck
+     */
+    public Deck(SplittableRandom random) {
+        this.codes = new byte[CardCodec.DECK_SIZE];
+        this.random = random;
         initialize();
         shuffle();
     }
 
     /**
-     * Gets the list of cards in the deck.
+     * Puts every card back in the deck and shuffles it with a new seed, reusing the deck's array, so a deck
+     * can serve game after game without allocating. The deck then deals the same cards as a new deck
+     * constructed with the same seed.
+     *
+     * @param seed the seed of the new random source
+     */
+    public void reset(long seed) {
+        reset(new SplittableRandom(seed));
+    }
+
+    /**
+     * Puts every card back in the deck and shuffles it with the specified random source, reusing the deck's
+     * array. The deck then deals the same cards as a new deck constructed with the same random source.
+     *
+     * @param random the random source used to shuffle the deck from now on
+     */
+    public void reset(SplittableRandom random) {
+        this.random = random;
+        size = 0;
+        initialize();
+        shuffle();
+    }
+
+    /**
+     * Gets the list of cards in the deck, from the top of the deck down.
+     * The list is a copy, so changing it does not change the deck.
      *
      * @return the list of cards in the deck
      */
     public List<Card> getCards() {
+        List<Card> cards = new ArrayList<>(size);
+        for (int i = size - 1; i >= 0; i--) {
+            cards.add(CardCodec.decode(codes[i]));
+        }
         return cards;
     }
 
+    /**
+     * Gets the number of cards left in the deck.
+     *
+     * @return the number of cards in the deck
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Gets the code of the card at the specified position, counting from the bottom of the deck.
+     *
+     * @param index the position of the card
+     * @return the code of the card
+     */
+    int codeAt(int index) {
+        return codes[index];
+    }
 
     /**
      * Initializes the deck by adding standard cards, including number cards,
@@ -55,23 +127,52 @@ public class Deck {
         for (Color color : Color.values()) {
             // Add all the number cards.
             for (int i = 0; i < 10; i++) {
-                cards.add(new Card(color, CardType.NUMBER, i));
-                cards.add(new Card(color, CardType.NUMBER, i));
+                push(CardCodec.encode(color, CardType.NUMBER, i));
+                push(CardCodec.encode(color, CardType.NUMBER, i));
             }
 
             // Add the special cards that have colors.
-            cards.add(new Card(color, CardType.SKIP, -1));
-            cards.add(new Card(color, CardType.SKIP, -1));
-            cards.add(new Card(color, CardType.REVERSE, -1));
-            cards.add(new Card(color, CardType.REVERSE, -1));
-            cards.add(new Card(color, CardType.DRAW_TWO, -1));
-            cards.add(new Card(color, CardType.DRAW_TWO, -1));
+            push(CardCodec.encode(color, CardType.SKIP, -1));
+            push(CardCodec.encode(color, CardType.SKIP, -1));
+            push(CardCodec.encode(color, CardType.REVERSE, -1));
+            push(CardCodec.encode(color, CardType.REVERSE, -1));
+            push(CardCodec.encode(color, CardType.DRAW_TWO, -1));
+            push(CardCodec.encode(color, CardType.DRAW_TWO, -1));
         }
 
         // Add the wild cards, four of each.
         for (int i = 0; i < 4; i++) {
-            cards.add(new Card(null, CardType.WILD, -1));
-            cards.add(new Card(null, CardType.WILD_DRAW_FOUR, -1));
+            push(CardCodec.WILD);
+            push(CardCodec.WILD_DRAW_FOUR);
+        }
+    }
+
+    /**
+     * Puts a card code on top of the deck, growing the array if needed.
+     *
+     * @param code the code of the card
+     */
+    private void push(int code) {
+        if (size == codes.length) {
+            codes = Arrays.copyOf(codes, codes.length * 2);
+        }
+        codes[size++] = (byte) code;
+    }
+
+    /**
+     * Moves every card of the discard pile into the deck and shuffles it. The game calls this when the
+     * deck runs out, so played cards are drawn again instead of new ones being created.
+     *
+     * @param discardPile the discard pile to recycle
+     */
+    public void refill(DiscardPile discardPile) {
+        if (size + discardPile.size() > codes.length) {
+            codes = Arrays.copyOf(codes, size + discardPile.size());
+        }
+        size += discardPile.drainTo(codes, size);
+        shuffle();
+        if (GameMetrics.ENABLED) {
+            GameMetrics.get().countReshuffle();
         }
     }
 
@@ -79,7 +180,69 @@ public class Deck {
      * Shuffles the cards in the deck.
      */
     public void shuffle() {
-        Collections.shuffle(cards);
+        for (int i = size - 1; i > 0; i--) {
+            int j = random.nextInt(i + 1);
+            byte temp = codes[i];
+            codes[i] = codes[j];
+            codes[j] = temp;
+        }
+    }
+
+    /**
+     * Draws the code of the top card from the deck. If the deck is empty, it initializes the deck again
+     * before drawing a card. A game refills the deck from its discard pile first, so this only happens when
+     * every card is in someone's hand.
+     *
+     * @return the code of the card drawn from the deck
+     */
+    public int drawCode() {
+        if (size == 0) {
+            // Initialize the deck again.
+            initialize();
+            shuffle();
+            if (GameMetrics.ENABLED) {
+                GameMetrics.get().countReshuffle();
+            }
+        }
+        if (GameMetrics.ENABLED) {
+            GameMetrics.get().countDeckDraw();
+        }
+        return codes[--size];
+    }
+
+    /**
+     * Moves cards from the top of the deck straight into a hand, as many as asked for or as the deck holds,
+     * whichever is fewer. Unlike {@link #drawCode()}, this never creates new cards.
+     *
+     * @param hand     the hand to deal to
+     * @param numCards the number of cards wanted
+     * @return the number of cards dealt
+     */
+    public int dealTo(Hand hand, int numCards) {
+        int dealt = Math.min(numCards, size);
+        size -= dealt;
+        hand.addCodes(codes, size, dealt);
+        if (GameMetrics.ENABLED) {
+            GameMetrics.get().countDeckDraws(dealt);
+        }
+        return dealt;
+    }
+
+    /**
+     * Finds how deep the first card with one of the specified faces lies in the deck, in a single scan down
+     * from the top. Dealing that many cards with {@link #dealTo(Hand, int)} deals the run of cards down to
+     * and including it.
+     *
+     * @param faceMask the mask of the faces to look for (see {@link CardCodec})
+     * @return the number of cards down to and including the first match, or 0 if no card in the deck matches
+     */
+    public int depthOf(long faceMask) {
+        for (int i = size - 1; i >= 0; i--) {
+            if ((faceMask & (1L << codes[i])) != 0) {
+                return size - i;
+            }
+        }
+        return 0;
     }
 
     /**
@@ -89,11 +252,7 @@ public class Deck {
      * @return the card drawn from the deck
      */
     public Card draw() {
-        if (cards.isEmpty()) {
-            // Initialize the deck again.
-            initialize();
-        }
-        return cards.remove(0);
+        return CardCodec.decode(drawCode());
     }
 
     /**
@@ -102,7 +261,7 @@ public class Deck {
      * @param card the card to be returned to the deck
      */
     public void returnCard(Card card) {
-        cards.add(card);
+        push(card.getCode());
         shuffle();
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,102 @@
+package components;
+
+import java.util.Arrays;
+
+/**
+ * The {@code DiscardPile} class holds the cards that have been played and covered by a newer top card.
+ * <p>
+ * The top card itself is kept by the {@link Game}; once another card is played on it, it moves here.
+ * When the {@link Deck} runs out, the game shuffles the discard pile back into it, so the same cards
+ * keep circulating however long the game runs. Cards are stored as codes, see {@link CardCodec}.
+ * </p>
+ *
+ * @author Riley Woolf
+ * @version 1.0
+ */
+public class DiscardPile {
+    /**
+     * The codes of the cards in the pile, oldest first.
+     */
+    private byte[] codes;
+
+    /**
+     * The number of cards in the pile.
+     */
+    private int size;
+
+    /**
+     * The number of copies of each face in the pile.
+     */
+    private final int[] counts = new int[CardCodec.FACE_COUNT];
+
+    /**
+     * Constructs a new, empty discard pile with room for a full deck.
+     */
+    public DiscardPile() {
+        codes = new byte[CardCodec.DECK_SIZE];
+    }
+
+    /**
+     * Gets the number of cards in the pile.
+     *
+     * @return the number of cards in the pile
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Gets the code of the card at the specified position, counting from the oldest card.
+     *
+     * @param index the position of the card
+     * @return the code of the card
+     */
+    int codeAt(int index) {
+        return codes[index];
+    }
+
+    /**
+     * Puts a card on the pile.
+     *
+     * @param code the code of the card
+     */
+    public void add(int code) {
+        if (size == codes.length) {
+            codes = Arrays.copyOf(codes, codes.length * 2);
+        }
+        codes[size++] = (byte) code;
+        counts[code]++;
+    }
+
+    /**
+     * Gets the number of copies of a face in the pile.
+     *
+     * @param code the code of the face
+     * @return the number of copies
+     */
+    public int countOf(int code) {
+        return counts[code];
+    }
+
+    /**
+     * Moves every card of the pile into the specified array, leaving the pile empty.
+     *
+     * @param target the array to copy the codes into, which must have room for {@link #size()} codes
+     * @param offset the position in the array of the first code
+     * @return the number of codes moved
+     */
+    public int drainTo(byte[] target, int offset) {
+        int moved = size;
+        System.arraycopy(codes, 0, target, offset, moved);
+        clear();
+        return moved;
+    }
+
+    /**
+     * Removes every card from the pile.
+     */
+    public void clear() {
+        size = 0;
+        Arrays.fill(counts, 0);
+    }
+}
@@ -0,0 +1,587 @@
+package components;
+
+import java.util.SplittableRandom;
+
+/**
+ * The {@code EndgameSolver} class plays out two-player endgames exactly, with an alpha-beta search over
+ * {@link GameState}s and a transposition table keyed by Zobrist hashes.
+ * <p>
+ * The solver sees the whole state it is given, including the other hand and the order of the deck, so it
+ * solves a single determinization of the game (see {@link GameState#determinize}); a player who cannot see
+ * the other hand solves several guesses and goes with the move that wins the most of them. With everything
+ * fixed, drawing a card is just another move, and the game is a two-player, zero-sum game that negamax
+ * search with alpha-beta pruning can play perfectly. Once the hands are small (see {@link #applies}), it
+ * usually reaches a proven win or loss within a few thousand nodes.
+ * </p>
+ * <p>
+ * The search deepens one ply at a time until it proves the result or runs out of budget, and stops within a
+ * few microseconds of its deadline or node limit, returning the best move of the deepest search it
+ * finished. Positions are hashed from the faces in each hand, the top card, the direction of play, the seat
+ * to move, the pending penalty, and the sizes of the deck and discard pile, and every result is stored in
+ * the table, so transpositions, which are common when the same cards are played in a different order, are
+ * only searched once. Each call to {@link #solve} salts the hashes afresh, so a table can be reused across
+ * determinizations without clearing it.
+ * </p>
+ *
+ * @author Riley Woolf
+ * @version 1.0
+ */
+public class EndgameSolver {
+    /**
+     * The default largest number of cards in both hands together for the solver to take over.
+     */
+    public static final int DEFAULT_MAX_CARDS = 8;
+
+    /**
+     * The score of a win for the seat to move, less the plies it takes.
+     */
+    public static final int WIN = 1_000_000;
+
+    /**
+     * The default number of bits of the transposition table's index.
+     */
+    public static final int DEFAULT_TABLE_BITS = 16;
+
+    /**
+     * The deepest the search goes.
+     */
+    private static final int MAX_PLY = 128;
+
+    /**
+     * The smallest score that is a proven win.
+     */
+    private static final int PROVEN = WIN - MAX_PLY;
+
+    /**
+     * The number of nodes searched between checks of the clock.
+     */
+    private static final int CHECK_INTERVAL = 256;
+
+    /**
+     * The score of a hand size difference of one card, for positions the search does not see the end of.
+     */
+    private static final int CARD_SCORE = 100;
+
+    /**
+     * The number of copies of one face in a hand that get their own hash keys.
+     */
+    private static final int MAX_COPIES = 8;
+
+    /**
+     * The largest pending penalty, deck size, or discard pile size that gets its own hash key.
+     */
+    private static final int MAX_COUNT = 255;
+
+    /**
+     * The bound of a table entry whose score is exact.
+     */
+    private static final byte EXACT = 0;
+
+    /**
+     * The bound of a table entry whose score is at least the true score's lower bound.
+     */
+    private static final byte LOWER = 1;
+
+    /**
+     * The bound of a table entry whose score is at most the true score's upper bound.
+     */
+    private static final byte UPPER = 2;
+
+    /**
+     * The hash key of each number of copies of each face in each seat's hand.
+     */
+    private static final long[] HAND_KEYS = new long[2 * CardCodec.FACE_COUNT * MAX_COPIES];
+
+    /**
+     * The hash key of each top state.
+     */
+    private static final long[] TOP_KEYS = new long[CardCodec.TOP_STATE_COUNT];
+
+    /**
+     * The hash key of each seat to move.
+     */
+    private static final long[] SEAT_KEYS = new long[2];
+
+    /**
+     * The hash key of backward play.
+     */
+    private static final long BACKWARD_KEY;
+
+    /**
+     * The hash key of each pending penalty.
+     */
+    private static final long[] PENALTY_KEYS = new long[MAX_COUNT + 1];
+
+    /**
+     * The hash key of each deck size.
+     */
+    private static final long[] DECK_KEYS = new long[MAX_COUNT + 1];
+
+    /**
+     * The hash key of each discard pile size.
+     */
+    private static final long[] DISCARD_KEYS = new long[MAX_COUNT + 1];
+
+    static {
+        SplittableRandom random = new SplittableRandom(0x5EED_E4D6_A3E5L);
+        fill(HAND_KEYS, random);
+        fill(TOP_KEYS, random);
+        fill(SEAT_KEYS, random);
+        BACKWARD_KEY = random.nextLong();
+        fill(PENALTY_KEYS, random);
+        fill(DECK_KEYS, random);
+        fill(DISCARD_KEYS, random);
+    }
+
+    /**
+     * The hash of each position stored in the table, or 0 for an empty slot.
+     */
+    private final long[] keys;
+
+    /**
+     * The score of each stored position, from the point of view of the seat to move.
+     */
+    private final int[] scores;
+
+    /**
+     * The best move found in each stored position.
+     */
+    private final int[] bestMoves;
+
+    /**
+     * The depth each stored position was searched to.
+     */
+    private final byte[] depths;
+
+    /**
+     * The bound of each stored score.
+     */
+    private final byte[] bounds;
+
+    /**
+     * The mask of a hash's table index.
+     */
+    private final int indexMask;
+
+    /**
+     * The state of each ply of the search, reused between nodes.
+     */
+    private final GameState[] stack = new GameState[MAX_PLY + 1];
+
+    /**
+     * The buffer for the legal moves of each ply.
+     */
+    private int[][] moves;
+
+    /**
+     * The salt mixed into every hash of the current solve.
+     */
+    private long salt;
+
+    /**
+     * The number of solves so far, used to pick each solve's salt.
+     */
+    private long generation;
+
+    /**
+     * The number of nodes searched in the current solve.
+     */
+    private long nodes;
+
+    /**
+     * The {@link System#nanoTime()} after which the current solve stops.
+     */
+    private long deadline;
+
+    /**
+     * The number of nodes after which the current solve stops.
+     */
+    private long maxNodes;
+
+    /**
+     * Whether the current solve ran out of budget.
+     */
+    private boolean aborted;
+
+    /**
+     * The best move at the root of the last finished iteration.
+     */
+    private int rootMove;
+
+    /**
+     * Constructs a new solver with a transposition table of {@code 2^}{@value #DEFAULT_TABLE_BITS} entries.
+     */
+    public EndgameSolver() {
+        this(DEFAULT_TABLE_BITS);
+    }
+
+    /**
+     * Constructs a new solver with a transposition table of {@code 2^tableBits} entries.
+     *
+     * @param tableBits the number of bits of the table's index
+     * @throws IllegalArgumentException if the table would be empty or too big
+     */
+    public EndgameSolver(int tableBits) {
+        if (tableBits < 1 || tableBits > 26) {
+            throw new IllegalArgumentException("The table needs between 1 and 26 index bits.");
+        }
+        int size = 1 << tableBits;
+        this.keys = new long[size];
+        this.scores = new int[size];
+        this.bestMoves = new int[size];
+        this.depths = new byte[size];
+        this.bounds = new byte[size];
+        this.indexMask = size - 1;
+    }
+
+    /**
+     * Fills an array with random hash keys.
+     *
+     * @param keys   the array to fill
+     * @param random the random source
+     */
+    private static void fill(long[] keys, SplittableRandom random) {
+        for (int i = 0; i < keys.length; i++) {
+            keys[i] = random.nextLong();
+        }
+    }
+
+    /**
+     * Checks if the solver can take over a state: the game is still going, it has two players, and their
+     * hands hold no more than the specified number of cards together.
+     *
+     * @param state    the state
+     * @param maxCards the largest number of cards in both hands together
+     * @return {@code true} if the state is a two-player endgame, {@code false} otherwise
+     */
+    public static boolean applies(GameState state, int maxCards) {
+        return !state.isOver() && state.getNumPlayers() == 2 && state.handSize(0) + state.handSize(1) <= maxCards;
+    }
+
+    /**
+     * Searches for the best move of the seat to move, deepening until the result is proven or the budget
+     * runs out. The state is not changed.
+     *
+     * @param root     the state to search, a two-player game that is still going
+     * @param deadline the {@link System#nanoTime()} after which the search stops, or {@link Long#MAX_VALUE}
+     * @param maxNodes the number of nodes after which the search stops, or {@link Long#MAX_VALUE}
+     * @return the best move found, with its score and whether it is proven
+     * @throws IllegalArgumentException if the state does not have two players or is already over
+     */
+    public Solution solve(GameState root, long deadline, long maxNodes) {
+        if (root.getNumPlayers() != 2 || root.isOver()) {
+            throw new IllegalArgumentException("Only two-player games that are still going can be solved.");
+        }
+        if (moves == null || moves[0].length < root.maxMoves()) {
+            moves = new int[MAX_PLY + 1][root.maxMoves()];
+        }
+        for (int ply = 0; ply <= MAX_PLY; ply++) {
+            if (stack[ply] == null || !stack[ply].sameShape(root)) {
+                stack[ply] = root.copy();
+            }
+        }
+        stack[0].copyFrom(root);
+
+        salt = mix(++generation);
+        nodes = 0;
+        this.deadline = deadline;
+        this.maxNodes = maxNodes;
+
+        root.legalMoves(moves[0]);
+        int bestMove = moves[0][0];
+        int bestScore = evaluate(root);
+        int depth = 0;
+        aborted = false;
+        for (int next = 1; next < MAX_PLY && Math.abs(bestScore) < PROVEN; next++) {
+            int score = search(0, next, -WIN - 1, WIN + 1);
+            if (aborted) break;
+
+            bestScore = score;
+            bestMove = rootMove;
+            depth = next;
+        }
+        return new Solution(bestMove, bestScore, depth, Math.abs(bestScore) >= PROVEN, nodes);
+    }
+
+    /**
+     * Searches a position with negamax and alpha-beta pruning.
+     *
+     * @param ply   the distance from the root
+     * @param depth the number of plies left to search
+     * @param alpha the score the seat to move is already sure of
+     * @param beta  the score the other seat is already sure of
+     * @return the score of the position for the seat to move, or 0 if the search ran out of budget
+     */
+    private int search(int ply, int depth, int alpha, int beta) {
+        if (++nodes % CHECK_INTERVAL == 0 && (nodes >= maxNodes || System.nanoTime() > deadline)) {
+            aborted = true;
+        }
+        if (aborted) {
+            return 0;
+        }
+
+        GameState state = stack[ply];
+        if (depth == 0 || ply == MAX_PLY) {
+            return evaluate(state);
+        }
+
+        long key = hash(state);
+        int slot = index(key);
+        int tableMove = GameState.DRAW;
+        boolean hit = keys[slot] == key;
+        if (hit) {
+            tableMove = bestMoves[slot];
+            if (depths[slot] >= depth) {
+                int score = fromTable(scores[slot], ply);
+                byte bound = bounds[slot];
+                if (bound == EXACT || (bound == LOWER && score >= beta) || (bound == UPPER && score <= alpha)) {
+                    return score;
+                }
+            }
+        }
+
+        int[] plyMoves = moves[ply];
+        int count = state.legalMoves(plyMoves);
+        if (hit) {
+            // Try the best move of the last search of this position first.
+            for (int i = 1; i < count; i++) {
+                if (plyMoves[i] == tableMove) {
+                    plyMoves[i] = plyMoves[0];
+                    plyMoves[0] = tableMove;
+                    break;
+                }
+            }
+        }
+
+        int originalAlpha = alpha;
+        int bestScore = -WIN - 1;
+        int bestMove = plyMoves[0];
+        int seat = state.getCurrent();
+        GameState child = stack[ply + 1];
+        for (int i = 0; i < count; i++) {
+            child.copyFrom(state);
+            child.applyInPlace(plyMoves[i]);
+
+            int score;
+            if (child.isOver()) {
+                score = WIN - ply - 1;
+            } else if (child.getCurrent() == seat) {
+                // A skip or reverse gives the same seat another move.
+                score = search(ply + 1, depth - 1, alpha, beta);
+            } else {
+                score = -search(ply + 1, depth - 1, -beta, -alpha);
+            }
+            if (aborted) {
+                return 0;
+            }
+
+            if (score > bestScore) {
+                bestScore = score;
+                bestMove = plyMoves[i];
+            }
+            if (score > alpha) {
+                alpha = score;
+            }
+            if (alpha >= beta) {
+                break;
+            }
+        }
+
+        if (ply == 0) {
+            rootMove = bestMove;
+        }
+        byte bound = bestScore <= originalAlpha ? UPPER : bestScore >= beta ? LOWER : EXACT;
+        keys[slot] = key;
+        scores[slot] = toTable(bestScore, ply);
+        bestMoves[slot] = bestMove;
+        depths[slot] = (byte) Math.min(depth, Byte.MAX_VALUE);
+        bounds[slot] = bound;
+        return bestScore;
+    }
+
+    /**
+     * Scores a position the search does not see the end of by the difference in hand sizes.
+     *
+     * @param state the position
+     * @return the score for the seat to move
+     */
+    private static int evaluate(GameState state) {
+        int seat = state.getCurrent();
+        return (state.handSize(1 - seat) - state.handSize(seat) - state.getPendingPenalty()) * CARD_SCORE;
+    }
+
+    /**
+     * Converts a score to be stored in the table, making proven scores relative to the position rather
+     * than the root.
+     *
+     * @param score the score
+     * @param ply   the distance of the position from the root
+     * @return the score to store
+     */
+    private static int toTable(int score, int ply) {
+        return score >= PROVEN ? score + ply : score <= -PROVEN ? score - ply : score;
+    }
+
+    /**
+     * Converts a score read from the table back to be relative to the root.
+     *
+     * @param score the stored score
+     * @param ply   the distance of the position from the root
+     * @return the score
+     */
+    private static int fromTable(int score, int ply) {
+        return score >= PROVEN ? score - ply : score <= -PROVEN ? score + ply : score;
+    }
+
+    /**
+     * Computes the Zobrist hash of a position, salted for the current solve.
+     *
+     * @param state the position
+     * @return the hash, never 0
+     */
+    long hash(GameState state) {
+        long hash = salt;
+        for (int seat = 0; seat < 2; seat++) {
+            for (long faces = state.faceMask(seat); faces != 0; faces &= faces - 1) {
+                int code = Long.numberOfTrailingZeros(faces);
+                int copies = Math.min(state.countOf(seat, code), MAX_COPIES);
+                hash ^= HAND_KEYS[(seat * CardCodec.FACE_COUNT + code) * MAX_COPIES + copies - 1];
+            }
+        }
+        hash ^= TOP_KEYS[state.getTopState()];
+        hash ^= SEAT_KEYS[state.getCurrent()];
+        if (!state.isForwardPlay()) {
+            hash ^= BACKWARD_KEY;
+        }
+        hash ^= PENALTY_KEYS[Math.min(state.getPendingPenalty(), MAX_COUNT)];
+        hash ^= DECK_KEYS[Math.min(state.getDeckSize(), MAX_COUNT)];
+        hash ^= DISCARD_KEYS[Math.min(state.getDiscardSize(), MAX_COUNT)];
+        return hash == 0 ? 1 : hash;
+    }
+
+    /**
+     * Gets the table slot of a hash.
+     *
+     * @param key the hash
+     * @return the slot
+     */
+    private int index(long key) {
+        return (int) (key ^ key >>> 32) & indexMask;
+    }
+
+    /**
+     * Mixes a counter into a well-spread salt (the SplitMix64 finalizer).
+     *
+     * @param value the counter
+     * @return the salt
+     */
+    private static long mix(long value) {
+        long z = value * 0x9E3779B97F4A7C15L;
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+
+    /**
+     * The {@code Solution} class is the result of a solve: the best move found, its score, and how sure the
+     * solver is of it.
+     */
+    public static final class Solution {
+        /**
+         * The best move found.
+         */
+        private final int move;
+
+        /**
+         * The score of the best move for the seat to move.
+         */
+        private final int score;
+
+        /**
+         * The depth of the deepest search finished.
+         */
+        private final int depth;
+
+        /**
+         * Whether the score is a proven win or loss.
+         */
+        private final boolean proven;
+
+        /**
+         * The number of nodes searched.
+         */
+        private final long nodes;
+
+        /**
+         * Constructs a new solution.
+         *
+         * @param move   the best move found
+         * @param score  the score of the best move for the seat to move
+         * @param depth  the depth of the deepest search finished
+         * @param proven whether the score is a proven win or loss
+         * @param nodes  the number of nodes searched
+         */
+        Solution(int move, int score, int depth, boolean proven, long nodes) {
+            this.move = move;
+            this.score = score;
+            this.depth = depth;
+            this.proven = proven;
+            this.nodes = nodes;
+        }
+
+        /**
+         * Gets the best move found.
+         *
+         * @return the move code (see {@link GameState#move})
+         */
+        public int getMove() {
+            return move;
+        }
+
+        /**
+         * Gets the score of the best move for the seat to move: above 0 is good for it, and proven wins
+         * score close to {@link #WIN}, the closer the sooner.
+         *
+         * @return the score
+         */
+        public int getScore() {
+            return score;
+        }
+
+        /**
+         * Gets the depth of the deepest search finished, in plies.
+         *
+         * @return the depth, or 0 if not even one ply was searched in time
+         */
+        public int getDepth() {
+            return depth;
+        }
+
+        /**
+         * Checks if the score is proven: the seat to move wins (or loses) whatever the other seat does.
+         *
+         * @return {@code true} if the result is proven, {@code false} if it is a heuristic guess
+         */
+        public boolean isProven() {
+            return proven;
+        }
+
+        /**
+         * Checks if the seat to move is proven to win.
+         *
+         * @return {@code true} if the seat to move wins whatever the other seat does, {@code false} otherwise
+         */
+        public boolean isWin() {
+            return proven && score > 0;
+        }
+
+        /**
+         * Gets the number of nodes searched.
+         *
+         * @return the number of nodes
+         */
+        public long getNodes() {
+            return nodes;
+        }
+    }
+}
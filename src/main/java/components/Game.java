@@ -1,11 +1,14 @@
 package components;
 
+import components.metrics.GameMetrics;
+import components.metrics.LatencyHistogram;
 import components.players.Player;
 import utils.CardType;
 import utils.Color;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.SplittableRandom;
 
 /**
  * The {@code Game} class represents the main logic of a game of Uno. It manages the game state,
@@ -54,6 +57,11 @@ public class Game {
      */
     private final Deck deck;
 
+    /**
+     * The cards that have been played and covered by a newer top card.
+     */
+    private final DiscardPile discardPile;
+
     /**
      * Keeps track of any special rules for the game.
      */
@@ -65,9 +73,9 @@ public class Game {
     private final List<Player> players;
 
     /**
-     * The list of players participating in the game.
+     * What every player can see of the table, including the size of each hand.
      */
-    private final List<Integer> handSizes;
+    private final TableView table;
 
     /**
      * Flag indicating the direction of play (true for forward, false for backward).
@@ -84,33 +92,138 @@ public class Game {
      */
     private Player currentPlayer;
 
+    /**
+     * The card on top of the discard pile, or {@code null} before the game starts. A played wild is the
+     * shared card with its declared color, so this is the game's whole top state (see {@link Card#getTopState()}).
+     */
+    private Card topCard;
+
+    /**
+     * The number of turns started so far, counting turns passed by drawing.
+     */
+    private int turnCount;
+
+    /**
+     * The number of cards the current player must draw unless they stack a draw card, under the stacking rule.
+     */
+    private int pendingPenalty;
+
+    /**
+     * The buffer the game's events pass through on the way to its listeners.
+     */
+    private final GameEventRing events = new GameEventRing();
+
+    /**
+     * The histograms each seat's decision latencies are recorded into, or {@code null} if
+     * {@linkplain GameMetrics#ENABLED metrics} are disabled.
+     */
+    private final LatencyHistogram[][] decisionLatencies;
+
     /**
      * Constructs a new Game with the specified list of players and initializes the game state.
+     * The game is shuffled with an unseeded random source.
      *
      * @param players the list of players participating in the game
      * @param specialRules any special rules for the game
      */
     public Game(List<Player> players, SpecialRules specialRules) {
+        this(players, specialRules, new SplittableRandom());
+    }
+
+    /**
+     * Constructs a new Game with the specified list of players and initializes the game state.
+     * Games with the same seed, players, and rules play out the same way.
+     *
+     * @param players the list of players participating in the game
+     * @param specialRules any special rules for the game
+     * @param seed the seed for every random choice in the game
+     */
+    public Game(List<Player> players, SpecialRules specialRules, long seed) {
+        this(players, specialRules, new SplittableRandom(seed));
+    }
+
+    /**
+     * Constructs a new Game with the specified list of players and initializes the game state.
+     * The deck and every player get their own random source, split from the specified one.
+     *
+     * @param players the list of players participating in the game
+     * @param specialRules any special rules for the game
+     * @param random the random source the game's random sources are split from
+     */
+    public Game(List<Player> players, SpecialRules specialRules, SplittableRandom random) {
         this.players = new ArrayList<>(players);
-        this.handSizes = new ArrayList<>();
-        this.deck = new Deck();
+        this.deck = new Deck(random.split());
+        this.discardPile = new DiscardPile();
+        this.table = new TableView(this.players.size(), deck, discardPile);
         this.forwardPlay = true;
         this.currentIndex = 0;
         this.currentPlayer = players.get(currentIndex);
         this.specialRules = specialRules;
 
-        // Deal the initial cards for the game.
-        for (Player p : this.players) {
-            for (int i = 0; i < 7; i++) {
-                p.addCard(deck.draw());
+        if (GameMetrics.ENABLED) {
+            decisionLatencies = new LatencyHistogram[this.players.size()][];
+            for (int i = 0; i < decisionLatencies.length; i++) {
+                decisionLatencies[i] = GameMetrics.get().decisionLatencies(this.players.get(i).getPlayerType());
             }
-            handSizes.add(7);
+        } else {
+            decisionLatencies = null;
+        }
+        deal(random);
+    }
+
+    /**
+     * Sets the game up again for a new game with the same players and rules, as if it had just been
+     * constructed with the specified seed, and plays out the same way such a game would.
+     * <p>
+     * The deck, discard pile, table view, and event ring are reused rather than allocated again, and each
+     * player is {@linkplain Player#reset() reset} and dealt a new hand into the hand they already have, so a
+     * worker thread can play game after game on one instance. Every listener is removed, since listeners
+     * usually belong to a single game; players rejoin the game and add theirs again.
+     * </p>
+     *
+     * @param seed the seed for every random choice in the new game
+     */
+    public void reset(long seed) {
+        SplittableRandom random = new SplittableRandom(seed);
+        deck.reset(random.split());
+        discardPile.clear();
+        table.reset();
+        events.clear();
+        forwardPlay = true;
+        currentIndex = 0;
+        currentPlayer = players.get(currentIndex);
+        topCard = null;
+        turnCount = 0;
+        pendingPenalty = 0;
+        deal(random);
+    }
+
+    /**
+     * Binds and resets every player, gives them their random source and the table view, lets them join the
+     * game, and deals the initial cards. Players passed to one game after another start every game with
+     * an empty hand.
+     *
+     * @param random the random source the players' random sources are split from
+     */
+    private void deal(SplittableRandom random) {
+        for (int seat = 0; seat < players.size(); seat++) {
+            Player p = players.get(seat);
+            p.bind(seat);
+            p.reset();
+            p.setRandom(random.split());
+            p.setTable(table);
+            p.joinGame(this);
         }
+
+        // Deal the initial cards for the game, one card at a time to each player.
         for (int i = 0; i < 7; i++) {
-            for (Player p : this.players) {
-                p.addCard(deck.draw());
+            for (Player p : players) {
+                p.getHand().addCode(drawCode());
             }
         }
+        for (int seat = 0; seat < players.size(); seat++) {
+            table.addToHand(seat, 7);
+        }
     }
 
     /**
@@ -122,6 +235,15 @@ public class Game {
         return deck;
     }
 
+    /**
+     * Gets the discard pile of the game, which holds the played cards under the top card.
+     *
+     * @return the discard pile of the game
+     */
+    public DiscardPile getDiscardPile() {
+        return discardPile;
+    }
+
     /**
      * Gets the list of players participating in the game.
      *
@@ -131,6 +253,15 @@ public class Game {
         return players;
     }
 
+    /**
+     * Gets what every player can see of the table, which the game keeps up to date as it plays.
+     *
+     * @return the view of the table
+     */
+    public TableView getTable() {
+        return table;
+    }
+
     /**
      * Gets the index of the current player in the list of players.
      *
@@ -140,6 +271,26 @@ public class Game {
         return currentIndex;
     }
 
+    /**
+     * Gets the number of turns started so far, counting turns passed by drawing. After the game, this is
+     * the length of the game.
+     *
+     * @return the number of turns
+     */
+    public int getTurnCount() {
+        return turnCount;
+    }
+
+    /**
+     * Gets the number of cards the current player must draw unless they stack a draw card. This is only ever
+     * more than zero under the stacking rule.
+     *
+     * @return the pending draw penalty
+     */
+    public int getPendingPenalty() {
+        return pendingPenalty;
+    }
+
     /**
      * Gets the current direction of play.
      *
@@ -149,13 +300,63 @@ public class Game {
         return forwardPlay;
     }
 
+    /**
+     * Gets the card on top of the discard pile.
+     *
+     * @return the top card, or {@code null} if the game has not started
+     */
+    public Card getTopCard() {
+        return topCard;
+    }
+
+    /**
+     * Adds a listener that is told about every event of the game from now on.
+     *
+     * @param listener the listener to add
+     */
+    public void addListener(GameListener listener) {
+        events.addListener(listener);
+    }
+
+    /**
+     * Takes a snapshot of the game as a {@link GameState}, which can be copied and played forward
+     * without affecting this game. The game must have started.
+     *
+     * @return a snapshot of the game
+     */
+    public GameState snapshot() {
+        if (topCard == null) {
+            throw new IllegalStateException("The game has not started yet.");
+        }
+
+        GameState state = new GameState(players.size(), specialRules);
+        for (int i = 0; i < deck.size(); i++) {
+            state.addToDeck(deck.codeAt(i));
+        }
+        for (int i = 0; i < discardPile.size(); i++) {
+            state.addToDiscard(discardPile.codeAt(i));
+        }
+        for (int seat = 0; seat < players.size(); seat++) {
+            Hand hand = players.get(seat).getHand();
+            for (long faces = hand.faceMask(); faces != 0; faces &= faces - 1) {
+                int code = Long.numberOfTrailingZeros(faces);
+                for (int i = hand.countOf(code); i > 0; i--) {
+                    state.addToHand(seat, code);
+                }
+            }
+        }
+        state.setPosition(CardCodec.topState(topCard), forwardPlay, currentIndex);
+        state.setPendingPenalty(pendingPenalty);
+        return state;
+    }
+
     /**
      * Starts and manages the game. It handles player turns, card plays, special card effects,
      * and determines the winner of the game.
      */
     public Player play() {
         // Game initialization
-        Card topCard = deck.draw();
+        topCard = deck.draw();
 
         // Check if a special card was chosen as the top card.
         topCard = handleSpecialTopCard(topCard);
@@ -163,18 +364,36 @@ public class Game {
         // Main game loop
         while (true) {
             currentPlayer = players.get(currentIndex);
+            table.setTurnNumber(++turnCount);
+            if (events.hasListeners()) {
+                events.publish(GameEventRing.TURN_STARTED, currentIndex, CardCodec.topState(topCard));
+                events.flush();
+            }
 
             Card card = getCard(topCard);
             if (card == null) continue;
+            int playerIndex = currentIndex;
 
             // Update hand size for the current player.
-            handSizes.set(currentIndex, handSizes.get(currentIndex) - 1);
+            table.addToHand(currentIndex, -1);
 
+            // The old top card is covered, so it can be recycled into the deck later.
+            discardPile.add(topCard.getCode());
             topCard = card;
             topCard = handleSpecialCards(topCard);
 
+            // Under the jump-in rule, play carries on from whoever last jumped in with the same card.
+            if (specialRules.isAllowJumpIn() && !currentPlayer.hasNoCards()) {
+                playerIndex = handleJumpIns(topCard, playerIndex);
+            }
+
             // Check if the player has won the game, exit game loop.
             if (currentPlayer.hasNoCards()) {
+                events.publish(GameEventRing.GAME_WON, playerIndex, 0);
+                events.flush();
+                if (GameMetrics.ENABLED) {
+                    GameMetrics.get().countGame();
+                }
                 break;
             }
 
@@ -202,10 +421,15 @@ public class Game {
                 case REVERSE -> reversePlay();
                 case SKIP -> currentIndex = nextPlayer(currentIndex);
                 case DRAW_TWO -> {
-                    drawCards(2, currentIndex, true);
-                    currentPlayer = players.get(currentIndex);
+                    if (specialRules.isAllowStacking()) {
+                        // The first player may pass the penalty on.
+                        pendingPenalty = 2;
+                    } else {
+                        drawCards(2, currentIndex, true);
+                        currentPlayer = players.get(currentIndex);
+                    }
                 }
-                case WILD -> topCard.setColor(currentPlayer.chooseColor());
+                case WILD -> topCard = Card.of(chooseColor(currentIndex), CardType.WILD, -1);
                 case WILD_DRAW_FOUR -> topCard = chooseNewStartingCard(topCard);
                 case NUMBER -> {
                     if (specialRules.isZerosRotate() && topCard.getNumber() == 0) {
@@ -238,23 +462,61 @@ public class Game {
 
     /**
      * Gets the next card to be played by the current player, handling drawing cards if necessary.
+     * If a draw penalty is pending, the player either stacks a draw card onto it or draws the whole
+     * penalty and loses their turn.
      *
      * @param topCard the current top card on the discard pile
-     * @return the next card to be played
+     * @return the next card to be played, or {@code null} if the player drew instead
      */
     public Card getCard(Card topCard) {
-        Card cardToPlay = currentPlayer.play(topCard);
+        long start = GameMetrics.ENABLED ? System.nanoTime() : 0;
+        Card cardToPlay = pendingPenalty > 0 ? currentPlayer.stack(topCard, pendingPenalty)
+                                             : currentPlayer.play(topCard);
+        if (GameMetrics.ENABLED) {
+            recordLatency(currentIndex, GameMetrics.Decision.PLAY, start);
+        }
+
+        // If the player does not stack, they pay the whole penalty at once.
+        if (cardToPlay == null && pendingPenalty > 0) {
+            events.publish(GameEventRing.TURN_PASSED, currentIndex, 0);
+            int penalty = pendingPenalty;
+            pendingPenalty = 0;
+            drawCards(penalty, currentIndex, true);
+            return null;
+        }
+
+        // Under the draw-until-playable rule, the player draws until they can play, then gets another chance.
+        if (cardToPlay == null && specialRules.isDrawUntilPlayable()) {
+            events.publish(GameEventRing.PLAY_DECLINED, currentIndex, 0);
+            drawUntilPlayable(currentIndex, topCard);
+
+            start = GameMetrics.ENABLED ? System.nanoTime() : 0;
+            cardToPlay = currentPlayer.play(topCard);
+            if (GameMetrics.ENABLED) {
+                recordLatency(currentIndex, GameMetrics.Decision.PLAY, start);
+            }
+            if (cardToPlay == null) {
+                events.publish(GameEventRing.TURN_PASSED, currentIndex, 0);
+                currentIndex = nextPlayer(currentIndex);
+                return null;
+            }
+        }
 
         // If the player cannot make a move, have them draw a card.
         if (cardToPlay == null) {
-            currentPlayer.addCard(deck.draw());
+            currentPlayer.getHand().addCode(drawCode());
+            table.addToHand(currentIndex, 1);
+            events.publish(GameEventRing.TURN_PASSED, currentIndex, 0);
+            events.publish(GameEventRing.CARDS_DRAWN, currentIndex, 1);
             currentIndex = nextPlayer(currentIndex);
             return null;
         } else {
             topCard = cardToPlay;
+            events.publish(GameEventRing.CARD_PLAYED, currentIndex, cardToPlay.getCode());
 
             // If the player did not declare Uno and only has one card left, make them draw cards.
             if (currentPlayer.hasUno() && !currentPlayer.declaredUno()) {
+                events.publish(GameEventRing.UNO_NOT_CALLED, currentIndex, 0);
                 drawCards(UNO_NO_CALL_PENALTY, currentIndex, false);
             }
         }
@@ -274,19 +536,40 @@ public class Game {
      * @return the updated top card after handling special actions
      */
     public Card handleSpecialCards(Card topCard) {
+        if (GameMetrics.ENABLED) {
+            GameMetrics.get().countBranch(GameMetrics.Branch.of(topCard.getType()));
+        }
+
         // Logic for special cards (reverse, draw two, skip), and wilds.
         switch (topCard.getType()) {
             case REVERSE -> reversePlay();
             case SKIP -> currentIndex = nextPlayer(currentIndex);
-            case DRAW_TWO -> drawCards(2, nextPlayer(currentIndex), true);
-            case WILD -> topCard.setColor(currentPlayer.chooseColor());
-            case WILD_DRAW_FOUR -> topCard.setColor(wildDrawFour());
+            case DRAW_TWO -> {
+                if (specialRules.isAllowStacking()) {
+                    pendingPenalty += 2;
+                } else {
+                    drawCards(2, nextPlayer(currentIndex), true);
+                }
+            }
+            // Cards never change, so a wild is replaced by the card with the declared color.
+            case WILD -> topCard = Card.of(chooseColor(currentIndex), CardType.WILD, -1);
+            case WILD_DRAW_FOUR -> topCard = Card.of(wildDrawFour(), CardType.WILD_DRAW_FOUR, -1);
             case NUMBER -> {
+                // A player who plays their last card has won, so their empty hand is not passed on.
+                if (currentPlayer.hasNoCards()) {
+                    break;
+                }
                 if (specialRules.isZerosRotate() && topCard.getNumber() == 0) {
+                    if (GameMetrics.ENABLED) {
+                        GameMetrics.get().countBranch(GameMetrics.Branch.ZEROS_ROTATE);
+                    }
                     zeroCardRotateHands();
                 }
 
                 if (specialRules.isSevensSwitchHands() && topCard.getNumber() == 7) {
+                    if (GameMetrics.ENABLED) {
+                        GameMetrics.get().countBranch(GameMetrics.Branch.SEVENS_SWITCH);
+                    }
                     sevenCardSwitchHands();
                 }
             }
@@ -294,11 +577,73 @@ public class Game {
         return topCard;
     }
 
+    /**
+     * Lets the other players jump in on the card just played under the jump-in rule, by playing an
+     * identical card out of turn. The jumper's card takes effect as if it were their turn, play carries on
+     * from them, and the others may then jump in on the jumper's card in turn.
+     * <p>
+     * Only the seats holding an identical card are asked, which is a single bit test on each hand's face
+     * mask, so checking every seat stays cheap however many players there are. When several seats would
+     * jump in, the first one in the direction of play after the seat that played wins the race, so seeded
+     * games play out the same every time. Wilds cannot be jumped in on, since their color is chosen.
+     * </p>
+     *
+     * @param playedCard  the card just played
+     * @param playerIndex the seat that played it
+     * @return the seat that played the top card after any jump-ins
+     */
+    public int handleJumpIns(Card playedCard, int playerIndex) {
+        topCard = playedCard;
+        while (topCard.getCode() < CardCodec.WILD) {
+            int code = topCard.getCode();
+            int jumperIndex = -1;
+            Card jumpCard = null;
+            for (int seat = nextPlayer(playerIndex); seat != playerIndex; seat = nextPlayer(seat)) {
+                Player player = players.get(seat);
+                if ((player.getHand().faceMask() & (1L << code)) == 0) continue;
+
+                long start = GameMetrics.ENABLED ? System.nanoTime() : 0;
+                jumpCard = player.jumpIn(topCard);
+                if (GameMetrics.ENABLED) {
+                    recordLatency(seat, GameMetrics.Decision.JUMP_IN, start);
+                }
+                if (jumpCard != null) {
+                    jumperIndex = seat;
+                    break;
+                }
+                events.publish(GameEventRing.JUMP_IN_DECLINED, seat, code);
+            }
+            if (jumpCard == null) {
+                return playerIndex;
+            }
+
+            // The jumper takes over the turn.
+            playerIndex = jumperIndex;
+            currentIndex = jumperIndex;
+            currentPlayer = players.get(jumperIndex);
+            table.addToHand(jumperIndex, -1);
+            events.publish(GameEventRing.CARD_PLAYED, jumperIndex, code);
+            if (currentPlayer.hasUno() && !currentPlayer.declaredUno()) {
+                events.publish(GameEventRing.UNO_NOT_CALLED, jumperIndex, 0);
+                drawCards(UNO_NO_CALL_PENALTY, jumperIndex, false);
+            }
+
+            discardPile.add(code);
+            topCard = handleSpecialCards(jumpCard);
+            if (currentPlayer.hasNoCards()) {
+                break;
+            }
+        }
+        return playerIndex;
+    }
+
     /**
      * Reverses the direction of play.
      */
     public void reversePlay() {
         forwardPlay = !forwardPlay;
+        table.setForwardPlay(forwardPlay);
+        events.publish(GameEventRing.DIRECTION_REVERSED, currentIndex, forwardPlay ? 1 : 0);
     }
 
     /**
@@ -325,12 +670,25 @@ public class Game {
      * @param goToNextPlayer true if the turn should be skipped, false otherwise
      */
     public void drawCards(int numCards, int playerIndex, boolean goToNextPlayer) {
-        for (int i = 0; i < numCards; i++) {
-            players.get(playerIndex).addCard(deck.draw());
+        // Deal straight from the deck in as few runs as possible, refilling it from the discard pile between them.
+        Hand hand = players.get(playerIndex).getHand();
+        int remaining = numCards;
+        while (remaining > 0) {
+            if (deck.size() == 0 && discardPile.size() == 0) {
+                // Every card is held, so the deck has to create new ones.
+                hand.addCode(deck.drawCode());
+                remaining--;
+            } else {
+                if (deck.size() == 0) {
+                    deck.refill(discardPile);
+                }
+                remaining -= deck.dealTo(hand, remaining);
+            }
         }
 
         // Update the card count for that player.
-        handSizes.set(playerIndex, handSizes.get(playerIndex) + numCards);
+        table.addToHand(playerIndex, numCards);
+        events.publish(GameEventRing.CARDS_DRAWN, playerIndex, numCards);
 
         if (goToNextPlayer) {
             currentIndex = nextPlayer(currentIndex);
@@ -338,43 +696,130 @@ public class Game {
     }
 
     /**
-     * Handles a Wild Draw Four by giving four cards to the next player and letting the current player
-     * choose the color for the top card.
+     * Deals the specified player cards until they draw one they can play on the top card. Rather than drawing
+     * and testing one card at a time, the deck is scanned once with the legal-move mask of the top card (see
+     * {@link Deck#depthOf(long)}) and the whole run down to the first playable card is dealt in bulk. If the
+     * deck holds no playable card, all of it is dealt and it is refilled from the discard pile.
+     *
+     * @param playerIndex the index of the player who draws
+     * @param topCard     the current top card on the discard pile
+     */
+    private void drawUntilPlayable(int playerIndex, Card topCard) {
+        Hand hand = players.get(playerIndex).getHand();
+        long playable = LegalMoves.mask(CardCodec.topState(topCard));
+        int drawn = 0;
+        while (true) {
+            if (deck.size() == 0) {
+                if (discardPile.size() == 0) {
+                    // Every card is held, so the deck has to create new ones.
+                    int code = deck.drawCode();
+                    hand.addCode(code);
+                    drawn++;
+                    if ((playable & (1L << code)) != 0) break;
+                    continue;
+                }
+                deck.refill(discardPile);
+            }
+
+            int depth = deck.depthOf(playable);
+            if (depth > 0) {
+                drawn += deck.dealTo(hand, depth);
+                break;
+            }
+            drawn += deck.dealTo(hand, deck.size());
+        }
+
+        table.addToHand(playerIndex, drawn);
+        events.publish(GameEventRing.CARDS_DRAWN, playerIndex, drawn);
+    }
+
+    /**
+     * Draws the code of the top card of the deck, shuffling the discard pile back into the deck first
+     * if the deck has run out.
+     *
+     * @return the code of the card drawn
+     */
+    private int drawCode() {
+        if (deck.size() == 0 && discardPile.size() > 0) {
+            deck.refill(discardPile);
+        }
+        return deck.drawCode();
+    }
+
+    /**
+     * Handles a Wild Draw Four by giving four cards to the next player, or adding four to the pending penalty
+     * under the stacking rule, and letting the current player choose the color for the top card.
      *
      * @return the chosen color for the top card
      */
     public Color wildDrawFour() {
-        drawCards(4, nextPlayer(currentIndex), true);
-        return players.get(currentIndex).chooseColor();
+        // The player who played the card chooses the color, not the player who draws.
+        int chooser = currentIndex;
+        if (specialRules.isAllowStacking()) {
+            pendingPenalty += 4;
+        } else {
+            drawCards(4, nextPlayer(currentIndex), true);
+        }
+        return chooseColor(chooser);
+    }
+
+    /**
+     * Asks the player in the specified seat to choose the color of a wild.
+     *
+     * @param seat the index of the player choosing the color
+     * @return the chosen color
+     */
+    private Color chooseColor(int seat) {
+        long start = GameMetrics.ENABLED ? System.nanoTime() : 0;
+        Color color = players.get(seat).chooseColor();
+        if (GameMetrics.ENABLED) {
+            recordLatency(seat, GameMetrics.Decision.CHOOSE_COLOR, start);
+        }
+        events.publish(GameEventRing.COLOR_CHOSEN, seat, color.ordinal());
+        return color;
+    }
+
+    /**
+     * Records how long a player took to make a decision.
+     *
+     * @param seat     the index of the player
+     * @param decision the decision made
+     * @param start    the time the decision was asked for, from {@link System#nanoTime()}
+     */
+    private void recordLatency(int seat, GameMetrics.Decision decision, long start) {
+        decisionLatencies[seat][decision.ordinal()].record(System.nanoTime() - start);
     }
 
     /**
      * Zero Card Rotation:
      * <p>
-     * Rotates the hands of all players based on the presence of a zero card.
-     * If there are only two players, their hands are directly swapped. Otherwise,
-     * the hands are rotated either forward or backward based on the current direction of play.
-     * The first and last elements of the list are also swapped to complete the rotation.
+     * Passes every hand on to the next player in the direction of play. The hands move by reference in a
+     * single pass over the seats, without copying a card, and the table view only changes its rotation
+     * offset (see {@link TableView}).
      * </p>
      */
     public void zeroCardRotateHands() {
-        if (players.size() == 2) {
-            swapHands(players.get(0), players.get(1));
-            return;
-        }
-
+        events.publish(GameEventRing.HANDS_ROTATED, currentIndex, 0);
+        int last = players.size() - 1;
         if (forwardPlay) {
-            for (int i = 0; i < players.size() - 1; i++) {
-                swapHands(players.get(i), players.get(i + 1));
+            // Each seat takes the hand of the seat before it, so the last hand goes to the first seat.
+            Hand carried = players.get(last).getHand();
+            for (int i = 0; i <= last; i++) {
+                Player player = players.get(i);
+                Hand temp = player.getHand();
+                player.setHand(carried);
+                carried = temp;
             }
         } else {
-            for (int i = players.size() - 1; i > 0; i--) {
-                swapHands(players.get(i), players.get(i - 1));
+            Hand carried = players.get(0).getHand();
+            for (int i = last; i >= 0; i--) {
+                Player player = players.get(i);
+                Hand temp = player.getHand();
+                player.setHand(carried);
+                carried = temp;
             }
         }
-
-        // Swap the first and last elements of the list.
-        swapHands(players.get(0), players.get(players.size() - 1));
+        table.rotateHands(forwardPlay);
     }
 
     /**
@@ -385,7 +830,13 @@ public class Game {
      * </p>
      */
     public void sevenCardSwitchHands() {
-        swapHands(currentPlayer, players.get(currentPlayer.getPlayerToSwitchWith(handSizes, forwardPlay)));
+        long start = GameMetrics.ENABLED ? System.nanoTime() : 0;
+        int target = currentPlayer.getPlayerToSwitchWith(table);
+        if (GameMetrics.ENABLED) {
+            recordLatency(currentIndex, GameMetrics.Decision.SWITCH_HANDS, start);
+        }
+        events.publish(GameEventRing.HANDS_SWAPPED, currentIndex, target);
+        swapHands(currentIndex, target);
     }
 
     /**
@@ -396,12 +847,15 @@ public class Game {
      * such as zero card rotation and seven card hand-switching.
      * </p>
      *
-     * @param playerOne the first player
-     * @param playerTwo the second player
+     * @param seatOne the index of the first player
+     * @param seatTwo the index of the second player
      */
-    private void swapHands(Player playerOne, Player playerTwo) {
-        List<Card> temp = new ArrayList<>(playerOne.getHand());
+    private void swapHands(int seatOne, int seatTwo) {
+        Player playerOne = players.get(seatOne);
+        Player playerTwo = players.get(seatTwo);
+        Hand temp = playerOne.getHand();
         playerOne.setHand(playerTwo.getHand());
         playerTwo.setHand(temp);
+        table.swapHands(seatOne, seatTwo);
     }
 }
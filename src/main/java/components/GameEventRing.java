@@ -0,0 +1,191 @@
+package components;
+
+import utils.Color;
+
+import java.util.Arrays;
+
+/**
+ * The {@code GameEventRing} class buffers the events of a {@link Game} and delivers them to its
+ * {@link GameListener}s.
+ * <p>
+ * Each event is three ints (its type, a seat, and a value) written into a ring buffer that is allocated
+ * once, with the game. {@link #flush()} hands the buffered events to the listeners in order, and a full
+ * ring flushes itself before taking another event. Until a listener is added, publishing an event returns
+ * at once, so a game nobody is watching does no allocation, formatting, or I/O for its events.
+ * </p>
+ *
+ * @author Riley Woolf
+ * @version 1.0
+ */
+class GameEventRing {
+    /**
+     * The number of events the ring holds before it flushes itself.
+     */
+    private static final int CAPACITY = 64;
+
+    /**
+     * The number of ints in one event.
+     */
+    private static final int EVENT_SIZE = 3;
+
+    /**
+     * The type of an event for a turn starting.
+     */
+    static final int TURN_STARTED = 0;
+
+    /**
+     * The type of an event for a card being played.
+     */
+    static final int CARD_PLAYED = 1;
+
+    /**
+     * The type of an event for cards being drawn.
+     */
+    static final int CARDS_DRAWN = 2;
+
+    /**
+     * The type of an event for a wild's color being chosen.
+     */
+    static final int COLOR_CHOSEN = 3;
+
+    /**
+     * The type of an event for two seats switching hands.
+     */
+    static final int HANDS_SWAPPED = 4;
+
+    /**
+     * The type of an event for every hand being passed on.
+     */
+    static final int HANDS_ROTATED = 5;
+
+    /**
+     * The type of an event for the direction of play being reversed.
+     */
+    static final int DIRECTION_REVERSED = 6;
+
+    /**
+     * The type of an event for a seat winning the game.
+     */
+    static final int GAME_WON = 7;
+
+    /**
+     * The type of an event for a seat drawing instead of playing.
+     */
+    static final int TURN_PASSED = 8;
+
+    /**
+     * The type of an event for a seat not calling Uno.
+     */
+    static final int UNO_NOT_CALLED = 9;
+
+    /**
+     * The type of an event for a seat not jumping in with the card it holds.
+     */
+    static final int JUMP_IN_DECLINED = 10;
+
+    /**
+     * The type of an event for a seat drawing until it can play, under the draw-until-playable rule.
+     */
+    static final int PLAY_DECLINED = 11;
+
+    /**
+     * Cached colors, indexed by ordinal.
+     */
+    private static final Color[] COLORS = Color.values();
+
+    /**
+     * The buffered events.
+     */
+    private final int[] events = new int[CAPACITY * EVENT_SIZE];
+
+    /**
+     * The listeners the events are delivered to.
+     */
+    private GameListener[] listeners = new GameListener[0];
+
+    /**
+     * The position of the oldest buffered event.
+     */
+    private int head;
+
+    /**
+     * The number of events in the ring.
+     */
+    private int size;
+
+    /**
+     * Adds a listener that receives every event published after it is added.
+     *
+     * @param listener the listener to add
+     */
+    void addListener(GameListener listener) {
+        listeners = Arrays.copyOf(listeners, listeners.length + 1);
+        listeners[listeners.length - 1] = listener;
+    }
+
+    /**
+     * Removes every listener and drops any buffered events, so the ring can serve a new game.
+     */
+    void clear() {
+        listeners = new GameListener[0];
+        head = 0;
+        size = 0;
+    }
+
+    /**
+     * Checks if any listener has been added.
+     *
+     * @return {@code true} if events are being delivered, {@code false} otherwise
+     */
+    boolean hasListeners() {
+        return listeners.length > 0;
+    }
+
+    /**
+     * Buffers an event, flushing the ring first if it is full. Does nothing if there are no listeners.
+     *
+     * @param type  the type of the event
+     * @param seat  the seat the event is about
+     * @param value the value of the event, whose meaning depends on the type
+     */
+    void publish(int type, int seat, int value) {
+        if (listeners.length == 0) {
+            return;
+        }
+        if (size == CAPACITY) {
+            flush();
+        }
+        int offset = ((head + size++) % CAPACITY) * EVENT_SIZE;
+        events[offset] = type;
+        events[offset + 1] = seat;
+        events[offset + 2] = value;
+    }
+
+    /**
+     * Delivers every buffered event to every listener, in the order they were published, and empties the ring.
+     */
+    void flush() {
+        for (; size > 0; size--, head = (head + 1) % CAPACITY) {
+            int offset = head * EVENT_SIZE;
+            int seat = events[offset + 1];
+            int value = events[offset + 2];
+            for (GameListener listener : listeners) {
+                switch (events[offset]) {
+                    case TURN_STARTED -> listener.turnStarted(seat, value);
+                    case CARD_PLAYED -> listener.cardPlayed(seat, value);
+                    case CARDS_DRAWN -> listener.cardsDrawn(seat, value);
+                    case COLOR_CHOSEN -> listener.colorChosen(seat, COLORS[value]);
+                    case HANDS_SWAPPED -> listener.handsSwapped(seat, value);
+                    case HANDS_ROTATED -> listener.handsRotated(seat);
+                    case DIRECTION_REVERSED -> listener.directionReversed(value != 0);
+                    case GAME_WON -> listener.gameWon(seat);
+                    case TURN_PASSED -> listener.turnPassed(seat);
+                    case UNO_NOT_CALLED -> listener.unoNotCalled(seat);
+                    case JUMP_IN_DECLINED -> listener.jumpInDeclined(seat, value);
+                    case PLAY_DECLINED -> listener.playDeclined(seat);
+                    default -> throw new IllegalStateException("Unknown event type: " + events[offset]);
+                }
+            }
+        }
+    }
+}
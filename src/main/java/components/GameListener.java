@@ -0,0 +1,130 @@
+package components;
+
+import utils.Color;
+
+/**
+ * The {@code GameListener} interface receives the events of a {@link Game} as it is played.
+ * <p>
+ * Every event is a separate method with primitive arguments, and every method does nothing by default,
+ * so a listener only overrides the events it cares about. Seats are indices into the game's list of
+ * players, and cards are card codes (see {@link CardCodec}).
+ * </p>
+ * <p>
+ * The game buffers its events and delivers them in order at the start of each turn and at the end of
+ * the game, on the thread playing the game. A listener sees the game as it is when the events are
+ * delivered, which is always before the next player chooses a card.
+ * </p>
+ *
+ * @author Riley Woolf
+ * @version 1.0
+ * @see Game#addListener(GameListener)
+ */
+public interface GameListener {
+    /**
+     * Called when a seat's turn starts, before the player chooses a card.
+     *
+     * @param seat     the seat whose turn it is
+     * @param topState the top state of the discard pile (see {@link CardCodec#topState(Card)})
+     */
+    default void turnStarted(int seat, int topState) {
+    }
+
+    /**
+     * Called when a seat plays a card.
+     *
+     * @param seat the seat that played the card
+     * @param code the code of the card
+     */
+    default void cardPlayed(int seat, int code) {
+    }
+
+    /**
+     * Called when a seat draws cards from the deck.
+     *
+     * @param seat     the seat that drew the cards
+     * @param numCards the number of cards drawn
+     */
+    default void cardsDrawn(int seat, int numCards) {
+    }
+
+    /**
+     * Called when a seat has nothing it wants to play and draws a card instead. The card drawn is
+     * reported separately, by {@link #cardsDrawn(int, int)}.
+     *
+     * @param seat the seat that passed
+     */
+    default void turnPassed(int seat) {
+    }
+
+    /**
+     * Called when a seat has nothing it wants to play under the draw-until-playable rule, and draws until it
+     * holds a playable card before getting another chance. The cards drawn are reported separately, by
+     * {@link #cardsDrawn(int, int)}, and the turn only counts as passed, by {@link #turnPassed(int)}, if the
+     * seat still does not play.
+     *
+     * @param seat the seat that drew until it could play
+     */
+    default void playDeclined(int seat) {
+    }
+
+    /**
+     * Called when a seat is left with one card without having called Uno. The penalty cards are
+     * reported separately, by {@link #cardsDrawn(int, int)}.
+     *
+     * @param seat the seat that did not call Uno
+     */
+    default void unoNotCalled(int seat) {
+    }
+
+    /**
+     * Called when a seat holding a card identical to the one just played chooses not to jump in with it,
+     * under the jump-in rule. A seat that does jump in is reported by {@link #cardPlayed(int, int)}.
+     *
+     * @param seat the seat that did not jump in
+     * @param code the code of the card it could have played
+     */
+    default void jumpInDeclined(int seat, int code) {
+    }
+
+    /**
+     * Called when a seat chooses the color of a wild.
+     *
+     * @param seat  the seat that chose the color
+     * @param color the chosen color
+     */
+    default void colorChosen(int seat, Color color) {
+    }
+
+    /**
+     * Called when a seat switches hands with another seat after playing a seven.
+     *
+     * @param seat   the seat that played the seven
+     * @param target the seat it switched hands with
+     */
+    default void handsSwapped(int seat, int target) {
+    }
+
+    /**
+     * Called when every hand is passed on after a zero is played.
+     *
+     * @param seat the seat that played the zero
+     */
+    default void handsRotated(int seat) {
+    }
+
+    /**
+     * Called when the direction of play is reversed.
+     *
+     * @param forwardPlay the new direction of play
+     */
+    default void directionReversed(boolean forwardPlay) {
+    }
+
+    /**
+     * Called when a seat wins the game. This is the last event of a game.
+     *
+     * @param seat the seat that won
+     */
+    default void gameWon(int seat) {
+    }
+}
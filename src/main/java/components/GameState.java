@@ -0,0 +1,898 @@
+package components;
+
+import utils.Color;
+
+import java.util.Arrays;
+import java.util.SplittableRandom;
+
+/**
+ * The {@code GameState} class is a self-contained, copyable snapshot of a game of Uno: the deck, the discard
+ * pile, every hand, the top card, the direction of play, and whose turn it is.
+ * <p>
+ * Unlike {@link Game}, a state has no players to ask for decisions. Moves are passed in as integer codes
+ * instead (see {@link #move(int, Color, int)}), and {@link #apply(int)} returns the state that results from
+ * a move without changing the original. This lets search-based players and analysis tools fork a position
+ * as often as they like. Everything is held in primitive arrays, so {@link #copy()} is a handful of array
+ * clones and {@link #copyFrom(GameState)} allocates nothing at all.
+ * </p>
+ * <p>
+ * The rules follow {@link Game}, with three simplifications: players always declare Uno in time, a player
+ * only draws when they have nothing to play, or, under the stacking rule, to pay a pending penalty, and
+ * nobody jumps in out of turn. Under the draw-until-playable rule, a seat that draws keeps the turn once it
+ * has drawn a playable card, and must then play. Hands are stored as per-face counts (see {@link CardCodec})
+ * behind a seat-to-hand table and a rotation offset, so switching two hands swaps two indices and rotating
+ * every hand changes the offset alone.
+ * </p>
+ * <p>
+ * Usage example:
+ * <pre>
+ * {@code
+ * GameState state = game.snapshot();
+ * int[] moves = new int[state.maxMoves()];
+ * int count = state.legalMoves(moves);
+ * GameState next = state.apply(moves[0]);
+ * }
+ * </pre>
+ * </p>
+ *
+ * @author Riley Woolf
+ * @version 1.0
+ */
+public class GameState {
+    /**
+     * The move of a player who has nothing to play and draws a card instead.
+     */
+    public static final int DRAW = -1;
+
+    /**
+     * The position of the declared color in a move code.
+     */
+    private static final int COLOR_SHIFT = 6;
+
+    /**
+     * The position of the hand-switch target in a move code.
+     */
+    private static final int TARGET_SHIFT = 8;
+
+    /**
+     * The increment of the shuffle random sequence (the golden ratio, as used by SplitMix64).
+     */
+    private static final long GOLDEN_GAMMA = 0x9e3779b97f4a7c15L;
+
+    /**
+     * Cached colors, indexed by ordinal.
+     */
+    private static final Color[] COLORS = Color.values();
+
+    /**
+     * The room for cards in the deck and discard pile. A game's deck only grows past one full deck in the
+     * rare case where every card is held and the deck creates a new set, so twice that is plenty.
+     */
+    private static final int PILE_CAPACITY = 2 * CardCodec.DECK_SIZE;
+
+    /**
+     * The number of players in the game.
+     */
+    private final int numPlayers;
+
+    /**
+     * Whether draw cards can be stacked onto a pending penalty.
+     */
+    private final boolean allowStacking;
+
+    /**
+     * Whether hands rotate when a zero is played.
+     */
+    private final boolean zerosRotate;
+
+    /**
+     * Whether the player of a seven switches hands with another player.
+     */
+    private final boolean sevensSwitchHands;
+
+    /**
+     * Whether a seat that draws keeps drawing until it can play.
+     */
+    private final boolean drawUntilPlayable;
+
+    /**
+     * The codes of the cards in the deck, with the top of the deck at the end.
+     */
+    private final byte[] deck;
+
+    /**
+     * The number of cards in the deck.
+     */
+    private int deckSize;
+
+    /**
+     * The codes of the cards in the discard pile, under the top card.
+     */
+    private final byte[] discard;
+
+    /**
+     * The number of cards in the discard pile.
+     */
+    private int discardSize;
+
+    /**
+     * The number of cards of each face in each hand, indexed by {@code hand * FACE_COUNT + code}.
+     */
+    private final byte[] handCounts;
+
+    /**
+     * The number of cards in each hand.
+     */
+    private final int[] handSizes;
+
+    /**
+     * The faces held at least once by each hand.
+     */
+    private final long[] faceMasks;
+
+    /**
+     * The hand held by each seat, before the rotation is applied (see {@link #handAt(int)}).
+     */
+    private final int[] handOf;
+
+    /**
+     * The number of places every seat's entry in {@link #handOf} has moved by zero rotations, from 0 to one
+     * less than the number of players.
+     */
+    private int rotation;
+
+    /**
+     * The top state of the discard pile, see {@link CardCodec}.
+     */
+    private int topState;
+
+    /**
+     * Flag indicating the direction of play (true for forward, false for backward).
+     */
+    private boolean forwardPlay;
+
+    /**
+     * The seat whose turn it is.
+     */
+    private int current;
+
+    /**
+     * The seat of the winner, or -1 while the game is still going.
+     */
+    private int winner;
+
+    /**
+     * The number of moves made so far.
+     */
+    private int turn;
+
+    /**
+     * The number of cards the current seat must draw unless it stacks a draw card.
+     */
+    private int pendingPenalty;
+
+    /**
+     * The state of the random sequence used to shuffle the discard pile back into the deck.
+     */
+    private long shuffleSeed;
+
+    /**
+     * Constructs a new state with empty hands, deck, and discard pile.
+     *
+     * @param numPlayers   the number of players in the game
+     * @param specialRules the special rules of the game
+     */
+    public GameState(int numPlayers, SpecialRules specialRules) {
+        this.numPlayers = numPlayers;
+        this.allowStacking = specialRules.isAllowStacking();
+        this.zerosRotate = specialRules.isZerosRotate();
+        this.sevensSwitchHands = specialRules.isSevensSwitchHands();
+        this.drawUntilPlayable = specialRules.isDrawUntilPlayable();
+        this.deck = new byte[PILE_CAPACITY];
+        this.discard = new byte[PILE_CAPACITY];
+        this.handCounts = new byte[numPlayers * CardCodec.FACE_COUNT];
+        this.handSizes = new int[numPlayers];
+        this.faceMasks = new long[numPlayers];
+        this.handOf = new int[numPlayers];
+        for (int i = 0; i < numPlayers; i++) {
+            handOf[i] = i;
+        }
+        this.forwardPlay = true;
+        this.winner = -1;
+    }
+
+    /**
+     * Constructs a copy of the specified state.
+     *
+     * @param other the state to copy
+     */
+    private GameState(GameState other) {
+        this.numPlayers = other.numPlayers;
+        this.allowStacking = other.allowStacking;
+        this.zerosRotate = other.zerosRotate;
+        this.sevensSwitchHands = other.sevensSwitchHands;
+        this.drawUntilPlayable = other.drawUntilPlayable;
+        this.deck = other.deck.clone();
+        this.discard = other.discard.clone();
+        this.handCounts = other.handCounts.clone();
+        this.handSizes = other.handSizes.clone();
+        this.faceMasks = other.faceMasks.clone();
+        this.handOf = other.handOf.clone();
+        copyFields(other);
+    }
+
+    /**
+     * Creates an independent copy of this state.
+     *
+     * @return the copy
+     */
+    public GameState copy() {
+        return new GameState(this);
+    }
+
+    /**
+     * Overwrites this state with the specified state, reusing this state's arrays.
+     * Both states must have the same number of players and rules.
+     *
+     * @param other the state to copy
+     */
+    public void copyFrom(GameState other) {
+        if (!sameShape(other)) {
+            throw new IllegalArgumentException("Cannot copy a state with different players or rules.");
+        }
+        System.arraycopy(other.deck, 0, deck, 0, other.deckSize);
+        System.arraycopy(other.discard, 0, discard, 0, other.discardSize);
+        System.arraycopy(other.handCounts, 0, handCounts, 0, handCounts.length);
+        System.arraycopy(other.handSizes, 0, handSizes, 0, numPlayers);
+        System.arraycopy(other.faceMasks, 0, faceMasks, 0, numPlayers);
+        System.arraycopy(other.handOf, 0, handOf, 0, numPlayers);
+        copyFields(other);
+    }
+
+    /**
+     * Checks if the specified state has the same number of players and rules as this one, so that either can
+     * be copied into the other with {@link #copyFrom(GameState)}.
+     *
+     * @param other the state to compare with
+     * @return {@code true} if the states have the same players and rules, {@code false} otherwise
+     */
+    boolean sameShape(GameState other) {
+        return other.numPlayers == numPlayers && other.allowStacking == allowStacking
+                && other.zerosRotate == zerosRotate
+                && other.sevensSwitchHands == sevensSwitchHands
+                && other.drawUntilPlayable == drawUntilPlayable;
+    }
+
+    /**
+     * Copies the scalar fields of the specified state.
+     *
+     * @param other the state to copy
+     */
+    private void copyFields(GameState other) {
+        this.deckSize = other.deckSize;
+        this.discardSize = other.discardSize;
+        this.topState = other.topState;
+        this.forwardPlay = other.forwardPlay;
+        this.current = other.current;
+        this.winner = other.winner;
+        this.turn = other.turn;
+        this.pendingPenalty = other.pendingPenalty;
+        this.shuffleSeed = other.shuffleSeed;
+        this.rotation = other.rotation;
+    }
+
+    //----------------------------------------------------MOVE CODES----------------------------------------------------
+
+    /**
+     * Creates the code of a move that plays a card.
+     *
+     * @param code   the code of the card face to play
+     * @param color  the color declared for a wild, ignored for other cards
+     * @param target the seat to switch hands with for a seven, ignored for other cards
+     * @return the move code
+     */
+    public static int move(int code, Color color, int target) {
+        int move = code;
+        if (code >= CardCodec.WILD && color != null) {
+            move |= color.ordinal() << COLOR_SHIFT;
+        }
+        return move | target << TARGET_SHIFT;
+    }
+
+    /**
+     * Gets the code of the card face played by a move.
+     *
+     * @param move the move code, other than {@link #DRAW}
+     * @return the code of the card face
+     */
+    public static int moveFace(int move) {
+        return move & ((1 << COLOR_SHIFT) - 1);
+    }
+
+    /**
+     * Gets the color declared by a move that plays a wild.
+     *
+     * @param move the move code of a wild
+     * @return the declared color
+     */
+    public static Color moveColor(int move) {
+        return COLORS[(move >>> COLOR_SHIFT) & 3];
+    }
+
+    /**
+     * Gets the seat to switch hands with of a move that plays a seven.
+     *
+     * @param move the move code of a seven
+     * @return the target seat
+     */
+    public static int moveTarget(int move) {
+        return move >>> TARGET_SHIFT;
+    }
+
+    //-----------------------------------------------------QUERIES-----------------------------------------------------
+
+    /**
+     * Gets the number of players in the game.
+     *
+     * @return the number of players
+     */
+    public int getNumPlayers() {
+        return numPlayers;
+    }
+
+    /**
+     * Gets the seat whose turn it is.
+     *
+     * @return the current seat
+     */
+    public int getCurrent() {
+        return current;
+    }
+
+    /**
+     * Gets the current direction of play.
+     *
+     * @return true if the play is in forward direction, false otherwise
+     */
+    public boolean isForwardPlay() {
+        return forwardPlay;
+    }
+
+    /**
+     * Gets the top state of the discard pile, see {@link CardCodec}.
+     *
+     * @return the top state
+     */
+    public int getTopState() {
+        return topState;
+    }
+
+    /**
+     * Gets the seat of the winner.
+     *
+     * @return the seat of the winner, or -1 if the game is not over
+     */
+    public int getWinner() {
+        return winner;
+    }
+
+    /**
+     * Checks if the game is over.
+     *
+     * @return {@code true} if a player has won, {@code false} otherwise
+     */
+    public boolean isOver() {
+        return winner >= 0;
+    }
+
+    /**
+     * Gets the number of moves made so far.
+     *
+     * @return the number of moves
+     */
+    public int getTurn() {
+        return turn;
+    }
+
+    /**
+     * Gets the number of cards the current seat must draw unless it stacks a draw card.
+     *
+     * @return the pending draw penalty
+     */
+    public int getPendingPenalty() {
+        return pendingPenalty;
+    }
+
+    /**
+     * Gets the number of cards in the deck.
+     *
+     * @return the number of cards in the deck
+     */
+    public int getDeckSize() {
+        return deckSize;
+    }
+
+    /**
+     * Gets the number of cards in the discard pile, under the top card.
+     *
+     * @return the number of cards in the discard pile
+     */
+    public int getDiscardSize() {
+        return discardSize;
+    }
+
+    /**
+     * Gets the number of cards held by a seat.
+     *
+     * @param seat the seat
+     * @return the number of cards in that seat's hand
+     */
+    public int handSize(int seat) {
+        return handSizes[handAt(seat)];
+    }
+
+    /**
+     * Gets the number of cards of a face held by a seat.
+     *
+     * @param seat the seat
+     * @param code the code of the card face
+     * @return the number of such cards in that seat's hand
+     */
+    public int countOf(int seat, int code) {
+        return handCounts[handAt(seat) * CardCodec.FACE_COUNT + code];
+    }
+
+    /**
+     * Gets the faces held at least once by a seat.
+     *
+     * @param seat the seat
+     * @return the mask of the faces in that seat's hand
+     */
+    public long faceMask(int seat) {
+        return faceMasks[handAt(seat)];
+    }
+
+    /**
+     * Gets the number of cards of the specified color in a seat's hand.
+     *
+     * @param seat  the seat
+     * @param color the color
+     * @return the number of cards of that color
+     */
+    public int colorCount(int seat, Color color) {
+        int base = handAt(seat) * CardCodec.FACE_COUNT + color.ordinal() * CardCodec.RANKS_PER_COLOR;
+        int count = 0;
+        for (int i = 0; i < CardCodec.RANKS_PER_COLOR; i++) {
+            count += handCounts[base + i];
+        }
+        return count;
+    }
+
+    /**
+     * Calculates the seat after the specified one, in the direction of play.
+     *
+     * @param seat the seat
+     * @return the next seat
+     */
+    public int nextSeat(int seat) {
+        if (forwardPlay) {
+            return seat + 1 == numPlayers ? 0 : seat + 1;
+        }
+        return seat == 0 ? numPlayers - 1 : seat - 1;
+    }
+
+    /**
+     * Gets the size of the array {@link #legalMoves(int[])} needs.
+     *
+     * @return the largest number of legal moves in any position
+     */
+    public int maxMoves() {
+        // Every face once, wilds once per color, and sevens once per other seat.
+        return CardCodec.FACE_COUNT + 2 * 3 + 4 * Math.max(0, numPlayers - 2);
+    }
+
+    /**
+     * Lists the legal moves of the current seat: every playable face (each wild once per color, and each seven
+     * once per other seat when sevens switch hands), or just {@link #DRAW} if nothing can be played. While a
+     * penalty is pending, the moves are the stackable faces followed by {@link #DRAW}, which pays the penalty.
+     *
+     * @param moves the array to fill, of at least {@link #maxMoves()} elements
+     * @return the number of moves written
+     */
+    public int legalMoves(int[] moves) {
+        if (pendingPenalty > 0) {
+            int count = 0;
+            for (long stackable = LegalMoves.stackable(faceMask(current), topState); stackable != 0;
+                 stackable &= stackable - 1) {
+                int code = Long.numberOfTrailingZeros(stackable);
+                if (code >= CardCodec.WILD) {
+                    for (Color color : COLORS) {
+                        moves[count++] = move(code, color, 0);
+                    }
+                } else {
+                    moves[count++] = code;
+                }
+            }
+            moves[count++] = DRAW;
+            return count;
+        }
+
+        long playable = LegalMoves.playable(faceMask(current), topState);
+        if (playable == 0) {
+            moves[0] = DRAW;
+            return 1;
+        }
+
+        int count = 0;
+        while (playable != 0) {
+            int code = Long.numberOfTrailingZeros(playable);
+            playable &= playable - 1;
+
+            if (code >= CardCodec.WILD) {
+                for (Color color : COLORS) {
+                    moves[count++] = move(code, color, 0);
+                }
+            } else if (sevensSwitchHands && CardCodec.numberOf(code) == 7) {
+                for (int seat = 0; seat < numPlayers; seat++) {
+                    if (seat != current) moves[count++] = move(code, null, seat);
+                }
+            } else {
+                moves[count++] = code;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Replaces everything the specified seat cannot see with one random guess that is consistent with what it
+     * can see. The other seats' cards and the deck are pooled, shuffled, and dealt back out so that every hand
+     * keeps its size. The seat's own hand, the discard pile, and the top card are left alone.
+     *
+     * @param seat   the seat whose point of view is kept
+     * @param random the random source for the guess
+     */
+    public void determinize(int seat, SplittableRandom random) {
+        // Pool the hidden cards on top of the deck.
+        int[] sizes = new int[numPlayers];
+        for (int other = 0; other < numPlayers; other++) {
+            if (other == seat) continue;
+            int hand = handAt(other);
+            sizes[other] = handSizes[hand];
+            for (long faces = faceMasks[hand]; faces != 0; faces &= faces - 1) {
+                int code = Long.numberOfTrailingZeros(faces);
+                int index = hand * CardCodec.FACE_COUNT + code;
+                for (int i = handCounts[index]; i > 0; i--) {
+                    deck[deckSize++] = (byte) code;
+                }
+                handCounts[index] = 0;
+            }
+            faceMasks[hand] = 0;
+            handSizes[hand] = 0;
+        }
+
+        for (int i = deckSize - 1; i > 0; i--) {
+            int j = random.nextInt(i + 1);
+            byte temp = deck[i];
+            deck[i] = deck[j];
+            deck[j] = temp;
+        }
+
+        for (int other = 0; other < numPlayers; other++) {
+            int hand = handAt(other);
+            for (int i = sizes[other]; i > 0; i--) {
+                addCard(hand, deck[--deckSize]);
+            }
+        }
+        shuffleSeed = random.nextLong();
+    }
+
+    //---------------------------------------------------TRANSITIONS---------------------------------------------------
+
+    /**
+     * Returns the state after the current seat makes the specified move. This state is not changed.
+     *
+     * @param move the move code
+     * @return the next state
+     */
+    public GameState apply(int move) {
+        GameState next = copy();
+        next.applyInPlace(move);
+        return next;
+    }
+
+    /**
+     * Makes the specified move for the current seat, changing this state.
+     *
+     * @param move the move code
+     */
+    public void applyInPlace(int move) {
+        if (winner >= 0) {
+            throw new IllegalStateException("The game is already over.");
+        }
+        int mover = current;
+
+        if (move == DRAW) {
+            if (drawUntilPlayable && pendingPenalty == 0 && drawUntilPlayable(mover)) {
+                // The seat keeps the turn to play the card it drew.
+                turn++;
+                return;
+            }
+            drawCards(mover, Math.max(1, pendingPenalty));
+            pendingPenalty = 0;
+            current = nextSeat(current);
+            turn++;
+            return;
+        }
+
+        int code = moveFace(move);
+        if (!removeCard(handAt(mover), code)) {
+            throw new IllegalArgumentException("Seat " + mover + " does not hold " + CardCodec.decode(code) + ".");
+        }
+
+        // The old top card is covered and goes to the discard pile.
+        discard[discardSize++] = (byte) CardCodec.faceOfTopState(topState);
+        topState = code >= CardCodec.WILD ? CardCodec.topState(code, moveColor(move)) : code;
+
+        switch (CardCodec.typeOf(code)) {
+            case REVERSE -> forwardPlay = !forwardPlay;
+            case SKIP -> current = nextSeat(current);
+            case DRAW_TWO -> {
+                if (allowStacking) {
+                    pendingPenalty += 2;
+                } else {
+                    current = nextSeat(current);
+                    drawCards(current, 2);
+                }
+            }
+            case WILD_DRAW_FOUR -> {
+                if (allowStacking) {
+                    pendingPenalty += 4;
+                } else {
+                    current = nextSeat(current);
+                    drawCards(current, 4);
+                }
+            }
+            case NUMBER -> {
+                // A seat that plays its last card has won, so its empty hand is not passed on.
+                if (zerosRotate && CardCodec.numberOf(code) == 0 && handSize(mover) > 0) {
+                    rotateHands();
+                }
+                if (sevensSwitchHands && CardCodec.numberOf(code) == 7 && handSize(mover) > 0) {
+                    swapHands(mover, moveTarget(move));
+                }
+            }
+            default -> {
+                // Plain wilds only change the top state.
+            }
+        }
+
+        if (handSize(mover) == 0) {
+            winner = mover;
+        } else {
+            current = nextSeat(current);
+        }
+        turn++;
+    }
+
+    /**
+     * Gives a seat cards from the deck, shuffling the discard pile back in when the deck runs out.
+     *
+     * @param seat     the seat to give the cards to
+     * @param numCards the number of cards
+     */
+    private void drawCards(int seat, int numCards) {
+        int hand = handAt(seat);
+        for (int i = 0; i < numCards; i++) {
+            if (deckSize == 0) {
+                refillDeck();
+                if (deckSize == 0) return;
+            }
+            addCard(hand, deck[--deckSize]);
+        }
+    }
+
+    /**
+     * Gives a seat cards from the deck until it draws one it can play, shuffling the discard pile back in when
+     * the deck runs out.
+     *
+     * @param seat the seat to give the cards to
+     * @return {@code true} if the seat drew a playable card, {@code false} if every card ran out first
+     */
+    private boolean drawUntilPlayable(int seat) {
+        int hand = handAt(seat);
+        long playable = LegalMoves.mask(topState);
+        while (true) {
+            if (deckSize == 0) {
+                refillDeck();
+                if (deckSize == 0) return false;
+            }
+            int code = deck[--deckSize];
+            addCard(hand, code);
+            if ((playable & (1L << code)) != 0) return true;
+        }
+    }
+
+    /**
+     * Moves the discard pile into the deck and shuffles it.
+     */
+    private void refillDeck() {
+        System.arraycopy(discard, 0, deck, deckSize, discardSize);
+        deckSize += discardSize;
+        discardSize = 0;
+        for (int i = deckSize - 1; i > 0; i--) {
+            int j = nextInt(i + 1);
+            byte temp = deck[i];
+            deck[i] = deck[j];
+            deck[j] = temp;
+        }
+    }
+
+    /**
+     * Gets the hand held by a seat.
+     *
+     * @param seat the seat
+     * @return the index of the hand
+     */
+    private int handAt(int seat) {
+        return handOf[slot(seat)];
+    }
+
+    /**
+     * Gets the entry of {@link #handOf} that holds a seat's hand under the current rotation.
+     *
+     * @param seat the seat
+     * @return the index of the entry
+     */
+    private int slot(int seat) {
+        int slot = seat + rotation;
+        return slot < numPlayers ? slot : slot - numPlayers;
+    }
+
+    /**
+     * Passes every hand on to the next seat in the direction of play, the same way
+     * {@link Game#zeroCardRotateHands()} does. Only the rotation offset changes.
+     */
+    private void rotateHands() {
+        if (forwardPlay) {
+            rotation = rotation == 0 ? numPlayers - 1 : rotation - 1;
+        } else {
+            rotation = rotation == numPlayers - 1 ? 0 : rotation + 1;
+        }
+    }
+
+    /**
+     * Swaps the hands of two seats.
+     *
+     * @param seatOne the first seat
+     * @param seatTwo the second seat
+     */
+    private void swapHands(int seatOne, int seatTwo) {
+        int slotOne = slot(seatOne);
+        int slotTwo = slot(seatTwo);
+        int temp = handOf[slotOne];
+        handOf[slotOne] = handOf[slotTwo];
+        handOf[slotTwo] = temp;
+    }
+
+    /**
+     * Adds a card to a hand.
+     *
+     * @param hand the hand
+     * @param code the code of the card
+     */
+    private void addCard(int hand, int code) {
+        handCounts[hand * CardCodec.FACE_COUNT + code]++;
+        handSizes[hand]++;
+        faceMasks[hand] |= 1L << code;
+    }
+
+    /**
+     * Removes a card from a hand.
+     *
+     * @param hand the hand
+     * @param code the code of the card
+     * @return {@code true} if the card was removed, {@code false} if the hand had no such card
+     */
+    private boolean removeCard(int hand, int code) {
+        int index = hand * CardCodec.FACE_COUNT + code;
+        if (handCounts[index] == 0) {
+            return false;
+        }
+        if (--handCounts[index] == 0) {
+            faceMasks[hand] &= ~(1L << code);
+        }
+        handSizes[hand]--;
+        return true;
+    }
+
+    /**
+     * Gets the next number of the shuffle random sequence (SplitMix64), below the specified bound.
+     *
+     * @param bound the exclusive upper bound
+     * @return the random number
+     */
+    private int nextInt(int bound) {
+        long z = (shuffleSeed += GOLDEN_GAMMA);
+        z = (z ^ (z >>> 30)) * 0xbf58476d1ce4e5b9L;
+        z = (z ^ (z >>> 27)) * 0x94d049bb133111ebL;
+        z ^= z >>> 31;
+        return (int) (((z >>> 32) * bound) >>> 32);
+    }
+
+    //----------------------------------------------------BUILDING----------------------------------------------------
+
+    /**
+     * Gives a card to a seat, for building a state.
+     *
+     * @param seat the seat
+     * @param code the code of the card
+     */
+    void addToHand(int seat, int code) {
+        addCard(handAt(seat), code);
+    }
+
+    /**
+     * Puts a card on top of the deck, for building a state.
+     *
+     * @param code the code of the card
+     */
+    void addToDeck(int code) {
+        deck[deckSize++] = (byte) code;
+    }
+
+    /**
+     * Puts a card on the discard pile, under the top card, for building a state.
+     *
+     * @param code the code of the card
+     */
+    void addToDiscard(int code) {
+        discard[discardSize++] = (byte) code;
+    }
+
+    /**
+     * Sets the top state, direction of play, and current seat, for building a state.
+     *
+     * @param topState    the top state of the discard pile
+     * @param forwardPlay the direction of play
+     * @param current     the seat whose turn it is
+     */
+    void setPosition(int topState, boolean forwardPlay, int current) {
+        this.topState = topState;
+        this.forwardPlay = forwardPlay;
+        this.current = current;
+    }
+
+    /**
+     * Sets the number of cards the current seat must draw unless it stacks a draw card, for building a state.
+     *
+     * @param pendingPenalty the pending draw penalty
+     */
+    void setPendingPenalty(int pendingPenalty) {
+        this.pendingPenalty = pendingPenalty;
+    }
+
+    /**
+     * Sets the seed of the random sequence used when the deck is refilled.
+     *
+     * @param seed the seed
+     */
+    public void setShuffleSeed(long seed) {
+        this.shuffleSeed = seed;
+    }
+
+    /**
+     * Returns a string listing the hand sizes, top card, and whose turn it is.
+     *
+     * @return a string representation of the state
+     */
+    @Override
+    public String toString() {
+        int[] sizes = new int[numPlayers];
+        for (int seat = 0; seat < numPlayers; seat++) {
+            sizes[seat] = handSize(seat);
+        }
+        return "GameState[turn " + turn + ", seat " + current + ", top " + CardCodec.decode(
+                CardCodec.faceOfTopState(topState)) + (topState >= CardCodec.DECLARED_WILD ? " "
+                + CardCodec.colorOfTopState(topState) : "") + ", hands " + Arrays.toString(sizes) + "]";
+    }
+}
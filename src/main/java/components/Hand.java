@@ -0,0 +1,99 @@
+package components;
+
+import utils.CardType;
+import utils.Color;
+
+import java.util.List;
+
+/**
+ * The {@code Hand} interface represents the cards held by a player.
+ * <p>
+ * A hand is a {@link List} of {@link Card}s, so players can index, iterate, and remove cards as usual,
+ * but it also exposes the compact card codes (see {@link CardCodec}) so the game engine can check and move
+ * cards without going through {@code Card} objects.
+ * </p>
+ * <p>
+ * Cards in a hand are identified by their face: removing a card removes a card with the same code,
+ * and wild cards lose any color they had when they are added.
+ * </p>
+ *
+ * @author Riley Woolf
+ * @version 1.0
+ */
+public interface Hand extends List<Card> {
+    /**
+     * Gets the code of the card at the specified position in the hand.
+     *
+     * @param index the position of the card
+     * @return the code of the card
+     */
+    int codeAt(int index);
+
+    /**
+     * Gets the set of faces in the hand, with bit {@code code} set for every face held at least once.
+     *
+     * @return the mask of the faces in the hand
+     * @see LegalMoves
+     */
+    long faceMask();
+
+    /**
+     * Gets the number of cards with the specified code in the hand.
+     *
+     * @param code the code of the card face
+     * @return the number of such cards
+     */
+    int countOf(int code);
+
+    /**
+     * Gets the number of cards of the specified color in the hand. Wild cards have no color.
+     *
+     * @param color the color to count
+     * @return the number of cards of that color
+     */
+    int colorCount(Color color);
+
+    /**
+     * Gets the number of cards of the specified type in the hand.
+     *
+     * @param type the type to count
+     * @return the number of cards of that type
+     */
+    int typeCount(CardType type);
+
+    /**
+     * Gets the color with the most cards in the hand. Ties go to the color declared first in {@link Color}.
+     *
+     * @return the most common color
+     */
+    Color mostCommonColor();
+
+    /**
+     * Adds a card to the hand by its code.
+     *
+     * @param code the code of the card
+     */
+    void addCode(int code);
+
+    /**
+     * Adds several cards to the hand by their codes, as if each were added with {@link #addCode(int)}.
+     * Implementations can add them in bulk.
+     *
+     * @param codes  the array holding the codes of the cards
+     * @param offset the position of the first code
+     * @param length the number of cards to add
+     */
+    default void addCodes(byte[] codes, int offset, int length) {
+        for (int i = offset; i < offset + length; i++) {
+            addCode(codes[i]);
+        }
+    }
+
+    /**
+     * Removes one card with the specified code from the hand.
+     *
+     * @param code the code of the card
+     * @return {@code true} if a card was removed, {@code false} if the hand had no such card
+     */
+    boolean removeCode(int code);
+}
@@ -0,0 +1,106 @@
+package components;
+
+/**
+ * The {@code LegalMoves} class holds a precomputed table of which card faces can be played on each top state.
+ * <p>
+ * There are only {@link CardCodec#FACE_COUNT} card faces, so a set of faces fits in a {@code long}, with
+ * bit {@code code} set for each face in the set. The table stores one such mask per top state (see
+ * {@link CardCodec}), which turns the playable cards of a whole hand into a single AND:
+ * <pre>
+ * {@code
+ * long playable = LegalMoves.playable(hand.faceMask(), topState);
+ * int distinctPlayableFaces = Long.bitCount(playable);
+ * }
+ * </pre>
+ * </p>
+ *
+ * @author Riley Woolf
+ * @version 1.0
+ */
+public final class LegalMoves {
+    /**
+     * The faces that can be played on each top state, indexed by top state.
+     */
+    private static final long[] MASKS = new long[CardCodec.TOP_STATE_COUNT];
+
+    /**
+     * The faces of the Wild Draw Four.
+     */
+    private static final long WILD_DRAW_FOUR_FACES = 1L << CardCodec.WILD_DRAW_FOUR;
+
+    /**
+     * The faces of the Draw Two of every color.
+     */
+    private static final long DRAW_TWO_FACES;
+
+    static {
+        for (int topState = 0; topState < CardCodec.TOP_STATE_COUNT; topState++) {
+            long mask = 0L;
+            for (int code = 0; code < CardCodec.FACE_COUNT; code++) {
+                if (CardCodec.validMove(code, topState)) {
+                    mask |= 1L << code;
+                }
+            }
+            MASKS[topState] = mask;
+        }
+
+        long drawTwos = 0L;
+        for (int color = 0; color < 4; color++) {
+            drawTwos |= 1L << (color * CardCodec.RANKS_PER_COLOR + CardCodec.DRAW_TWO_RANK);
+        }
+        DRAW_TWO_FACES = drawTwos;
+    }
+
+    /**
+     * This class only has static methods.
+     */
+    private LegalMoves() {
+    }
+
+    /**
+     * Gets the mask of every face that can be played on the specified top state.
+     *
+     * @param topState the top state of the discard pile
+     * @return the mask of legal faces
+     */
+    public static long mask(int topState) {
+        return MASKS[topState];
+    }
+
+    /**
+     * Gets the faces of a hand that can be played on the specified top state.
+     *
+     * @param faceMask the mask of the faces in the hand
+     * @param topState the top state of the discard pile
+     * @return the mask of playable faces in the hand
+     */
+    public static long playable(long faceMask, int topState) {
+        return faceMask & MASKS[topState];
+    }
+
+    /**
+     * Checks if the specified face can be played on the specified top state.
+     *
+     * @param code     the code of the card face to play
+     * @param topState the top state of the discard pile
+     * @return {@code true} if the move is valid, {@code false} otherwise
+     */
+    public static boolean isLegal(int code, int topState) {
+        return (MASKS[topState] & (1L << code)) != 0;
+    }
+
+    /**
+     * Gets the faces of a hand that can be stacked onto a pending draw penalty under the stacking rule:
+     * a Draw Two of any color or a Wild Draw Four on a Draw Two, and only a Wild Draw Four on a Wild Draw Four.
+     *
+     * @param faceMask the mask of the faces in the hand
+     * @param topState the top state of the discard pile, a Draw Two or Wild Draw Four
+     * @return the mask of stackable faces in the hand
+     */
+    public static long stackable(long faceMask, int topState) {
+        if (CardCodec.faceOfTopState(topState) == CardCodec.WILD_DRAW_FOUR) {
+            return faceMask & WILD_DRAW_FOUR_FACES;
+        }
+        return faceMask & (DRAW_TWO_FACES | WILD_DRAW_FOUR_FACES);
+    }
+}
@@ -1,14 +1,12 @@
 package components;
 
-// TODO: add in rules to allow for draw until a valid card to play is drawn
-
 /**
  * The {@code SpecialRules} class represents the special rules that can be applied in a game of Uno.
  * These rules customize the gameplay by enabling or disabling specific features.
  *
  * <p>
  * Special rules include options such as stacking, zero card rotation, seven card hand-switching,
- * and allowing players to jump in during other players' turns.
+ * allowing players to jump in during other players' turns, and drawing until a playable card is drawn.
  * </p>
  *
  * <p>
@@ -21,7 +19,10 @@ package components;
  */
 public class SpecialRules {
     /**
-     * Flag indicating whether stacking is allowed (true for allowed, false for not allowed).
+     * Flag indicating whether stacking is allowed (true for allowed, false for not allowed). With stacking,
+     * a Draw Two or Wild Draw Four does not make the next player draw at once: they may pass the penalty on
+     * by stacking a draw card of their own (see {@link LegalMoves#stackable(long, int)}), and the first
+     * player who does not draws the whole penalty and loses their turn.
      */
     private final boolean allowStacking;
 
@@ -37,10 +38,17 @@ public class SpecialRules {
 
     /**
      * Flag indicating whether players are allowed to jump in during other players' turns
-     * (true for allowed, false for not allowed).
+     * (true for allowed, false for not allowed). A player holding a card identical to the one just played
+     * may play it out of turn, and play carries on from them.
      */
     private final boolean allowJumpIn;
 
+    /**
+     * Flag indicating whether a player who cannot or will not play keeps drawing until they draw a card
+     * they can play, and may then play it (true for enabled, false for drawing a single card and passing).
+     */
+    private final boolean drawUntilPlayable;
+
     /**
      * Constructs a new SpecialRules object with default settings (all rules set to false).
      */
@@ -49,6 +57,7 @@ public class SpecialRules {
         this.zerosRotate = false;
         this.sevensSwitchHands = false;
         this.allowJumpIn = false;
+        this.drawUntilPlayable = false;
     }
 
     /**
@@ -60,10 +69,25 @@ public class SpecialRules {
      * @param allowJumpIn        flag indicating whether players are allowed to jump in during other players' turns
      */
     public SpecialRules(boolean allowStacking, boolean zerosRotate, boolean sevensSwitchHands, boolean allowJumpIn) {
+        this(allowStacking, zerosRotate, sevensSwitchHands, allowJumpIn, false);
+    }
+
+    /**
+     * Constructs a new SpecialRules object with custom settings, including the draw-until-playable rule.
+     *
+     * @param allowStacking      flag indicating whether stacking is allowed
+     * @param zerosRotate        flag indicating whether zero card rotation is enabled
+     * @param sevensSwitchHands  flag indicating whether seven card hand-switching is enabled
+     * @param allowJumpIn        flag indicating whether players are allowed to jump in during other players' turns
+     * @param drawUntilPlayable  flag indicating whether players draw until they draw a card they can play
+     */
+    public SpecialRules(boolean allowStacking, boolean zerosRotate, boolean sevensSwitchHands, boolean allowJumpIn,
+                        boolean drawUntilPlayable) {
         this.allowStacking = allowStacking;
         this.zerosRotate = zerosRotate;
         this.sevensSwitchHands = sevensSwitchHands;
         this.allowJumpIn = allowJumpIn;
+        this.drawUntilPlayable = drawUntilPlayable;
     }
 
     /**
@@ -101,4 +125,13 @@ public class SpecialRules {
     public boolean isAllowJumpIn() {
         return allowJumpIn;
     }
+
+    /**
+     * Checks if players draw until they draw a card they can play.
+     *
+     * @return true if players draw until they can play, false otherwise
+     */
+    public boolean isDrawUntilPlayable() {
+        return drawUntilPlayable;
+    }
 }
@@ -0,0 +1,228 @@
+package components;
+
+/**
+ * The {@code TableView} class is what every player can see of a {@link Game}: the size of each hand, the
+ * direction of play, the number of turns so far, and the cards in the deck and discard pile.
+ * <p>
+ * The game keeps one view, updates it in place as cards move, and gives it to each of its players (see
+ * {@link components.players.Player#setTable(TableView)}), so a player can read the table during any
+ * decision without the game copying or boxing anything. The hand sizes are a plain {@code int} array
+ * behind a seat-to-hand table and a rotation offset, the same way {@link GameState} keeps its hands, so a
+ * 7 switching two hands swaps two indices and a 0 rotating every hand changes the offset alone. The
+ * discard pile counts come straight from the {@link DiscardPile}. Players can only read the view; only
+ * the game changes it.
+ * </p>
+ *
+ * @author Riley Woolf
+ * @version 1.0
+ */
+public class TableView {
+    /**
+     * The number of cards in each hand.
+     */
+    private final int[] handSizes;
+
+    /**
+     * The hand held by each seat, before the rotation is applied (see {@link #slot(int)}).
+     */
+    private final int[] handOf;
+
+    /**
+     * The number of places every seat's entry in {@link #handOf} has moved by zero rotations, from 0 to one
+     * less than the number of players.
+     */
+    private int rotation;
+
+    /**
+     * The deck of the game.
+     */
+    private final Deck deck;
+
+    /**
+     * The discard pile of the game.
+     */
+    private final DiscardPile discardPile;
+
+    /**
+     * Flag indicating the direction of play (true for forward, false for backward).
+     */
+    private boolean forwardPlay = true;
+
+    /**
+     * The number of turns started so far.
+     */
+    private int turnNumber;
+
+    /**
+     * Constructs a new view of a table with empty hands.
+     *
+     * @param numPlayers  the number of seats
+     * @param deck        the deck of the game
+     * @param discardPile the discard pile of the game
+     */
+    TableView(int numPlayers, Deck deck, DiscardPile discardPile) {
+        this.handSizes = new int[numPlayers];
+        this.handOf = new int[numPlayers];
+        for (int i = 0; i < numPlayers; i++) {
+            handOf[i] = i;
+        }
+        this.deck = deck;
+        this.discardPile = discardPile;
+    }
+
+    /**
+     * Gets the number of seats at the table.
+     *
+     * @return the number of players
+     */
+    public int getNumPlayers() {
+        return handSizes.length;
+    }
+
+    /**
+     * Gets the number of cards in a seat's hand.
+     *
+     * @param seat the index of the seat
+     * @return the number of cards in the hand
+     */
+    public int handSize(int seat) {
+        return handSizes[slot(seat)];
+    }
+
+    /**
+     * Gets the current direction of play.
+     *
+     * @return true if the play is in forward direction, false otherwise
+     */
+    public boolean isForwardPlay() {
+        return forwardPlay;
+    }
+
+    /**
+     * Gets the number of turns started so far, counting turns passed by drawing.
+     *
+     * @return the turn number, or 0 before the first turn
+     */
+    public int getTurnNumber() {
+        return turnNumber;
+    }
+
+    /**
+     * Gets the number of cards left in the deck.
+     *
+     * @return the number of cards in the deck
+     */
+    public int getDeckSize() {
+        return deck.size();
+    }
+
+    /**
+     * Gets the number of cards in the discard pile under the top card.
+     *
+     * @return the number of cards in the discard pile
+     */
+    public int getDiscardSize() {
+        return discardPile.size();
+    }
+
+    /**
+     * Gets the number of copies of a face in the discard pile under the top card. These cards have been
+     * played since the deck was last refilled, so they cannot be in any hand or in the deck.
+     *
+     * @param code the code of the face (see {@link CardCodec})
+     * @return the number of copies in the discard pile
+     */
+    public int discardCount(int code) {
+        return discardPile.countOf(code);
+    }
+
+    /**
+     * Empties every hand and puts the view back to the start of a game.
+     */
+    void reset() {
+        for (int i = 0; i < handSizes.length; i++) {
+            handSizes[i] = 0;
+            handOf[i] = i;
+        }
+        rotation = 0;
+        forwardPlay = true;
+        turnNumber = 0;
+    }
+
+    /**
+     * Changes the number of cards in a seat's hand.
+     *
+     * @param seat  the index of the seat
+     * @param delta the number of cards added, or removed if negative
+     */
+    void addToHand(int seat, int delta) {
+        handSizes[slot(seat)] += delta;
+    }
+
+    /**
+     * Swaps the hand sizes of two seats, after they switch hands.
+     *
+     * @param seatOne the index of the first seat
+     * @param seatTwo the index of the second seat
+     */
+    void swapHands(int seatOne, int seatTwo) {
+        int slotOne = handSlot(seatOne);
+        int slotTwo = handSlot(seatTwo);
+        int temp = handOf[slotOne];
+        handOf[slotOne] = handOf[slotTwo];
+        handOf[slotTwo] = temp;
+    }
+
+    /**
+     * Passes every hand size on to the next seat in the direction of play, after a zero rotates the hands.
+     *
+     * @param forwardPlay the direction of play
+     */
+    void rotateHands(boolean forwardPlay) {
+        int numPlayers = handSizes.length;
+        if (forwardPlay) {
+            rotation = rotation == 0 ? numPlayers - 1 : rotation - 1;
+        } else {
+            rotation = rotation == numPlayers - 1 ? 0 : rotation + 1;
+        }
+    }
+
+    /**
+     * Gets the index of the hand size of a seat.
+     *
+     * @param seat the index of the seat
+     * @return the index into {@link #handSizes}
+     */
+    private int slot(int seat) {
+        return handOf[handSlot(seat)];
+    }
+
+    /**
+     * Gets the entry of {@link #handOf} that holds a seat's hand under the current rotation.
+     *
+     * @param seat the index of the seat
+     * @return the index into {@link #handOf}
+     */
+    private int handSlot(int seat) {
+        int slot = seat + rotation;
+        return slot < handSizes.length ? slot : slot - handSizes.length;
+    }
+
+    /**
+     * Sets the direction of play.
+     *
+     * @param forwardPlay true for forward play, false for backward
+     */
+    void setForwardPlay(boolean forwardPlay) {
+        this.forwardPlay = forwardPlay;
+    }
+
+    /**
+     * Sets the number of turns started so far.
+     *
+     * @param turnNumber the turn number
+     */
+    void setTurnNumber(int turnNumber) {
+        this.turnNumber = turnNumber;
+    }
+}
@@ -0,0 +1,345 @@
+package components;
+
+import components.batch.ResultWriter;
+import components.players.Player;
+import components.players.PlayerFactory;
+import components.players.PlayerPool;
+import components.replay.ReplayLog;
+import components.replay.ReplayRecorder;
+import components.stats.GameStats;
+import components.stats.StatsRecorder;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * The {@code Tournament} class plays many games of Uno between the same seats and counts the wins of each seat.
+ * <p>
+ * The games are split into ranges and spread over a {@link ForkJoinPool}. Each range borrows a set of players
+ * from a {@link PlayerPool}, which builds them from the seats' {@link PlayerFactory}s the first time and lends
+ * the same players to later ranges, so no player or hand is ever shared between threads and a run creates
+ * only as many players as it has workers (see {@link #setPooledPlayers(boolean)}). Each range plays all
+ * of its games on one {@link Game}, {@linkplain Game#reset(long) reset} for each. Every range
+ * counts its wins, and optionally more statistics, in a private {@link GameStats}, and these are merged as
+ * the ranges are joined, so the workers never contend on a shared tally.
+ * </p>
+ * <p>
+ * Every game is seeded from the tournament's master seed and the game's number, and each game splits its
+ * own random sources from that seed, so no thread ever draws from a shared random source.
+ * </p>
+ * <p>
+ * Usage example:
+ * <pre>
+ * {@code
+ * List<PlayerFactory> seats = List.of(
+ *         index -> new MediumAIPlayer("Player 1", index, false),
+ *         index -> new DifficultAIPlayer("Player 2", index, false));
+ * Tournament tournament = new Tournament(seats, new SpecialRules(), Runtime.getRuntime().availableProcessors());
+ * TournamentResult result = tournament.run(1_000_000);
+ * }
+ * </pre>
+ * </p>
+ *
+ * @author Riley Woolf
+ * @version 1.0
+ */
+public class Tournament {
+    /**
+     * The number of ranges each thread gets on average, so that faster threads can steal the leftover work.
+     */
+    private static final int TASKS_PER_THREAD = 16;
+
+    /**
+     * The increment of the per-game seed sequence (the golden ratio, as used by {@link SplittableRandom}).
+     */
+    private static final long GOLDEN_GAMMA = 0x9e3779b97f4a7c15L;
+
+    /**
+     * The factories used to create the player for each seat.
+     */
+    private final List<PlayerFactory> playerFactories;
+
+    /**
+     * The pool the ranges borrow their players from.
+     */
+    private final PlayerPool playerPool;
+
+    /**
+     * The special rules used for every game in the tournament.
+     */
+    private final SpecialRules specialRules;
+
+    /**
+     * The number of threads used to play the games.
+     */
+    private final int threads;
+
+    /**
+     * The master seed every game's seed is derived from.
+     */
+    private final long seed;
+
+    /**
+     * The log every game is recorded to, or {@code null} if games are not recorded.
+     */
+    private ReplayLog replayLog;
+
+    /**
+     * Whether to collect statistics beyond the number of wins.
+     */
+    private boolean collectStats;
+
+    /**
+     * The writer every game's result is streamed to, or {@code null} if results are not written.
+     */
+    private ResultWriter resultWriter;
+
+    /**
+     * Whether the ranges borrow their players from the pool, rather than creating their own.
+     */
+    private boolean pooledPlayers = true;
+
+    /**
+     * Constructs a new Tournament with the specified seats, rules, and number of threads, and a random seed.
+     *
+     * @param playerFactories the factories used to create the player for each seat
+     * @param specialRules    the special rules used for every game
+     * @param threads         the number of threads used to play the games
+     */
+    public Tournament(List<PlayerFactory> playerFactories, SpecialRules specialRules, int threads) {
+        this(playerFactories, specialRules, threads, new SplittableRandom().nextLong());
+    }
+
+    /**
+     * Constructs a new Tournament with the specified seats, rules, number of threads, and master seed.
+     * <p>
+     * Each game's seed depends only on the master seed and the game's number, so a tournament with the
+     * same master seed gives the same results whatever the number of threads.
+     * </p>
+     *
+     * @param playerFactories the factories used to create the player for each seat
+     * @param specialRules    the special rules used for every game
+     * @param threads         the number of threads used to play the games
+     * @param seed            the master seed every game's seed is derived from
+     */
+    public Tournament(List<PlayerFactory> playerFactories, SpecialRules specialRules, int threads, long seed) {
+        if (playerFactories.size() < 2) {
+            throw new IllegalArgumentException("A tournament needs at least two players.");
+        }
+        if (threads < 1) {
+            throw new IllegalArgumentException("A tournament needs at least one thread.");
+        }
+        this.playerFactories = new ArrayList<>(playerFactories);
+        this.playerPool = new PlayerPool(playerFactories);
+        this.specialRules = specialRules;
+        this.threads = threads;
+        this.seed = seed;
+    }
+
+    /**
+     * Records every game played from now on to the specified log, with the game's number as its id.
+     *
+     * @param replayLog the log to record to, or {@code null} to stop recording
+     */
+    public void setReplayLog(ReplayLog replayLog) {
+        this.replayLog = replayLog;
+    }
+
+    /**
+     * Sets whether to collect statistics beyond the number of wins, such as game lengths, cards drawn,
+     * and hand sizes (see {@link GameStats}).
+     *
+     * @param collectStats {@code true} to collect the statistics, {@code false} to only count wins
+     */
+    public void setCollectStats(boolean collectStats) {
+        this.collectStats = collectStats;
+    }
+
+    /**
+     * Streams the result of every game played from now on to the specified writer. Each range of games
+     * formats its rows into its own buffer and hands them to the writer in batches.
+     *
+     * @param resultWriter the writer to stream to, or {@code null} to stop writing
+     */
+    public void setResultWriter(ResultWriter resultWriter) {
+        this.resultWriter = resultWriter;
+    }
+
+    /**
+     * Sets whether the ranges of games borrow their players from a pool shared by the tournament's workers,
+     * or create new players from the factories for every range. Both give the same results, since every
+     * game binds and resets its players; pooling is on by default.
+     *
+     * @param pooledPlayers {@code true} to reuse players across ranges, {@code false} to create new ones
+     */
+    public void setPooledPlayers(boolean pooledPlayers) {
+        this.pooledPlayers = pooledPlayers;
+    }
+
+    /**
+     * Plays the specified number of games and returns the number of wins for each seat.
+     *
+     * @param numGames the number of games to play
+     * @return the result of the tournament
+     */
+    public TournamentResult run(long numGames) {
+        if (numGames < 1) {
+            throw new IllegalArgumentException("A tournament needs at least one game.");
+        }
+
+        long grainSize = Math.max(1, numGames / ((long) threads * TASKS_PER_THREAD));
+        ForkJoinPool pool = new ForkJoinPool(threads);
+        GameStats stats;
+        try {
+            stats = pool.invoke(new GameRangeTask(0, numGames, grainSize));
+        } finally {
+            pool.shutdown();
+        }
+
+        // Label the seats from a set the games used, rather than building a new one.
+        List<Player> players = pooledPlayers ? playerPool.acquire() : playerPool.create();
+        List<String> names = new ArrayList<>(players.size());
+        List<String> types = new ArrayList<>(players.size());
+        for (Player player : players) {
+            names.add(player.getName());
+            types.add(player.getPlayerType());
+        }
+        if (pooledPlayers) {
+            playerPool.release(players);
+        }
+        return new TournamentResult(names, types, stats);
+    }
+
+    /**
+     * Gets the seed of the specified game of a tournament, by mixing the master seed and the game's number
+     * the same way {@link SplittableRandom} mixes its own seeds.
+     *
+     * @param masterSeed the master seed of the tournament
+     * @param gameNumber the number of the game
+     * @return the seed of the game
+     */
+    public static long gameSeed(long masterSeed, long gameNumber) {
+        long z = masterSeed + (gameNumber + 1) * GOLDEN_GAMMA;
+        z = (z ^ (z >>> 30)) * 0xbf58476d1ce4e5b9L;
+        z = (z ^ (z >>> 27)) * 0x94d049bb133111ebL;
+        return z ^ (z >>> 31);
+    }
+
+    /**
+     * The {@code GameRangeTask} class plays a range of games, splitting the range in half until it is
+     * no bigger than the grain size.
+     */
+    private class GameRangeTask extends RecursiveTask<GameStats> {
+        /**
+         * The serial version of the task, which is never serialized but inherits {@code Serializable}.
+         */
+        private static final long serialVersionUID = 1L;
+
+        /**
+         * The first game of the range (inclusive).
+         */
+        private final long start;
+
+        /**
+         * The last game of the range (exclusive).
+         */
+        private final long end;
+
+        /**
+         * The largest range that is played without being split further.
+         */
+        private final long grainSize;
+
+        /**
+         * Constructs a new task for the games in the range [start, end).
+         *
+         * @param start     the first game of the range (inclusive)
+         * @param end       the last game of the range (exclusive)
+         * @param grainSize the largest range that is played without being split further
+         */
+        GameRangeTask(long start, long end, long grainSize) {
+            this.start = start;
+            this.end = end;
+            this.grainSize = grainSize;
+        }
+
+        /**
+         * Plays the range of games, or splits it into two tasks if it is too big.
+         *
+         * @return the statistics of this range
+         */
+        @Override
+        protected GameStats compute() {
+            if (end - start <= grainSize) {
+                return playGames();
+            }
+
+            long middle = (start + end) >>> 1;
+            GameRangeTask left = new GameRangeTask(start, middle, grainSize);
+            GameRangeTask right = new GameRangeTask(middle, end, grainSize);
+            left.fork();
+            return right.compute().merge(left.join());
+        }
+
+        /**
+         * Plays every game in the range on the current thread.
+         *
+         * @return the statistics of this range
+         */
+        private GameStats playGames() {
+            GameStats stats = new GameStats(playerFactories.size());
+            // One game and one set of players serve the whole range, reset with each game's seed.
+            List<Player> players = pooledPlayers ? playerPool.acquire() : playerPool.create();
+            try {
+                playRange(players, stats);
+            } finally {
+                // Return the set even if a game threw, so it is not lost to the pool.
+                if (pooledPlayers) {
+                    playerPool.release(players);
+                }
+            }
+            return stats;
+        }
+
+        /**
+         * Plays every game in the range with one set of players.
+         *
+         * @param players the players, in seat order
+         * @param stats   the statistics of this range
+         */
+        private void playRange(List<Player> players, GameStats stats) {
+            StringBuilder rows = resultWriter == null ? null : new StringBuilder(ResultWriter.BATCH_SIZE);
+            Game game = null;
+            for (long i = start; i < end; i++) {
+                long gameSeed = gameSeed(seed, i);
+                if (game == null) {
+                    game = new Game(players, specialRules, gameSeed);
+                } else {
+                    game.reset(gameSeed);
+                }
+                if (replayLog != null) {
+                    game.addListener(new ReplayRecorder(replayLog, i, gameSeed, specialRules, players.size()));
+                }
+                if (collectStats) {
+                    game.addListener(new StatsRecorder(stats, game));
+                }
+                Player winner = game.play();
+                int winnerSeat = players.indexOf(winner);
+                stats.recordWin(winnerSeat);
+                if (rows != null) {
+                    resultWriter.getFormat().appendGame(rows, i, gameSeed, winnerSeat, game.getTurnCount());
+                    if (rows.length() >= ResultWriter.BATCH_SIZE) {
+                        resultWriter.write(rows);
+                        rows.setLength(0);
+                    }
+                }
+            }
+            if (rows != null && rows.length() > 0) {
+                resultWriter.write(rows);
+            }
+        }
+    }
+}
@@ -0,0 +1,158 @@
+package components;
+
+import components.stats.GameStats;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * The {@code TournamentResult} class holds the outcome of a {@link Tournament}: the number of games played,
+ * the number of games won by each seat, and any other statistics the tournament collected.
+ * <p>
+ * Win rates come with 95% Wilson score intervals, both per seat and per player type. A player type's win
+ * rate is the share of its seats' games that those seats won, so it is comparable between types however
+ * many seats each has.
+ * </p>
+ *
+ * @author Riley Woolf
+ * @version 1.0
+ */
+public class TournamentResult {
+    /**
+     * The name of the player in each seat.
+     */
+    private final List<String> names;
+
+    /**
+     * The type of the player in each seat.
+     */
+    private final List<String> seatTypes;
+
+    /**
+     * The statistics of the tournament, including the number of wins for each seat.
+     */
+    private final GameStats stats;
+
+    /**
+     * Constructs a new TournamentResult.
+     *
+     * @param names     the name of the player in each seat
+     * @param seatTypes the type of the player in each seat
+     * @param stats     the statistics of the tournament
+     */
+    public TournamentResult(List<String> names, List<String> seatTypes, GameStats stats) {
+        this.names = List.copyOf(names);
+        this.seatTypes = List.copyOf(seatTypes);
+        this.stats = stats;
+    }
+
+    /**
+     * Gets the number of seats in the tournament.
+     *
+     * @return the number of seats
+     */
+    public int getNumSeats() {
+        return stats.getNumSeats();
+    }
+
+    /**
+     * Gets the number of games played in the tournament.
+     *
+     * @return the number of games played
+     */
+    public long getNumGames() {
+        return stats.getGames();
+    }
+
+    /**
+     * Gets the name of the player in the specified seat.
+     *
+     * @param seat the index of the seat
+     * @return the name of the player in that seat
+     */
+    public String getName(int seat) {
+        return names.get(seat);
+    }
+
+    /**
+     * Gets the type of the player in the specified seat.
+     *
+     * @param seat the index of the seat
+     * @return the type of the player in that seat
+     */
+    public String getPlayerType(int seat) {
+        return seatTypes.get(seat);
+    }
+
+    /**
+     * Gets the number of games won by the player in the specified seat.
+     *
+     * @param seat the index of the seat
+     * @return the number of wins for that seat
+     */
+    public long getWins(int seat) {
+        return stats.getWins(seat);
+    }
+
+    /**
+     * Gets the statistics of the tournament. Statistics other than wins are only filled in if the
+     * tournament was asked to collect them.
+     *
+     * @return the statistics of the tournament
+     */
+    public GameStats getStats() {
+        return stats;
+    }
+
+    /**
+     * Gets the distinct player types of the tournament, in seat order.
+     *
+     * @return the player types
+     */
+    public List<String> getPlayerTypes() {
+        List<String> types = new ArrayList<>();
+        for (String type : seatTypes) {
+            if (!types.contains(type)) {
+                types.add(type);
+            }
+        }
+        return types;
+    }
+
+    /**
+     * Gets the number of games won by all the seats of a player type.
+     *
+     * @param playerType the player type
+     * @return the number of wins
+     */
+    public long getTypeWins(String playerType) {
+        long wins = 0;
+        for (int seat = 0; seat < seatTypes.size(); seat++) {
+            if (seatTypes.get(seat).equals(playerType)) {
+                wins += stats.getWins(seat);
+            }
+        }
+        return wins;
+    }
+
+    /**
+     * Gets the number of games played by all the seats of a player type, counting each game once per seat.
+     *
+     * @param playerType the player type
+     * @return the number of seat-games
+     */
+    public long getTypeGames(String playerType) {
+        long seats = seatTypes.stream().filter(playerType::equals).count();
+        return seats * stats.getGames();
+    }
+
+    /**
+     * Gets the 95% Wilson score interval of a player type's win rate.
+     *
+     * @param playerType the player type
+     * @return the lower and upper bounds of the interval
+     */
+    public double[] getTypeWinRateInterval(String playerType) {
+        return GameStats.wilsonInterval(getTypeWins(playerType), getTypeGames(playerType), GameStats.Z_95);
+    }
+}
@@ -0,0 +1,383 @@
+package components.batch;
+
+import components.SpecialRules;
+import components.players.AIPlayer;
+import components.players.DecisionCache;
+import components.players.DifficultAIPlayer;
+import components.players.EasyAIPlayer;
+import components.players.ISMCTSAIPlayer;
+import components.players.MediumAIPlayer;
+import components.players.PlayerFactory;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Properties;
+import java.util.Set;
+
+/**
+ * The {@code BatchConfig} class holds the settings of a batch run: the seats, the rules, the number of
+ * games and threads, the master seed, and where and how to write the results.
+ * <p>
+ * The settings are read from properties with the keys below, which can come from a config file, from
+ * {@code --key value} command-line arguments, or both, the arguments winning:
+ * </p>
+ * <ul>
+ *     <li>{@code players}: one code per seat, separated by commas: {@code e} (easy), {@code m} (medium),
+ *     {@code d} (difficult), or {@code s} (search), optionally followed by the iterations per move, as in
+ *     {@code s:500}. Required.</li>
+ *     <li>{@code rules}: the special rules, separated by commas, from {@code stacking}, {@code zeros},
+ *     {@code sevens}, {@code jumpIn}, and {@code drawUntilPlayable}, or {@code none}. Defaults to none.</li>
+ *     <li>{@code games}: the number of games. Required.</li>
+ *     <li>{@code threads}: the number of threads. Defaults to the number of cores.</li>
+ *     <li>{@code seed}: the master seed. Defaults to a random seed, which is reported with the results.</li>
+ *     <li>{@code format}: {@code csv} or {@code json}. Defaults to csv.</li>
+ *     <li>{@code out}: the file every game's row is streamed to. Defaults to none.</li>
+ *     <li>{@code summary}: the file the seat rows are written to. Defaults to standard output.</li>
+ *     <li>{@code cache}: the number of entries of a {@link DecisionCache} shared by the medium and difficult
+ *     players of every thread. Defaults to none, so every decision is worked out.</li>
+ * </ul>
+ *
+ * @author Riley Woolf
+ * @version 1.0
+ */
+public class BatchConfig {
+    /**
+     * The keys a config may set.
+     */
+    static final Set<String> KEYS = Set.of("players", "rules", "games", "threads", "seed", "format", "out",
+            "summary", "cache");
+
+    /**
+     * The player code of each seat.
+     */
+    private final List<String> players;
+
+    /**
+     * The special rules of every game.
+     */
+    private final SpecialRules specialRules;
+
+    /**
+     * The number of games.
+     */
+    private final long games;
+
+    /**
+     * The number of threads.
+     */
+    private final int threads;
+
+    /**
+     * The master seed, or {@code null} for a random one.
+     */
+    private final Long seed;
+
+    /**
+     * The format of the results.
+     */
+    private final ResultFormat format;
+
+    /**
+     * The file every game's row is streamed to, or {@code null} for none.
+     */
+    private final Path out;
+
+    /**
+     * The file the seat rows are written to, or {@code null} for standard output.
+     */
+    private final Path summary;
+
+    /**
+     * The cache of decisions shared by the rule-based players, or {@code null} for none.
+     */
+    private final DecisionCache decisionCache;
+
+    /**
+     * Constructs a config from properties.
+     *
+     * @param properties the settings, by key
+     * @throws IllegalArgumentException if a setting is missing or invalid
+     */
+    public BatchConfig(Properties properties) {
+        for (String key : properties.stringPropertyNames()) {
+            if (!KEYS.contains(key)) {
+                throw new IllegalArgumentException("Unknown setting \"" + key + "\".");
+            }
+        }
+
+        this.players = List.of(required(properties, "players").split("\\s*,\\s*"));
+        if (players.size() < 2) {
+            throw new IllegalArgumentException("A batch run needs at least two players.");
+        }
+        for (String code : players) {
+            playerFactory(code, "", null);
+        }
+        this.specialRules = parseRules(properties.getProperty("rules", "none"));
+        this.games = parseNumber(required(properties, "games"), "games");
+        this.threads = (int) parseNumber(properties.getProperty("threads",
+                String.valueOf(Runtime.getRuntime().availableProcessors())), "threads");
+        String seedValue = properties.getProperty("seed");
+        this.seed = seedValue == null ? null : parseSeed(seedValue);
+        this.format = ResultFormat.of(properties.getProperty("format", "csv"));
+        String outValue = properties.getProperty("out");
+        this.out = outValue == null ? null : Path.of(outValue);
+        String summaryValue = properties.getProperty("summary");
+        this.summary = summaryValue == null ? null : Path.of(summaryValue);
+        String cacheValue = properties.getProperty("cache");
+        this.decisionCache = cacheValue == null ? null : new DecisionCache((int) Math.min(
+                parseNumber(cacheValue, "cache"), Integer.MAX_VALUE));
+    }
+
+    /**
+     * Reads a config from command-line arguments. An argument {@code --config <file>} loads a properties
+     * file first, and every other {@code --key value} or {@code --key=value} argument overrides it.
+     *
+     * @param args the command-line arguments
+     * @return the config
+     * @throws IOException              if the config file cannot be read
+     * @throws IllegalArgumentException if an argument or setting is invalid
+     */
+    public static BatchConfig fromArgs(String[] args) throws IOException {
+        Properties file = new Properties();
+        Properties overrides = new Properties();
+        for (int i = 0; i < args.length; i++) {
+            String arg = args[i];
+            if (!arg.startsWith("--")) {
+                throw new IllegalArgumentException("Expected an option but found \"" + arg + "\".");
+            }
+            String key;
+            String value;
+            int equals = arg.indexOf('=');
+            if (equals >= 0) {
+                key = arg.substring(2, equals);
+                value = arg.substring(equals + 1);
+            } else if (i + 1 < args.length) {
+                key = arg.substring(2);
+                value = args[++i];
+            } else {
+                throw new IllegalArgumentException("The option " + arg + " needs a value.");
+            }
+
+            if (key.equals("config")) {
+                try (Reader reader = Files.newBufferedReader(Path.of(value), StandardCharsets.UTF_8)) {
+                    file.load(reader);
+                }
+            } else {
+                overrides.setProperty(key, value);
+            }
+        }
+        file.putAll(overrides);
+        return new BatchConfig(file);
+    }
+
+    /**
+     * Gets a setting that must be present.
+     *
+     * @param properties the settings
+     * @param key        the key of the setting
+     * @return the value of the setting
+     * @throws IllegalArgumentException if the setting is missing
+     */
+    private static String required(Properties properties, String key) {
+        String value = properties.getProperty(key);
+        if (value == null || value.isBlank()) {
+            throw new IllegalArgumentException("The setting \"" + key + "\" is required.");
+        }
+        return value.trim();
+    }
+
+    /**
+     * Parses a positive number.
+     *
+     * @param value the text of the number
+     * @param key   the key of the setting, for error messages
+     * @return the number
+     * @throws IllegalArgumentException if the text is not a positive number
+     */
+    private static long parseNumber(String value, String key) {
+        try {
+            long number = Long.parseLong(value.trim().replace("_", ""));
+            if (number < 1) {
+                throw new IllegalArgumentException("The setting \"" + key + "\" must be at least 1.");
+            }
+            return number;
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("The setting \"" + key + "\" must be a number, not \"" + value + "\".");
+        }
+    }
+
+    /**
+     * Parses a seed, in decimal or, with a {@code 0x} prefix, in hexadecimal.
+     *
+     * @param value the text of the seed
+     * @return the seed
+     * @throws IllegalArgumentException if the text is not a number
+     */
+    private static long parseSeed(String value) {
+        try {
+            value = value.trim();
+            return value.startsWith("0x") ? Long.parseUnsignedLong(value.substring(2), 16) : Long.parseLong(value);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("The seed must be a number, not \"" + value + "\".");
+        }
+    }
+
+    /**
+     * Parses a comma-separated list of rule names into special rules.
+     *
+     * @param value the rule names, or "none"
+     * @return the special rules
+     * @throws IllegalArgumentException if a rule name is unknown
+     */
+    static SpecialRules parseRules(String value) {
+        boolean stacking = false;
+        boolean zeros = false;
+        boolean sevens = false;
+        boolean jumpIn = false;
+        boolean drawUntilPlayable = false;
+        for (String rule : value.trim().split("\\s*,\\s*")) {
+            switch (rule) {
+                case "none", "" -> { }
+                case "stacking" -> stacking = true;
+                case "zeros" -> zeros = true;
+                case "sevens" -> sevens = true;
+                case "jumpIn" -> jumpIn = true;
+                case "drawUntilPlayable" -> drawUntilPlayable = true;
+                default -> throw new IllegalArgumentException("Unknown rule \"" + rule
+                        + "\", expected stacking, zeros, sevens, jumpIn, drawUntilPlayable, or none.");
+            }
+        }
+        return new SpecialRules(stacking, zeros, sevens, jumpIn, drawUntilPlayable);
+    }
+
+    /**
+     * Gets the factory for a player code. Search players search on one thread and without a time limit,
+     * since the batch already keeps every core busy and should give the same results on any machine.
+     *
+     * @param code          the player code
+     * @param name          the name of the player
+     * @param decisionCache the cache of decisions the medium and difficult players share, or {@code null}
+     * @return the factory for the player
+     * @throws IllegalArgumentException if the code is unknown
+     */
+    private static PlayerFactory playerFactory(String code, String name, DecisionCache decisionCache) {
+        String[] parts = code.split(":", 2);
+        if (parts.length == 2 && !parts[0].equals("s")) {
+            throw new IllegalArgumentException("Only search players (s) take a budget, not \"" + code + "\".");
+        }
+        return switch (parts[0]) {
+            case "e" -> index -> new EasyAIPlayer(name, index);
+            case "m" -> index -> cached(new MediumAIPlayer(name, index, false), decisionCache);
+            case "d" -> index -> cached(new DifficultAIPlayer(name, index, false), decisionCache);
+            case "s" -> {
+                int iterations = parts.length == 2 ? (int) parseNumber(parts[1], "players")
+                                                   : ISMCTSAIPlayer.DEFAULT_ITERATIONS;
+                yield index -> new ISMCTSAIPlayer(name, index, false, iterations, 0, 1);
+            }
+            default -> throw new IllegalArgumentException("Unknown player \"" + code
+                    + "\", expected e, m, d, or s (interactive players cannot play a batch).");
+        };
+    }
+
+    /**
+     * Gives a player a cache of decisions.
+     *
+     * @param player        the player
+     * @param decisionCache the cache, or {@code null} for none
+     * @return the player
+     */
+    private static AIPlayer cached(AIPlayer player, DecisionCache decisionCache) {
+        player.setDecisionCache(decisionCache);
+        return player;
+    }
+
+    /**
+     * Gets the factories for the seats, with players named "Player 1", "Player 2", and so on.
+     *
+     * @return the factory for each seat
+     */
+    public List<PlayerFactory> getPlayerFactories() {
+        List<PlayerFactory> factories = new ArrayList<>(players.size());
+        for (int i = 0; i < players.size(); i++) {
+            factories.add(playerFactory(players.get(i), "Player " + (i + 1), decisionCache));
+        }
+        return factories;
+    }
+
+    /**
+     * Gets the special rules of every game.
+     *
+     * @return the special rules
+     */
+    public SpecialRules getSpecialRules() {
+        return specialRules;
+    }
+
+    /**
+     * Gets the number of games.
+     *
+     * @return the number of games
+     */
+    public long getGames() {
+        return games;
+    }
+
+    /**
+     * Gets the number of threads.
+     *
+     * @return the number of threads
+     */
+    public int getThreads() {
+        return threads;
+    }
+
+    /**
+     * Gets the master seed.
+     *
+     * @return the master seed, or {@code null} for a random one
+     */
+    public Long getSeed() {
+        return seed;
+    }
+
+    /**
+     * Gets the format of the results.
+     *
+     * @return the format of the results
+     */
+    public ResultFormat getFormat() {
+        return format;
+    }
+
+    /**
+     * Gets the file every game's row is streamed to.
+     *
+     * @return the path of the file, or {@code null} for none
+     */
+    public Path getOut() {
+        return out;
+    }
+
+    /**
+     * Gets the file the seat rows are written to.
+     *
+     * @return the path of the file, or {@code null} for standard output
+     */
+    public Path getSummary() {
+        return summary;
+    }
+
+    /**
+     * Gets the cache of decisions shared by the rule-based players.
+     *
+     * @return the cache, or {@code null} for none
+     */
+    public DecisionCache getDecisionCache() {
+        return decisionCache;
+    }
+}
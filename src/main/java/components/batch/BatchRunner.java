@@ -0,0 +1,137 @@
+package components.batch;
+
+import components.Tournament;
+import components.TournamentResult;
+import components.players.DecisionCache;
+
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.PrintStream;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.SplittableRandom;
+
+/**
+ * The {@code BatchRunner} class plays a tournament without asking any questions, as set up by a
+ * {@link BatchConfig}, and writes its results for scripts to read.
+ * <p>
+ * The row of every game is streamed to the {@code out} file while the tournament runs, and a row per seat
+ * is written at the end, to standard output unless a {@code summary} file is given. A line describing the
+ * run, including the master seed needed to play it again, goes to standard error. For example:
+ * <pre>
+ * {@code
+ * java -jar uno.jar --players d,m,m,e --rules zeros,sevens --games 1000000 --seed 42 --format json --out games.jsonl
+ * java -jar uno.jar --config nightly.properties --seed 43
+ * }
+ * </pre>
+ * </p>
+ *
+ * @author Riley Woolf
+ * @version 1.0
+ */
+public class BatchRunner {
+    /**
+     * The usage message printed for invalid arguments.
+     */
+    static final String USAGE = """
+            Usage: --players <e|m|d|s[:iterations],...> --games <n>
+                   [--rules <stacking,zeros,sevens,jumpIn,drawUntilPlayable|none>]
+                   [--threads <n>] [--seed <n>] [--format <csv|json>] [--out <file>] [--summary <file>]
+                   [--cache <entries>] [--config <properties file>]""";
+
+    /**
+     * The settings of the run.
+     */
+    private final BatchConfig config;
+
+    /**
+     * Constructs a new runner.
+     *
+     * @param config the settings of the run
+     */
+    public BatchRunner(BatchConfig config) {
+        this.config = config;
+    }
+
+    /**
+     * Plays the tournament and writes its results.
+     *
+     * @param log the stream the description of the run is written to
+     * @return the result of the tournament
+     * @throws IOException if a result file cannot be written
+     */
+    public TournamentResult run(PrintStream log) throws IOException {
+        long seed = config.getSeed() != null ? config.getSeed() : new SplittableRandom().nextLong();
+        Tournament tournament = new Tournament(config.getPlayerFactories(), config.getSpecialRules(),
+                config.getThreads(), seed);
+
+        long start = System.nanoTime();
+        TournamentResult result;
+        if (config.getOut() != null) {
+            try (ResultWriter writer = new ResultWriter(config.getOut(), config.getFormat())) {
+                tournament.setResultWriter(writer);
+                result = tournament.run(config.getGames());
+            }
+        } else {
+            result = tournament.run(config.getGames());
+        }
+        double seconds = (System.nanoTime() - start) / 1e9;
+
+        writeSummary(result);
+        log.printf("Played %d games on %d threads in %.1f s (%.0f games/s), seed %d.%n",
+                result.getNumGames(), config.getThreads(), seconds, result.getNumGames() / seconds, seed);
+        DecisionCache cache = config.getDecisionCache();
+        if (cache != null) {
+            log.printf("Decision cache of %d entries: %.1f%% hit rate, %d hits, %d misses, %d evictions.%n",
+                    cache.getCapacity(), cache.getHitRate() * 100, cache.getHits(), cache.getMisses(),
+                    cache.getEvictions());
+        }
+        return result;
+    }
+
+    /**
+     * Writes a row for each seat, to the summary file or standard output.
+     *
+     * @param result the result of the tournament
+     * @throws IOException if the summary file cannot be written
+     */
+    private void writeSummary(TournamentResult result) throws IOException {
+        ResultFormat format = config.getFormat();
+        StringBuilder rows = new StringBuilder(format.seatHeader());
+        for (int i = 0; i < result.getNumSeats(); i++) {
+            format.appendSeat(rows, i, result.getName(i), result.getPlayerType(i), result.getNumGames(),
+                    result.getWins(i), result.getStats().getWinRateInterval(i));
+        }
+
+        if (config.getSummary() != null) {
+            try (Writer writer = Files.newBufferedWriter(config.getSummary(), StandardCharsets.UTF_8)) {
+                writer.append(rows);
+            }
+        } else {
+            Writer writer = new OutputStreamWriter(System.out, StandardCharsets.UTF_8);
+            writer.append(rows);
+            writer.flush();
+        }
+    }
+
+    /**
+     * Plays a batch from the command line. Invalid arguments print the problem and the usage, and exit
+     * with status 2.
+     *
+     * @param args the command-line arguments, see {@link BatchConfig}
+     * @throws IOException if the config file cannot be read or a result file cannot be written
+     */
+    public static void main(String[] args) throws IOException {
+        BatchConfig config;
+        try {
+            config = BatchConfig.fromArgs(args);
+        } catch (IllegalArgumentException e) {
+            System.err.println(e.getMessage());
+            System.err.println(USAGE);
+            System.exit(2);
+            return;
+        }
+        new BatchRunner(config).run(System.err);
+    }
+}
@@ -0,0 +1,178 @@
+package components.batch;
+
+import java.util.Locale;
+
+/**
+ * The {@code ResultFormat} enum lists the formats a batch run can write its results in, and formats the
+ * rows of each.
+ * <p>
+ * Both formats write one line per record, so results can be streamed, concatenated, and read back a line
+ * at a time. A game row holds the game's number, its seed, the winning seat, and the number of turns; a
+ * seat row holds a seat's wins and its win rate with a 95% confidence interval.
+ * </p>
+ *
+ * @author Riley Woolf
+ * @version 1.0
+ */
+public enum ResultFormat {
+    /**
+     * Comma-separated values, with a header line.
+     */
+    CSV {
+        @Override
+        public String gameHeader() {
+            return "game,seed,winner,turns\n";
+        }
+
+        @Override
+        public void appendGame(StringBuilder rows, long game, long seed, int winner, int turns) {
+            rows.append(game).append(',').append(seed).append(',').append(winner).append(',').append(turns)
+                    .append('\n');
+        }
+
+        @Override
+        public String seatHeader() {
+            return "seat,name,type,games,wins,win_rate,ci_low,ci_high\n";
+        }
+
+        @Override
+        public void appendSeat(StringBuilder rows, int seat, String name, String type, long games, long wins,
+                               double[] interval) {
+            rows.append(seat).append(',').append(quote(name)).append(',').append(quote(type)).append(',')
+                    .append(games).append(',').append(wins).append(',')
+                    .append(decimal(games == 0 ? 0 : (double) wins / games)).append(',')
+                    .append(decimal(interval[0])).append(',').append(decimal(interval[1])).append('\n');
+        }
+
+        /**
+         * Quotes a value if it holds a comma or a quote.
+         *
+         * @param value the value
+         * @return the value, quoted if needed
+         */
+        private String quote(String value) {
+            if (value.indexOf(',') < 0 && value.indexOf('"') < 0) {
+                return value;
+            }
+            return '"' + value.replace("\"", "\"\"") + '"';
+        }
+    },
+
+    /**
+     * JSON lines: one JSON object per line, and no header.
+     */
+    JSON {
+        @Override
+        public String gameHeader() {
+            return "";
+        }
+
+        @Override
+        public void appendGame(StringBuilder rows, long game, long seed, int winner, int turns) {
+            rows.append("{\"game\":").append(game).append(",\"seed\":").append(seed).append(",\"winner\":")
+                    .append(winner).append(",\"turns\":").append(turns).append("}\n");
+        }
+
+        @Override
+        public String seatHeader() {
+            return "";
+        }
+
+        @Override
+        public void appendSeat(StringBuilder rows, int seat, String name, String type, long games, long wins,
+                               double[] interval) {
+            rows.append("{\"seat\":").append(seat).append(",\"name\":").append(string(name))
+                    .append(",\"type\":").append(string(type)).append(",\"games\":").append(games)
+                    .append(",\"wins\":").append(wins)
+                    .append(",\"winRate\":").append(decimal(games == 0 ? 0 : (double) wins / games))
+                    .append(",\"ciLow\":").append(decimal(interval[0]))
+                    .append(",\"ciHigh\":").append(decimal(interval[1])).append("}\n");
+        }
+
+        /**
+         * Writes a value as a JSON string.
+         *
+         * @param value the value
+         * @return the value, quoted and escaped
+         */
+        private String string(String value) {
+            StringBuilder json = new StringBuilder(value.length() + 2).append('"');
+            for (int i = 0; i < value.length(); i++) {
+                char c = value.charAt(i);
+                if (c == '"' || c == '\\') {
+                    json.append('\\').append(c);
+                } else if (c < ' ') {
+                    json.append(String.format("\\u%04x", (int) c));
+                } else {
+                    json.append(c);
+                }
+            }
+            return json.append('"').toString();
+        }
+    };
+
+    /**
+     * Gets the line written before the game rows.
+     *
+     * @return the header line, or an empty string if the format has none
+     */
+    public abstract String gameHeader();
+
+    /**
+     * Appends the row of one game.
+     *
+     * @param rows   the rows to append to
+     * @param game   the number of the game
+     * @param seed   the seed of the game
+     * @param winner the winning seat
+     * @param turns  the number of turns the game took
+     */
+    public abstract void appendGame(StringBuilder rows, long game, long seed, int winner, int turns);
+
+    /**
+     * Gets the line written before the seat rows.
+     *
+     * @return the header line, or an empty string if the format has none
+     */
+    public abstract String seatHeader();
+
+    /**
+     * Appends the row of one seat's results.
+     *
+     * @param rows     the rows to append to
+     * @param seat     the seat
+     * @param name     the name of the seat's player
+     * @param type     the type of the seat's player
+     * @param games    the number of games played
+     * @param wins     the number of games the seat won
+     * @param interval the lower and upper bounds of the 95% confidence interval of the seat's win rate
+     */
+    public abstract void appendSeat(StringBuilder rows, int seat, String name, String type, long games, long wins,
+                                    double[] interval);
+
+    /**
+     * Formats a fraction with six decimal places, whatever the default locale.
+     *
+     * @param value the fraction
+     * @return the formatted fraction
+     */
+    private static String decimal(double value) {
+        return String.format(Locale.ROOT, "%.6f", value);
+    }
+
+    /**
+     * Gets the format with the specified name, ignoring case.
+     *
+     * @param name the name of the format, "csv" or "json"
+     * @return the format
+     * @throws IllegalArgumentException if there is no format with that name
+     */
+    public static ResultFormat of(String name) {
+        for (ResultFormat format : values()) {
+            if (format.name().equalsIgnoreCase(name)) {
+                return format;
+            }
+        }
+        throw new IllegalArgumentException("Unknown result format \"" + name + "\", expected csv or json.");
+    }
+}
@@ -0,0 +1,99 @@
+package components.batch;
+
+import java.io.BufferedWriter;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * The {@code ResultWriter} class streams the row of every game of a tournament to a file.
+ * <p>
+ * The threads of a tournament format their rows into their own buffers and hand them over a batch at a
+ * time (see {@link #BATCH_SIZE}), so the writer is only locked once every few thousand games, and the rows
+ * of a batch stay together. Batches from different threads are interleaved, so the rows are not in game
+ * order; every row carries its game's number. The writer must be {@linkplain #close() closed} to write out
+ * the last rows.
+ * </p>
+ *
+ * @author Riley Woolf
+ * @version 1.0
+ */
+public class ResultWriter implements Closeable {
+    /**
+     * The number of characters a thread gathers before handing its rows to the writer.
+     */
+    public static final int BATCH_SIZE = 1 << 16;
+
+    /**
+     * The format of the rows.
+     */
+    private final ResultFormat format;
+
+    /**
+     * The file the rows are written to.
+     */
+    private final Writer out;
+
+    /**
+     * Opens a file for the rows of a tournament, replacing it if it exists, and writes the header.
+     *
+     * @param file   the path of the file
+     * @param format the format of the rows
+     * @throws IOException if the file cannot be opened or written
+     */
+    public ResultWriter(Path file, ResultFormat format) throws IOException {
+        this(new BufferedWriter(new OutputStreamWriter(Files.newOutputStream(file), StandardCharsets.UTF_8),
+                BATCH_SIZE), format);
+    }
+
+    /**
+     * Constructs a new writer over a character stream and writes the header.
+     *
+     * @param out    the stream the rows are written to
+     * @param format the format of the rows
+     * @throws IOException if the header cannot be written
+     */
+    public ResultWriter(Writer out, ResultFormat format) throws IOException {
+        this.out = out;
+        this.format = format;
+        out.write(format.gameHeader());
+    }
+
+    /**
+     * Gets the format of the rows.
+     *
+     * @return the format of the rows
+     */
+    public ResultFormat getFormat() {
+        return format;
+    }
+
+    /**
+     * Writes a batch of rows.
+     *
+     * @param rows the rows, each ending with a line break
+     * @throws UncheckedIOException if the rows cannot be written
+     */
+    public synchronized void write(CharSequence rows) {
+        try {
+            out.append(rows);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not write the game results.", e);
+        }
+    }
+
+    /**
+     * Writes out every buffered row and closes the file.
+     *
+     * @throws IOException if the file cannot be written or closed
+     */
+    @Override
+    public synchronized void close() throws IOException {
+        out.close();
+    }
+}
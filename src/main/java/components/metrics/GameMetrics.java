@@ -0,0 +1,352 @@
+package components.metrics;
+
+import utils.CardType;
+
+import javax.management.JMException;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * The {@code GameMetrics} class counts where the time of {@code Game.play()} goes: how long players take to
+ * decide, how often decks are drawn from and reshuffled, which branches of the special card handling are
+ * taken, and how many games finish per second.
+ * <p>
+ * The metrics are off unless the JVM is started with {@code -Duno.metrics=true}. The game checks
+ * {@link #ENABLED} before every measurement, and since it is a {@code static final} field the JIT compiler
+ * drops the measurements entirely when it is false, so disabled metrics cost nothing. When enabled, the
+ * metrics are registered with the platform MBean server as {@value #OBJECT_NAME}, where JConsole or any
+ * other JMX client can watch a long tournament while it runs.
+ * </p>
+ * <p>
+ * Every counter is a {@link LongAdder} and every histogram a {@link LatencyHistogram}, so the threads of a
+ * tournament record into them without contending.
+ * </p>
+ *
+ * @author Riley Woolf
+ * @version 1.0
+ */
+public class GameMetrics implements GameMetricsMXBean {
+    /**
+     * Whether the metrics are recorded, set by the {@code uno.metrics} system property.
+     */
+    public static final boolean ENABLED = Boolean.getBoolean("uno.metrics");
+
+    /**
+     * The name the metrics are registered under.
+     */
+    public static final String OBJECT_NAME = "components:type=GameMetrics";
+
+    /**
+     * The metrics of every game in this JVM.
+     */
+    private static final GameMetrics INSTANCE = new GameMetrics();
+
+    static {
+        if (ENABLED) {
+            INSTANCE.register();
+        }
+    }
+
+    /**
+     * The number of games finished.
+     */
+    private final LongAdder games = new LongAdder();
+
+    /**
+     * The number of cards drawn from decks.
+     */
+    private final LongAdder deckDraws = new LongAdder();
+
+    /**
+     * The number of times a deck ran out and was refilled.
+     */
+    private final LongAdder reshuffles = new LongAdder();
+
+    /**
+     * The number of times each special card branch was taken.
+     */
+    private final LongAdder[] branches = new LongAdder[Branch.values().length];
+
+    /**
+     * The decision latencies, by player type and then decision.
+     */
+    private final Map<String, LatencyHistogram[]> latencies = new ConcurrentHashMap<>();
+
+    /**
+     * The time the throughput was last sampled.
+     */
+    private long lastSampleNanos = System.nanoTime();
+
+    /**
+     * The number of games finished when the throughput was last sampled.
+     */
+    private long lastSampleGames;
+
+    /**
+     * The {@code Decision} enum lists the decisions a game asks of its players.
+     */
+    public enum Decision {
+        /**
+         * Playing a card or drawing.
+         */
+        PLAY,
+
+        /**
+         * Choosing the color of a wild.
+         */
+        CHOOSE_COLOR,
+
+        /**
+         * Choosing a player to switch hands with after a 7.
+         */
+        SWITCH_HANDS,
+
+        /**
+         * Choosing whether to jump in with a card identical to the one just played.
+         */
+        JUMP_IN
+    }
+
+    /**
+     * The {@code Branch} enum lists the branches of the game's special card handling.
+     */
+    public enum Branch {
+        /**
+         * A number card, whether or not a special rule applies to it.
+         */
+        NUMBER,
+
+        /**
+         * A Skip card.
+         */
+        SKIP,
+
+        /**
+         * A Reverse card.
+         */
+        REVERSE,
+
+        /**
+         * A Draw Two card.
+         */
+        DRAW_TWO,
+
+        /**
+         * A Wild card.
+         */
+        WILD,
+
+        /**
+         * A Wild Draw Four card.
+         */
+        WILD_DRAW_FOUR,
+
+        /**
+         * A 0 rotating every hand, also counted as {@link #NUMBER}.
+         */
+        ZEROS_ROTATE,
+
+        /**
+         * A 7 switching two hands, also counted as {@link #NUMBER}.
+         */
+        SEVENS_SWITCH;
+
+        /**
+         * Gets the branch a card type takes, before any special rule.
+         *
+         * @param type the card type
+         * @return the branch
+         */
+        public static Branch of(CardType type) {
+            return switch (type) {
+                case NUMBER -> NUMBER;
+                case SKIP -> SKIP;
+                case REVERSE -> REVERSE;
+                case DRAW_TWO -> DRAW_TWO;
+                case WILD -> WILD;
+                case WILD_DRAW_FOUR -> WILD_DRAW_FOUR;
+            };
+        }
+    }
+
+    /**
+     * Constructs new, unregistered metrics. Games record into the shared metrics of {@link #get()}.
+     */
+    GameMetrics() {
+        for (int i = 0; i < branches.length; i++) {
+            branches[i] = new LongAdder();
+        }
+    }
+
+    /**
+     * Gets the metrics of every game in this JVM. Games only record into them if {@link #ENABLED} is true.
+     *
+     * @return the shared metrics
+     */
+    public static GameMetrics get() {
+        return INSTANCE;
+    }
+
+    /**
+     * Registers the metrics with the platform MBean server.
+     *
+     * @throws IllegalStateException if the metrics cannot be registered
+     */
+    private void register() {
+        try {
+            ManagementFactory.getPlatformMBeanServer().registerMBean(this, new ObjectName(OBJECT_NAME));
+        } catch (JMException e) {
+            throw new IllegalStateException("Could not register the game metrics as " + OBJECT_NAME + ".", e);
+        }
+    }
+
+    //----------------------------------------------------RECORDING----------------------------------------------------
+
+    /**
+     * Counts a finished game.
+     */
+    public void countGame() {
+        games.increment();
+    }
+
+    /**
+     * Counts a card drawn from a deck.
+     */
+    public void countDeckDraw() {
+        deckDraws.increment();
+    }
+
+    /**
+     * Counts cards drawn from a deck in bulk.
+     *
+     * @param numCards the number of cards drawn
+     */
+    public void countDeckDraws(int numCards) {
+        deckDraws.add(numCards);
+    }
+
+    /**
+     * Counts a deck refilled because it ran out.
+     */
+    public void countReshuffle() {
+        reshuffles.increment();
+    }
+
+    /**
+     * Counts a special card branch taken.
+     *
+     * @param branch the branch
+     */
+    public void countBranch(Branch branch) {
+        branches[branch.ordinal()].increment();
+    }
+
+    /**
+     * Gets the histograms a player type's decisions are recorded into, indexed by {@link Decision} ordinal.
+     * A game looks these up once per seat, so recording a decision is a single histogram update.
+     *
+     * @param playerType the player type
+     * @return the histogram of each decision
+     */
+    public LatencyHistogram[] decisionLatencies(String playerType) {
+        return latencies.computeIfAbsent(playerType, type -> {
+            LatencyHistogram[] histograms = new LatencyHistogram[Decision.values().length];
+            for (int i = 0; i < histograms.length; i++) {
+                histograms[i] = new LatencyHistogram();
+            }
+            return histograms;
+        });
+    }
+
+    //-----------------------------------------------------MXBEAN------------------------------------------------------
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public long getGames() {
+        return games.sum();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public synchronized double getGamesPerSecond() {
+        long now = System.nanoTime();
+        long finished = games.sum();
+        double seconds = (now - lastSampleNanos) / 1e9;
+        double rate = seconds <= 0 ? 0 : (finished - lastSampleGames) / seconds;
+        lastSampleNanos = now;
+        lastSampleGames = finished;
+        return rate;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public long getDeckDraws() {
+        return deckDraws.sum();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public long getReshuffles() {
+        return reshuffles.sum();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Map<String, Long> getSpecialCardBranches() {
+        Map<String, Long> counts = new LinkedHashMap<>();
+        for (Branch branch : Branch.values()) {
+            counts.put(branch.name(), branches[branch.ordinal()].sum());
+        }
+        return counts;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Map<String, LatencySnapshot> getDecisionLatencies() {
+        Map<String, LatencySnapshot> snapshots = new TreeMap<>();
+        latencies.forEach((type, histograms) -> {
+            for (Decision decision : Decision.values()) {
+                snapshots.put(type + " " + decision.name().toLowerCase(),
+                        histograms[decision.ordinal()].snapshot());
+            }
+        });
+        return snapshots;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public synchronized void reset() {
+        games.reset();
+        deckDraws.reset();
+        reshuffles.reset();
+        for (LongAdder branch : branches) {
+            branch.reset();
+        }
+        for (LatencyHistogram[] histograms : latencies.values()) {
+            for (LatencyHistogram histogram : histograms) {
+                histogram.reset();
+            }
+        }
+        lastSampleNanos = System.nanoTime();
+        lastSampleGames = 0;
+    }
+}
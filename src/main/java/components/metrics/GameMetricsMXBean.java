@@ -0,0 +1,60 @@
+package components.metrics;
+
+import java.util.Map;
+
+/**
+ * The {@code GameMetricsMXBean} interface is the management interface of {@link GameMetrics}, as seen from
+ * JConsole or any other JMX client under the name {@value GameMetrics#OBJECT_NAME}.
+ *
+ * @author Riley Woolf
+ * @version 1.0
+ */
+public interface GameMetricsMXBean {
+    /**
+     * Gets the number of games finished.
+     *
+     * @return the number of games
+     */
+    long getGames();
+
+    /**
+     * Gets the number of games finished per second since this attribute was last read, or since the
+     * metrics were started or reset.
+     *
+     * @return the throughput in games per second
+     */
+    double getGamesPerSecond();
+
+    /**
+     * Gets the number of cards drawn from decks.
+     *
+     * @return the number of draws
+     */
+    long getDeckDraws();
+
+    /**
+     * Gets the number of times a deck was refilled and shuffled because it ran out.
+     *
+     * @return the number of reshuffles
+     */
+    long getReshuffles();
+
+    /**
+     * Gets the number of times each branch of the game's special card handling was taken.
+     *
+     * @return the count of each branch, by name
+     */
+    Map<String, Long> getSpecialCardBranches();
+
+    /**
+     * Gets the latencies of player decisions, by player type and decision, e.g. "Difficult AI play".
+     *
+     * @return the latency summary of each player type and decision
+     */
+    Map<String, LatencySnapshot> getDecisionLatencies();
+
+    /**
+     * Sets every counter and histogram back to zero.
+     */
+    void reset();
+}
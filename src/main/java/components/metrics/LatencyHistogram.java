@@ -0,0 +1,121 @@
+package components.metrics;
+
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * The {@code LatencyHistogram} class counts latencies in power-of-two buckets of nanoseconds.
+ * <p>
+ * Bucket {@code i} holds the latencies of {@code i} significant bits, so finding a latency's bucket is one
+ * {@link Long#numberOfLeadingZeros(long)}, and percentiles are accurate to within a factor of two, which is
+ * plenty to tell a microsecond decision from a millisecond one. The buckets are {@link LongAdder}s, so the
+ * threads of a tournament can record into the same histogram without contending on one counter.
+ * </p>
+ *
+ * @author Riley Woolf
+ * @version 1.0
+ */
+public class LatencyHistogram {
+    /**
+     * The number of buckets, one for each possible number of significant bits of a non-negative long.
+     */
+    static final int BUCKETS = 64;
+
+    /**
+     * The number of latencies in each bucket.
+     */
+    private final LongAdder[] buckets = new LongAdder[BUCKETS];
+
+    /**
+     * The total of the recorded latencies.
+     */
+    private final LongAdder totalNanos = new LongAdder();
+
+    /**
+     * The largest recorded latency.
+     */
+    private final LongAccumulator maxNanos = new LongAccumulator(Math::max, 0);
+
+    /**
+     * Constructs a new, empty histogram.
+     */
+    public LatencyHistogram() {
+        for (int i = 0; i < BUCKETS; i++) {
+            buckets[i] = new LongAdder();
+        }
+    }
+
+    /**
+     * Records a latency.
+     *
+     * @param nanos the latency in nanoseconds; negative latencies are counted as zero
+     */
+    public void record(long nanos) {
+        nanos = Math.max(0, nanos);
+        buckets[BUCKETS - Long.numberOfLeadingZeros(nanos)].increment();
+        totalNanos.add(nanos);
+        maxNanos.accumulate(nanos);
+    }
+
+    /**
+     * Gets the number of recorded latencies.
+     *
+     * @return the number of latencies
+     */
+    public long getCount() {
+        long count = 0;
+        for (LongAdder bucket : buckets) {
+            count += bucket.sum();
+        }
+        return count;
+    }
+
+    /**
+     * Estimates a percentile of the recorded latencies as the upper bound of the bucket it falls in, capped
+     * at the largest recorded latency.
+     *
+     * @param fraction the percentile as a fraction, between 0 and 1
+     * @return the estimated latency in nanoseconds, or 0 if nothing has been recorded
+     */
+    public long getPercentile(double fraction) {
+        long[] counts = new long[BUCKETS];
+        long count = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            counts[i] = buckets[i].sum();
+            count += counts[i];
+        }
+        long rank = (long) Math.ceil(fraction * count);
+        long seen = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            seen += counts[i];
+            if (seen >= rank && counts[i] > 0) {
+                long upperBound = i == BUCKETS - 1 ? Long.MAX_VALUE : (1L << i) - 1;
+                return Math.min(upperBound, maxNanos.get());
+            }
+        }
+        return 0;
+    }
+
+    /**
+     * Takes a snapshot of the histogram's summary.
+     *
+     * @return the summary of the recorded latencies
+     */
+    public LatencySnapshot snapshot() {
+        long count = getCount();
+        double mean = count == 0 ? 0 : (double) totalNanos.sum() / count;
+        return new LatencySnapshot(count, mean, getPercentile(0.5), getPercentile(0.9), getPercentile(0.99),
+                maxNanos.get());
+    }
+
+    /**
+     * Forgets every recorded latency. Latencies recorded at the same time may or may not be forgotten.
+     */
+    public void reset() {
+        for (LongAdder bucket : buckets) {
+            bucket.reset();
+        }
+        totalNanos.reset();
+        maxNanos.reset();
+    }
+}
@@ -0,0 +1,129 @@
+package components.metrics;
+
+import javax.management.ConstructorParameters;
+
+/**
+ * The {@code LatencySnapshot} class is a summary of a {@link LatencyHistogram} at one moment: how many
+ * latencies it holds, their mean, a few percentiles, and the largest. JMX clients see it as a composite
+ * value with one item per getter.
+ *
+ * @author Riley Woolf
+ * @version 1.0
+ */
+public class LatencySnapshot {
+    /**
+     * The number of latencies.
+     */
+    private final long count;
+
+    /**
+     * The mean latency in nanoseconds.
+     */
+    private final double meanNanos;
+
+    /**
+     * The estimated median latency in nanoseconds.
+     */
+    private final long p50Nanos;
+
+    /**
+     * The estimated 90th percentile latency in nanoseconds.
+     */
+    private final long p90Nanos;
+
+    /**
+     * The estimated 99th percentile latency in nanoseconds.
+     */
+    private final long p99Nanos;
+
+    /**
+     * The largest latency in nanoseconds.
+     */
+    private final long maxNanos;
+
+    /**
+     * Constructs a new snapshot.
+     *
+     * @param count     the number of latencies
+     * @param meanNanos the mean latency in nanoseconds
+     * @param p50Nanos  the estimated median latency in nanoseconds
+     * @param p90Nanos  the estimated 90th percentile latency in nanoseconds
+     * @param p99Nanos  the estimated 99th percentile latency in nanoseconds
+     * @param maxNanos  the largest latency in nanoseconds
+     */
+    @ConstructorParameters({"count", "meanNanos", "p50Nanos", "p90Nanos", "p99Nanos", "maxNanos"})
+    public LatencySnapshot(long count, double meanNanos, long p50Nanos, long p90Nanos, long p99Nanos,
+                           long maxNanos) {
+        this.count = count;
+        this.meanNanos = meanNanos;
+        this.p50Nanos = p50Nanos;
+        this.p90Nanos = p90Nanos;
+        this.p99Nanos = p99Nanos;
+        this.maxNanos = maxNanos;
+    }
+
+    /**
+     * Gets the number of latencies.
+     *
+     * @return the number of latencies
+     */
+    public long getCount() {
+        return count;
+    }
+
+    /**
+     * Gets the mean latency.
+     *
+     * @return the mean latency in nanoseconds
+     */
+    public double getMeanNanos() {
+        return meanNanos;
+    }
+
+    /**
+     * Gets the estimated median latency.
+     *
+     * @return the median latency in nanoseconds
+     */
+    public long getP50Nanos() {
+        return p50Nanos;
+    }
+
+    /**
+     * Gets the estimated 90th percentile latency.
+     *
+     * @return the 90th percentile latency in nanoseconds
+     */
+    public long getP90Nanos() {
+        return p90Nanos;
+    }
+
+    /**
+     * Gets the estimated 99th percentile latency.
+     *
+     * @return the 99th percentile latency in nanoseconds
+     */
+    public long getP99Nanos() {
+        return p99Nanos;
+    }
+
+    /**
+     * Gets the largest latency.
+     *
+     * @return the largest latency in nanoseconds
+     */
+    public long getMaxNanos() {
+        return maxNanos;
+    }
+
+    /**
+     * Returns a string representation of the snapshot.
+     *
+     * @return the count, mean, percentiles, and maximum
+     */
+    @Override
+    public String toString() {
+        return String.format("count=%d mean=%.0fns p50=%dns p90=%dns p99=%dns max=%dns",
+                count, meanNanos, p50Nanos, p90Nanos, p99Nanos, maxNanos);
+    }
+}
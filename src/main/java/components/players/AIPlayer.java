@@ -1,8 +1,12 @@
 package components.players;
 
 import components.Card;
+import components.CardCodec;
+import components.CountingHand;
+import components.Game;
+import components.LegalMoves;
 import utils.Color;
-import utils.PrintUtils;
+import utils.ConsoleGameListener;
 
 import java.util.*;
 
@@ -18,10 +22,15 @@ public abstract class AIPlayer extends Player {
 
     /**
      * A boolean flag indicating whether to print the options and choices available to
-     * and made by the AI player.
+     * and made by the AI player. The printing is done by a {@link ConsoleGameListener}
+     * added to each game the player joins.
      */
     protected boolean print;
 
+    /**
+     * The cache of decisions shared with other players, or {@code null} to work out every decision.
+     */
+    private DecisionCache decisionCache;
 
     /**
      * Constructs a new AI player with the specified name.
@@ -31,7 +40,7 @@ public abstract class AIPlayer extends Player {
      * @param print whether to print the AI options and choices
      */
     public AIPlayer(String name, int index, boolean print) {
-        super(name, index);
+        super(name, index, new CountingHand());
         this.print = print;
     }
 
@@ -45,20 +54,70 @@ public abstract class AIPlayer extends Player {
      */
     @Override
     public Card play(Card topCard) {
-        if (print) {
-            PrintUtils.displayTopCard(topCard);
-            PrintUtils.displayHand(name, hand);
+        // Find the playable faces of the whole hand at once, and stop early if there are none.
+        long playable = LegalMoves.playable(hand.faceMask(), CardCodec.topState(topCard));
+        if (playable == 0) {
+            return null;
         }
 
-        List<Card> playableCards = new ArrayList<>();
+        // A counting hand lists its cards by face, so the choice depends on the signature alone.
+        long signature = decisionCache != null && hand instanceof CountingHand ? decisionSignature(playable) : 0;
+        if (signature != 0) {
+            int code = decisionCache.get(signature);
+            // Only trust a hit for a card the player can actually play, and otherwise work the choice out.
+            if (code != DecisionCache.MISS && (playable & (1L << code)) != 0 && hand.removeCode(code)) {
+                if (hasUno()) callUno();
+                return CardCodec.decode(code);
+            }
+        }
 
-        for (Card c : hand) {
-            if (c.validMove(topCard)) {
-                playableCards.add(c);
+        List<Card> playableCards = new ArrayList<>();
+        for (int i = 0; i < hand.size(); i++) {
+            if ((playable & (1L << hand.codeAt(i))) != 0) {
+                playableCards.add(hand.get(i));
             }
         }
 
-        return playableCards.isEmpty() ? null : getCardToPlay(topCard, playableCards);
+        Card card = getCardToPlay(topCard, playableCards);
+        if (signature != 0) {
+            decisionCache.put(signature, card.getCode());
+        }
+        return card;
+    }
+
+    /**
+     * Sets a cache of decisions for the player to look its choices up in, which can be shared with other
+     * players, on any thread. Only players that override {@link #decisionSignature(long)} use it.
+     *
+     * @param decisionCache the cache, or {@code null} to work out every decision
+     */
+    public void setDecisionCache(DecisionCache decisionCache) {
+        this.decisionCache = decisionCache;
+    }
+
+    /**
+     * Gets a signature of the situation that determines which card {@link #getCardToPlay(Card, List)} chooses,
+     * for looking the choice up in a {@link DecisionCache}. The signature must differ between player types
+     * that share a cache and choose differently. By default, the player's choices are not cached.
+     *
+     * @param playable the mask of the playable faces in the hand, not 0
+     * @return the signature, or 0 if the choice cannot be cached
+     */
+    protected long decisionSignature(long playable) {
+        return 0;
+    }
+
+    /**
+     * {@inheritDoc}
+     * If the player was asked to print, adds a {@link ConsoleGameListener} for its seat to the game.
+     *
+     * @param game the game the player has joined
+     */
+    @Override
+    public void joinGame(Game game) {
+        if (print) {
+            game.addListener(new ConsoleGameListener(game, playerIndex));
+        }
     }
 
     /**
@@ -77,24 +136,30 @@ public abstract class AIPlayer extends Player {
      * @return the colors in most- to least-common order
      */
     protected List<Color> getMostCommonColor() {
-        // Create a map to store the count of each color.
-        Map<Color, Integer> colorToCount = new HashMap<>();
-        colorToCount.put(Color.RED, 0);
-        colorToCount.put(Color.GREEN, 0);
-        colorToCount.put(Color.BLUE, 0);
-        colorToCount.put(Color.YELLOW, 0);
-
-        // Count the number of cards for each color.
-        for (Card c : hand) {
-            if (c.getColor() == null) continue;
-            colorToCount.put(c.getColor(), colorToCount.get(c.getColor()) + 1);
-        }
+        return Arrays.asList(colorOrder());
+    }
 
-        // Create a list of colors sorted by count in descending order.
-        List<Color> sortedColors = new ArrayList<>(colorToCount.keySet());
-        sortedColors.sort(Comparator.comparingInt(colorToCount::get).reversed());
+    /**
+     * Sorts the colors by how many cards of each the AI player holds, most common first, keeping color order
+     * between colors with the same count.
+     *
+     * @return the colors in most- to least-common order
+     */
+    protected Color[] colorOrder() {
+        // Insertion sort the four colors by their running counts in the hand, most common first.
+        Color[] colors = Color.values();
+        for (int i = 1; i < colors.length; i++) {
+            Color color = colors[i];
+            int count = hand.colorCount(color);
+            int j = i - 1;
+            while (j >= 0 && hand.colorCount(colors[j]) < count) {
+                colors[j + 1] = colors[j];
+                j--;
+            }
+            colors[j + 1] = color;
+        }
 
-        return sortedColors;
+        return colors;
     }
 
     /**
@@ -104,22 +169,4 @@ public abstract class AIPlayer extends Player {
     protected void callUno() {
         declaredUno = true;
     }
-
-    /**
-     * Protected method to print information about a played card during a player's turn.
-     * This method displays the player's name and the details of the played card if printing is enabled.
-     *
-     * <p>
-     * Note: The actual printing of card details is delegated to the {@link PrintUtils#displayCard(Card)} method.
-     * </p>
-     *
-     * @param c the card to be printed
-     */
-    protected void printCard(Card c) {
-        if (print) {
-            System.out.print(name + "' Turn: ");
-            PrintUtils.displayCard(c);
-        }
-    }
-
 }
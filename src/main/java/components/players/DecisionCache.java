@@ -0,0 +1,224 @@
+package components.players;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * The {@code DecisionCache} class remembers the cards that rule-based AI players chose, so that a player in a
+ * situation it has seen before looks its choice up instead of working it out again.
+ * <p>
+ * A situation is a signature of 64 bits or fewer that determines the choice completely, such as the mask of the
+ * playable faces in the hand (see {@link AIPlayer#decisionSignature(long)}). The cache has a fixed number of
+ * entries, grouped into sets of {@value #WAYS}: a signature can only live in the set its hash picks, and when
+ * the set is full, the CLOCK algorithm evicts an entry that has not been used since the clock hand last
+ * passed it, approximating least-recently-used eviction without a linked list or a lock.
+ * </p>
+ * <p>
+ * One cache can be shared by every thread of a tournament. Each entry is two longs, the signature mixed with
+ * a strong hash of the card and the card itself, written with release and read with acquire semantics but
+ * without locks. A reader that pairs the card of one write with the check of another finds that the two do
+ * not match, and treats it as a miss: since the card goes through the hash, the check of a different card
+ * cannot be made to match by signatures that differ in a few bits. The hit and miss counters are {@link LongAdder}s,
+ * so counting does not make the threads contend either.
+ * </p>
+ *
+ * @author Riley Woolf
+ * @version 1.0
+ */
+public class DecisionCache {
+    /**
+     * The number of entries in each set.
+     */
+    static final int WAYS = 4;
+
+    /**
+     * The value returned by {@link #get(long)} when the signature is not cached.
+     */
+    public static final int MISS = -1;
+
+    /**
+     * The signature of each entry mixed with a hash of its value, so a torn write can be detected.
+     */
+    private final AtomicLongArray checks;
+
+    /**
+     * The value of each entry: the code of the card chosen, plus one, or 0 for an empty entry.
+     */
+    private final AtomicLongArray values;
+
+    /**
+     * Whether each entry has been used since the clock hand last passed it. Races on these bits only make
+     * eviction slightly less accurate.
+     */
+    private final byte[] referenced;
+
+    /**
+     * The position of the clock hand in each set.
+     */
+    private final byte[] hands;
+
+    /**
+     * The mask of a hash's set index.
+     */
+    private final int setMask;
+
+    /**
+     * The number of lookups that found their signature.
+     */
+    private final LongAdder hits = new LongAdder();
+
+    /**
+     * The number of lookups that did not find their signature.
+     */
+    private final LongAdder misses = new LongAdder();
+
+    /**
+     * The number of entries evicted to make room for others.
+     */
+    private final LongAdder evictions = new LongAdder();
+
+    /**
+     * Constructs a new, empty cache.
+     *
+     * @param capacity the number of entries, rounded up to a power of two of at least {@value #WAYS}
+     * @throws IllegalArgumentException if the capacity is not positive or too big
+     */
+    public DecisionCache(int capacity) {
+        if (capacity < 1 || capacity > 1 << 28) {
+            throw new IllegalArgumentException("The capacity must be between 1 and 2^28 entries.");
+        }
+        int size = Math.max(WAYS, Integer.highestOneBit(capacity - 1) << 1);
+        this.checks = new AtomicLongArray(size);
+        this.values = new AtomicLongArray(size);
+        this.referenced = new byte[size];
+        this.hands = new byte[size / WAYS];
+        this.setMask = size / WAYS - 1;
+    }
+
+    /**
+     * Looks up the card chosen in a situation.
+     *
+     * @param signature the signature of the situation, not 0
+     * @return the code of the card chosen, or {@link #MISS} if the situation is not cached
+     */
+    public int get(long signature) {
+        int base = set(signature) * WAYS;
+        for (int slot = base; slot < base + WAYS; slot++) {
+            long value = values.getAcquire(slot);
+            if (value != 0 && (checks.getAcquire(slot) ^ mix(value)) == signature) {
+                referenced[slot] = 1;
+                hits.increment();
+                return (int) value - 1;
+            }
+        }
+        misses.increment();
+        return MISS;
+    }
+
+    /**
+     * Remembers the card chosen in a situation, evicting an entry of its set if the set is full.
+     *
+     * @param signature the signature of the situation, not 0
+     * @param code      the code of the card chosen
+     */
+    public void put(long signature, int code) {
+        int set = set(signature);
+        int base = set * WAYS;
+        int hand = hands[set];
+        int slot;
+        while (true) {
+            slot = base + hand;
+            hand = (hand + 1) % WAYS;
+            if (values.getOpaque(slot) == 0) {
+                break;
+            }
+            if (referenced[slot] == 0) {
+                evictions.increment();
+                break;
+            }
+            // Give the entry a second chance.
+            referenced[slot] = 0;
+        }
+        hands[set] = (byte) hand;
+
+        long value = code + 1;
+        values.setRelease(slot, 0);
+        checks.setRelease(slot, signature ^ mix(value));
+        values.setRelease(slot, value);
+        // A new entry only earns a second chance once it is looked up, so one-off situations go first.
+        referenced[slot] = 0;
+    }
+
+    /**
+     * Picks the set of a signature.
+     *
+     * @param signature the signature
+     * @return the index of the set
+     */
+    private int set(long signature) {
+        long z = signature * 0x9E3779B97F4A7C15L;
+        return (int) (z ^ z >>> 32) & setMask;
+    }
+
+    /**
+     * Hashes the value of an entry for its check, so that the checks of different values differ in about half
+     * of their bits.
+     *
+     * @param value the value, not 0
+     * @return the hash of the value
+     */
+    private static long mix(long value) {
+        // The SplitMix64 finalizer.
+        long z = value * 0x9E3779B97F4A7C15L;
+        z = (z ^ z >>> 30) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ z >>> 27) * 0x94D049BB133111EBL;
+        return z ^ z >>> 31;
+    }
+
+    /**
+     * Gets the number of entries the cache holds at most.
+     *
+     * @return the capacity
+     */
+    public int getCapacity() {
+        return values.length();
+    }
+
+    /**
+     * Gets the number of lookups that found their signature.
+     *
+     * @return the number of hits
+     */
+    public long getHits() {
+        return hits.sum();
+    }
+
+    /**
+     * Gets the number of lookups that did not find their signature.
+     *
+     * @return the number of misses
+     */
+    public long getMisses() {
+        return misses.sum();
+    }
+
+    /**
+     * Gets the number of entries evicted to make room for others.
+     *
+     * @return the number of evictions
+     */
+    public long getEvictions() {
+        return evictions.sum();
+    }
+
+    /**
+     * Gets the fraction of lookups that found their signature.
+     *
+     * @return the hit rate, or 0 if there have been no lookups
+     */
+    public double getHitRate() {
+        long found = hits.sum();
+        long total = found + misses.sum();
+        return total == 0 ? 0 : (double) found / total;
+    }
+}
@@ -1,6 +1,8 @@
 package components.players;
 
 import components.Card;
+import components.CardCodec;
+import components.TableView;
 import utils.Color;
 
 import java.util.ArrayList;
@@ -66,7 +68,6 @@ public class DifficultAIPlayer extends AIPlayer {
         for (Color color : colorOrder) {
             for (Card card : numbers) {
                 if (card.getColor() == color) {
-                    printCard(card);
                     hand.remove(card);
                     if (hasUno()) callUno();
                     return card;
@@ -78,7 +79,6 @@ public class DifficultAIPlayer extends AIPlayer {
         for (Color color : colorOrder) {
             for (Card card : specials) {
                 if (card.getColor() == color) {
-                    printCard(card);
                     hand.remove(card);
                     if (hasUno()) callUno();
                     return card;
@@ -87,12 +87,27 @@ public class DifficultAIPlayer extends AIPlayer {
         }
 
         // Finally, prioritize playing wilds last.
-        printCard(wilds.get(0));
         hand.remove(wilds.get(0));
         if (hasUno()) callUno();
         return wilds.get(0);
     }
 
+    /**
+     * {@inheritDoc}
+     * The difficult-level AI's choice depends on the playable faces and the order of the colors in its hand,
+     * so the signature holds the faces in its low bits, the first three colors of the order above them, and
+     * a top bit that keeps it apart from the medium-level AI's signatures.
+     *
+     * @param playable the mask of the playable faces in the hand, not 0
+     * @return the playable faces and the color order
+     */
+    @Override
+    protected long decisionSignature(long playable) {
+        Color[] colorOrder = colorOrder();
+        long order = colorOrder[0].ordinal() | colorOrder[1].ordinal() << 2 | colorOrder[2].ordinal() << 4;
+        return playable | order << CardCodec.FACE_COUNT | Long.MIN_VALUE;
+    }
+
     /**
      * {@inheritDoc}
      * Overrides the method to implement difficult-level AI logic for choosing a color.
@@ -102,11 +117,7 @@ public class DifficultAIPlayer extends AIPlayer {
      */
     @Override
     public Color chooseColor() {
-        Color color = getMostCommonColor().get(0);
-        if (print) {
-            System.out.println("Chose color: " + color.name());
-        }
-        return color;
+        return hand.mostCommonColor();
     }
 
     /**
@@ -118,29 +129,27 @@ public class DifficultAIPlayer extends AIPlayer {
      * The player chooses the smallest hand that is closest in the specified direction of play.
      * </p>
      *
-     * @param handSizes   a list containing the sizes of hands for each player in the game
-     * @param forwardPlay a boolean indicating the direction of play (true for forward, false for backward)
+     * @param table the view of the table, with the size of each hand and the direction of play
      * @return the index of the player to switch hands with
      */
     @Override
-    public int getPlayerToSwitchWith(List<Integer> handSizes, boolean forwardPlay) {
+    public int getPlayerToSwitchWith(TableView table) {
         int minHandSize = Integer.MAX_VALUE;
         int targetIndex = -1;
 
-        int playerCount = handSizes.size();
+        int playerCount = table.getNumPlayers();
+        boolean forwardPlay = table.isForwardPlay();
 
         // Iterate in the direction of play.
         for (int i = 0; i < playerCount; i++) {
             int indexToCheck = (playerIndex + (forwardPlay ? i : -i) + playerCount) % playerCount;
 
-            if (indexToCheck != playerIndex && handSizes.get(indexToCheck) < minHandSize) {
-                minHandSize = handSizes.get(indexToCheck);
+            if (indexToCheck != playerIndex && table.handSize(indexToCheck) < minHandSize) {
+                minHandSize = table.handSize(indexToCheck);
                 targetIndex = indexToCheck;
             }
         }
 
-        if (print) System.out.println("Chose to switch hands with player " + (targetIndex + 1));
-
         return targetIndex;
     }
 
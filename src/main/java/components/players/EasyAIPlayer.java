@@ -1,14 +1,17 @@
 package components.players;
 
 import components.Card;
+import components.CardCodec;
+import components.CountingHand;
+import components.LegalMoves;
+import components.TableView;
 import utils.Color;
 
-import java.util.List;
-import java.util.Random;
-
 /**
  * The {@code EasyAIPlayer} class represents a simple computer player in a card game.
- * This player selects the first valid card in its hand and plays it. Additionally, when required
+ * This player selects the first valid card in its hand and plays it. Its hand keeps the cards in face code
+ * order rather than the order they were drawn in, so the first valid card is the one with the lowest color and
+ * rank, with the wilds last. Additionally, when required
  * to choose a color (e.g., after playing a Wild card), it randomly selects one of the available colors.
  *
  * <p>
@@ -20,18 +23,13 @@ import java.util.Random;
  * @version 1.0
  */
 public class EasyAIPlayer extends Player {
-    /**
-     * The {@code Random} object used for generating random values.
-     */
-    private final Random rand = new Random();
-
     /**
      * Constructs a new EasyAIPlayer with the default name "Simple Computer."
      *
      * @param index the index of the player in the player and handSize arrays
      */
     public EasyAIPlayer(int index) {
-        super("Simple Computer", index);
+        super("Simple Computer", index, new CountingHand());
     }
 
     /**
@@ -41,32 +39,33 @@ public class EasyAIPlayer extends Player {
      * @param index the index of the player in the player and handSize arrays
      */
     public EasyAIPlayer(String name, int index) {
-        super(name, index);
+        super(name, index, new CountingHand());
     }
 
     /**
      * Overrides the play method from the {@link Player} class. This EasyAIPlayer
-     * loops through its hand and plays the first valid card it encounters.
+     * loops through its hand and plays the first valid card it encounters, which is the valid card with the
+     * lowest face code.
      *
      * @param topCard the current top card on the table
      * @return the card played by the EasyAIPlayer, or {@code null} if no valid move is possible
      */
     @Override
     public Card play(Card topCard) {
-        boolean validMove;
+        long playable = LegalMoves.playable(hand.faceMask(), CardCodec.topState(topCard));
+        if (playable == 0) {
+            return null;
+        }
+
         int index = -1;
-        // Loop until a valid card is selected.
+        // Loop until a valid card is selected, there is at least one.
         do {
             index++;
-            if (index == hand.size()) {
-                return null;
-            }
-            validMove = hand.get(index).validMove(topCard);
-        } while (!validMove);
+        } while ((playable & (1L << hand.codeAt(index))) == 0);
 
         // Calls UNO when applicable only some of the time.
         if (hand.size() == 2) {
-            declaredUno = rand.nextBoolean();
+            declaredUno = random.nextBoolean();
         }
         return hand.remove(index);
     }
@@ -80,7 +79,7 @@ public class EasyAIPlayer extends Player {
     @Override
     public Color chooseColor() {
         Color color;
-        switch (rand.nextInt(4)) {
+        switch (random.nextInt(4)) {
             case 0 -> color = Color.BLUE;
             case 1 -> color = Color.GREEN;
             case 2 -> color = Color.RED;
@@ -93,13 +92,13 @@ public class EasyAIPlayer extends Player {
      * Overrides the getPlayerToSwitchWith method from the {@link Player} class. This EasyAIPlayer
      * randomly selects another player to switch hands with.
      *
-     * @param handSizes a list containing the sizes of hands for each player in the game
+     * @param table the view of the table, with the number of players
      * @return the index of the player to switch hands with
      */
     @Override
-    public int getPlayerToSwitchWith(List<Integer> handSizes, boolean forwardPlay) {
+    public int getPlayerToSwitchWith(TableView table) {
         while (true) {
-            int index = rand.nextInt(handSizes.size());
+            int index = random.nextInt(table.getNumPlayers());
 
             if (index != playerIndex) return index;
         }
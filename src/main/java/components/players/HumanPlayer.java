@@ -1,10 +1,12 @@
 package components.players;
 
 import components.Card;
+import components.CardCodec;
+import components.LegalMoves;
+import components.TableView;
 import utils.Color;
 import utils.PrintUtils;
 
-import java.util.List;
 import java.util.Scanner;
 
 /**
@@ -92,6 +94,73 @@ public class HumanPlayer extends Player {
         return hand.remove(index);
     }
 
+    /**
+     * Overrides the stack method from the {@link Player} class. Allows the human player to stack a Draw Two
+     * or Wild Draw Four onto the pending penalty by selecting the card index from their hand, or to draw the
+     * penalty (-1). The player can also declare Uno (-2).
+     *
+     * @param topCard the draw card on top of the table
+     * @param penalty the number of cards the player draws if they do not stack
+     * @return the card stacked by the HumanPlayer, or {@code null} to draw the penalty
+     */
+    @Override
+    public Card stack(Card topCard, int penalty) {
+        PrintUtils.displayTopCard(topCard);
+        PrintUtils.displayHand(name, hand);
+        declaredUno = false;
+
+        // Loop until the user chooses a card that can be stacked.
+        while (true) {
+            System.out.println("Stack a draw card on the penalty of " + penalty
+                    + " by selecting it, enter -1 to draw the penalty, and -2 to declare UNO: ");
+            int index = scanner.nextInt();
+
+            if (index == -1) {
+                return null;
+            } else if (index == -2) {
+                declaredUno = true;
+            } else if (index < 0 || index >= hand.size()) {
+                System.out.println("Invalid selection, please choose again.");
+            } else if (LegalMoves.stackable(1L << hand.codeAt(index), CardCodec.topState(topCard)) == 0) {
+                System.out.println("That card cannot be stacked, please choose again.");
+            } else {
+                return hand.remove(index);
+            }
+        }
+    }
+
+    /**
+     * Overrides the jumpIn method from the {@link Player} class. Allows the human player to jump in with
+     * their copy of the card just played (1) or let the chance pass (0). The player can also declare Uno (-2).
+     *
+     * @param topCard the card just played, which the player holds a copy of
+     * @return the card the HumanPlayer jumped in with, or {@code null} to not jump in
+     */
+    @Override
+    public Card jumpIn(Card topCard) {
+        PrintUtils.displayTopCard(topCard);
+        PrintUtils.displayHand(name, hand);
+        declaredUno = false;
+
+        // Loop until the user decides.
+        while (true) {
+            System.out.println("You can jump in with your copy of this card. Enter 1 to jump in, 0 to let it pass, "
+                    + "and -2 to declare UNO: ");
+            int choice = scanner.nextInt();
+
+            if (choice == 0) {
+                return null;
+            } else if (choice == -2) {
+                declaredUno = true;
+            } else if (choice == 1) {
+                hand.removeCode(topCard.getCode());
+                return CardCodec.decode(topCard.getCode());
+            } else {
+                System.out.println("Invalid selection, please choose again.");
+            }
+        }
+    }
+
     /**
      * Overrides the chooseColor method from the {@link Player} class.
      * Allows the human player to select a color by entering 'r', 'y', 'g', or 'b'.
@@ -124,18 +193,18 @@ public class HumanPlayer extends Player {
      * Overrides the getPlayerToSwitchWith method from the {@link Player} class.
      * Allows the human player to select another player to switch hands with by entering the player number.
      *
-     * @param handSizes a list containing the sizes of hands for each player in the game
+     * @param table the view of the table, with the size of each hand
      * @return the index of the player to switch hands with
      */
     @Override
-    public int getPlayerToSwitchWith(List<Integer> handSizes, boolean forwardPlay) {
+    public int getPlayerToSwitchWith(TableView table) {
         System.out.println("Which person do you want to switch hands with?");
 
         do {
-            // Cycle through the list of handSizes and print out each player's hand size.
-            for (int i = 0; i < handSizes.size(); i++) {
+            // Cycle through the seats and print out each player's hand size.
+            for (int i = 0; i < table.getNumPlayers(); i++) {
                 if (i == playerIndex) continue;
-                System.out.println("Player " + (i + 1) + "'s hand size: " + handSizes.get(i));
+                System.out.println("Player " + (i + 1) + "'s hand size: " + table.handSize(i));
             }
             int index = scanner.nextInt();
 
@@ -144,7 +213,7 @@ public class HumanPlayer extends Player {
                 continue;
             }
 
-            if (index < 1 || index > handSizes.size()) {
+            if (index < 1 || index > table.getNumPlayers()) {
                 System.out.println("Invalid player, please enter a valid player number.");
             } else {
                 return index - 1;
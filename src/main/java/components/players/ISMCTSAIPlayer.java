@@ -0,0 +1,644 @@
+package components.players;
+
+import components.Card;
+import components.CardCodec;
+import components.EndgameSolver;
+import components.Game;
+import components.GameState;
+import components.LegalMoves;
+import components.TableView;
+import utils.Color;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+
+/**
+ * The {@code ISMCTSAIPlayer} class represents a computer player that plans its moves with Information Set
+ * Monte Carlo Tree Search (ISMCTS).
+ * <p>
+ * The player cannot see the other hands or the order of the deck, so every iteration of the search starts
+ * from a different guess at them (a determinization, see {@link GameState#determinize}), walks down a search
+ * tree shared by all the guesses, and finishes the game with random moves. Moves that win more often for the
+ * player making them are visited more, and the most visited move at the root is played.
+ * </p>
+ * <p>
+ * The search is root-parallel: each thread grows its own tree from its own guesses, and the visit counts of
+ * the root moves are added together at the end, so the threads share nothing while they search. Each move
+ * stops after the iteration budget is spent or the time limit passes, whichever comes first.
+ * </p>
+ * <p>
+ * The player can also be set to hand two-player endgames with few cards left to an {@link EndgameSolver}
+ * instead (see {@link #setEndgameCards(int)}), where random playouts are a poorer guide. The solver plays
+ * each of a few determinizations perfectly, and the move that is best in the most of them is played,
+ * counting proven wins twice and proven losses not at all. The solver shares the move's time limit and has
+ * a node budget per determinization, so seeded games without a time limit still play out the same every
+ * time.
+ * </p>
+ *
+ * @author Riley Woolf
+ * @version 1.0
+ */
+public class ISMCTSAIPlayer extends AIPlayer {
+    /**
+     * The default number of search iterations per move, across all threads.
+     */
+    public static final int DEFAULT_ITERATIONS = 4000;
+
+    /**
+     * The default time limit per move, in milliseconds.
+     */
+    public static final long DEFAULT_TIME_LIMIT_MILLIS = 200;
+
+    /**
+     * The exploration constant of the UCB1 formula.
+     */
+    private static final double EXPLORATION = 0.7;
+
+    /**
+     * The longest a random playout may run before it is called a draw.
+     */
+    private static final int MAX_PLAYOUT_TURNS = 1000;
+
+    /**
+     * The number of determinizations the endgame solver plays out per move.
+     */
+    private static final int ENDGAME_SAMPLES = 8;
+
+    /**
+     * The most nodes the endgame solver searches per determinization.
+     */
+    private static final long ENDGAME_NODES = 100_000;
+
+    /**
+     * The number of search iterations per move, across all threads.
+     */
+    private final int iterations;
+
+    /**
+     * The time limit per move, in milliseconds.
+     */
+    private final long timeLimitMillis;
+
+    /**
+     * The number of threads the search runs on.
+     */
+    private final int threads;
+
+    /**
+     * The largest number of cards in both hands together for the endgame solver to take over, or 0 to never
+     * use it.
+     */
+    private int endgameCards;
+
+    /**
+     * The endgame solver, created the first time it is needed.
+     */
+    private EndgameSolver solver;
+
+    /**
+     * The game the player has joined.
+     */
+    private Game game;
+
+    /**
+     * The color chosen with the last wild played, or {@code null} if there is none to report.
+     */
+    private Color chosenColor;
+
+    /**
+     * The seat chosen with the last seven played, or -1 if there is none to report.
+     */
+    private int chosenTarget = -1;
+
+    /**
+     * Constructs a new ISMCTS AI player with the default name "ISMCTS AI" and the default budget,
+     * searching on every core.
+     *
+     * @param index the index of the player in the player and handSize arrays
+     * @param print whether to print the AI options and choices
+     */
+    public ISMCTSAIPlayer(int index, boolean print) {
+        this("ISMCTS AI", index, print);
+    }
+
+    /**
+     * Constructs a new ISMCTS AI player with the specified name and the default budget, searching on every core.
+     *
+     * @param name  the name of the AI player
+     * @param index the index of the player in the player and handSize arrays
+     * @param print whether to print the AI options and choices
+     */
+    public ISMCTSAIPlayer(String name, int index, boolean print) {
+        this(name, index, print, DEFAULT_ITERATIONS, DEFAULT_TIME_LIMIT_MILLIS,
+                Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * Constructs a new ISMCTS AI player with the specified name and search budget.
+     *
+     * @param name            the name of the AI player
+     * @param index           the index of the player in the player and handSize arrays
+     * @param print           whether to print the AI options and choices
+     * @param iterations      the number of search iterations per move, across all threads
+     * @param timeLimitMillis the time limit per move in milliseconds, or 0 for no limit
+     * @param threads         the number of threads the search runs on
+     */
+    public ISMCTSAIPlayer(String name, int index, boolean print, int iterations, long timeLimitMillis, int threads) {
+        super(name, index, print);
+        if (iterations < 1) {
+            throw new IllegalArgumentException("The search needs at least one iteration.");
+        }
+        if (threads < 1) {
+            throw new IllegalArgumentException("The search needs at least one thread.");
+        }
+        this.iterations = iterations;
+        this.timeLimitMillis = timeLimitMillis;
+        this.threads = threads;
+    }
+
+    /**
+     * {@inheritDoc}
+     * Keeps the game so that each move can search from a snapshot of it.
+     */
+    @Override
+    public void joinGame(Game game) {
+        super.joinGame(game);
+        this.game = game;
+    }
+
+    /**
+     * {@inheritDoc}
+     * Also forgets the color and seat chosen with the last card played.
+     */
+    @Override
+    public void reset() {
+        super.reset();
+        chosenColor = null;
+        chosenTarget = -1;
+    }
+
+    /**
+     * {@inheritDoc}
+     * Also drops the game the player searched from.
+     */
+    @Override
+    public void release() {
+        super.release();
+        game = null;
+    }
+
+    /**
+     * {@inheritDoc}
+     * Overrides the method to search for the card to play from a snapshot of the game.
+     *
+     * @param topCard       the current top card on the discard pile
+     * @param playableCards a list of playable cards in the player's hand
+     * @return the selected card to play
+     */
+    @Override
+    protected Card getCardToPlay(Card topCard, List<Card> playableCards) {
+        int move;
+        Card only = playableCards.get(0);
+        if (game == null || (playableCards.size() == 1 && only.getColor() != null && only.getNumber() != 7)) {
+            // Nothing to search: either there is no game to take a snapshot of, or only one move to make.
+            move = only.getCode();
+        } else {
+            move = search(game.snapshot());
+        }
+        return playMove(move);
+    }
+
+    /**
+     * {@inheritDoc}
+     * Overrides the method to search for whether to stack, and with what, from a snapshot of the game.
+     *
+     * @param topCard the draw card on top of the table
+     * @param penalty the number of cards the player draws if they do not stack
+     * @return the card stacked, or {@code null} to draw the penalty
+     */
+    @Override
+    public Card stack(Card topCard, int penalty) {
+        if (game == null || LegalMoves.stackable(hand.faceMask(), CardCodec.topState(topCard)) == 0) {
+            return super.stack(topCard, penalty);
+        }
+        int move = search(game.snapshot());
+        return move == GameState.DRAW ? null : playMove(move);
+    }
+
+    /**
+     * Removes the card of a move from the hand, keeping the color or seat the move chose for later.
+     *
+     * @param move the move code, other than {@link GameState#DRAW}
+     * @return the card played
+     */
+    private Card playMove(int move) {
+        int code = GameState.moveFace(move);
+        if (code >= CardCodec.WILD) chosenColor = GameState.moveColor(move);
+        if (CardCodec.numberOf(code) == 7) chosenTarget = GameState.moveTarget(move);
+
+        hand.removeCode(code);
+        Card card = CardCodec.decode(code);
+        if (hasUno()) callUno();
+        return card;
+    }
+
+    /**
+     * Sets the largest number of cards in both hands together, with two players left, for the player to
+     * hand its moves to the endgame solver, such as {@link EndgameSolver#DEFAULT_MAX_CARDS}. The solver is
+     * off by default.
+     *
+     * @param maxCards the largest number of cards, or 0 to always use the tree search
+     */
+    public void setEndgameCards(int maxCards) {
+        this.endgameCards = maxCards;
+    }
+
+    /**
+     * Searches for the best move of the current seat of the specified state.
+     *
+     * @param root the state to search from, with this player to move
+     * @return the code of the move with the most visits
+     */
+    private int search(GameState root) {
+        long deadline = timeLimitMillis > 0 ? System.nanoTime() + timeLimitMillis * 1_000_000 : Long.MAX_VALUE;
+        if (endgameCards > 0 && EndgameSolver.applies(root, endgameCards)) {
+            return solveEndgame(root, deadline);
+        }
+
+        Map<Integer, Integer> visits = new HashMap<>();
+        if (threads == 1) {
+            new SearchTree(root, random.nextLong(), iterations, deadline).run().forEach(
+                    (move, count) -> visits.merge(move, count, Integer::sum));
+        } else {
+            List<Callable<Map<Integer, Integer>>> tasks = new ArrayList<>(threads);
+            for (int i = 0; i < threads; i++) {
+                // Spread the iterations as evenly as possible.
+                int share = iterations / threads + (i < iterations % threads ? 1 : 0);
+                SearchTree tree = new SearchTree(root, random.nextLong(), Math.max(1, share), deadline);
+                tasks.add(tree::run);
+            }
+            try {
+                for (Future<Map<Integer, Integer>> result : ForkJoinPool.commonPool().invokeAll(tasks)) {
+                    result.get().forEach((move, count) -> visits.merge(move, count, Integer::sum));
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("The search was interrupted.", e);
+            } catch (ExecutionException e) {
+                throw new IllegalStateException("The search failed.", e.getCause());
+            }
+        }
+
+        int bestMove = GameState.DRAW;
+        int bestVisits = -1;
+        for (Map.Entry<Integer, Integer> entry : visits.entrySet()) {
+            if (entry.getValue() > bestVisits) {
+                bestMove = entry.getKey();
+                bestVisits = entry.getValue();
+            }
+        }
+        return bestMove;
+    }
+
+    /**
+     * Solves a few determinizations of a two-player endgame and picks the move that is best in the most of
+     * them, counting proven wins twice and proven losses not at all.
+     *
+     * @param root     the state to solve, with this player to move
+     * @param deadline the {@link System#nanoTime()} after which the search stops
+     * @return the code of the chosen move
+     */
+    private int solveEndgame(GameState root, long deadline) {
+        if (solver == null) {
+            solver = new EndgameSolver();
+        }
+        int seat = root.getCurrent();
+        GameState state = root.copy();
+        Map<Integer, Integer> votes = new HashMap<>();
+        int bestMove = GameState.DRAW;
+        int bestVotes = -1;
+        for (int sample = 0; sample < ENDGAME_SAMPLES; sample++) {
+            long now = System.nanoTime();
+            if (sample > 0 && now > deadline) break;
+
+            state.copyFrom(root);
+            state.determinize(seat, random);
+            // Give each remaining determinization an even share of the time left.
+            long share = deadline == Long.MAX_VALUE ? Long.MAX_VALUE
+                                                    : now + (deadline - now) / (ENDGAME_SAMPLES - sample);
+            EndgameSolver.Solution solution = solver.solve(state, share, ENDGAME_NODES);
+            int vote = solution.isWin() ? 2 : solution.isProven() ? 0 : 1;
+            int count = votes.merge(solution.getMove(), vote, Integer::sum);
+            if (count > bestVotes) {
+                bestMove = solution.getMove();
+                bestVotes = count;
+            }
+        }
+        return bestMove;
+    }
+
+    /**
+     * {@inheritDoc}
+     * Overrides the method to use the color chosen by the search, or the most common color in hand
+     * if the wild was not played by this player.
+     *
+     * @return the selected color
+     */
+    @Override
+    public Color chooseColor() {
+        Color color = chosenColor != null ? chosenColor : hand.mostCommonColor();
+        chosenColor = null;
+        return color;
+    }
+
+    /**
+     * {@inheritDoc}
+     * Overrides the method to use the seat chosen by the search, or the smallest other hand
+     * if the seven was not played by this player.
+     *
+     * @param table the view of the table, with the size of each hand
+     * @return the index of the player to switch hands with
+     */
+    @Override
+    public int getPlayerToSwitchWith(TableView table) {
+        int targetIndex = chosenTarget;
+        chosenTarget = -1;
+        if (targetIndex < 0 || targetIndex == playerIndex) {
+            int minHandSize = Integer.MAX_VALUE;
+            for (int i = 0; i < table.getNumPlayers(); i++) {
+                if (i != playerIndex && table.handSize(i) < minHandSize) {
+                    minHandSize = table.handSize(i);
+                    targetIndex = i;
+                }
+            }
+        }
+
+        return targetIndex;
+    }
+
+    /**
+     * {@inheritDoc}
+     * Overrides the method to provide the type of the player.
+     * This implementation returns a string representing the player's type, which is "ISMCTS AI".
+     *
+     * @return a string representing the player's type
+     */
+    @Override
+    public String getPlayerType() {
+        return "ISMCTS AI";
+    }
+
+    /**
+     * The {@code SearchTree} class is one thread's share of the search: a tree of moves grown from its own
+     * determinizations of the root state.
+     */
+    private static final class SearchTree {
+        /**
+         * The state the search starts from.
+         */
+        private final GameState root;
+
+        /**
+         * The scratch state each iteration plays forward, reused between iterations.
+         */
+        private final GameState state;
+
+        /**
+         * The random source for determinizations and playouts.
+         */
+        private final SplittableRandom random;
+
+        /**
+         * The number of iterations to run.
+         */
+        private final int iterations;
+
+        /**
+         * The {@link System#nanoTime()} after which the search stops.
+         */
+        private final long deadline;
+
+        /**
+         * The buffer for the legal moves of a state.
+         */
+        private final int[] moves;
+
+        /**
+         * Constructs a new search tree.
+         *
+         * @param root       the state to search from
+         * @param seed       the seed of the tree's random source
+         * @param iterations the number of iterations to run
+         * @param deadline   the {@link System#nanoTime()} after which the search stops
+         */
+        SearchTree(GameState root, long seed, int iterations, long deadline) {
+            this.root = root;
+            this.state = root.copy();
+            this.random = new SplittableRandom(seed);
+            this.iterations = iterations;
+            this.deadline = deadline;
+            this.moves = new int[root.maxMoves()];
+        }
+
+        /**
+         * Runs the search.
+         *
+         * @return the number of visits of each move at the root
+         */
+        Map<Integer, Integer> run() {
+            int seat = root.getCurrent();
+            Node rootNode = new Node(GameState.DRAW, -1, null);
+            for (int i = 0; i < iterations && (i == 0 || System.nanoTime() < deadline); i++) {
+                state.copyFrom(root);
+                state.determinize(seat, random);
+                Node node = select(rootNode);
+                playOut();
+
+                int winner = state.getWinner();
+                for (; node != null; node = node.parent) {
+                    node.visits++;
+                    if (node.mover == winner) node.wins++;
+                }
+            }
+
+            Map<Integer, Integer> visits = new HashMap<>();
+            for (Node child : rootNode.children) {
+                visits.put(child.move, child.visits);
+            }
+            return visits;
+        }
+
+        /**
+         * Walks down the tree from the specified node, choosing among the moves that are legal in the current
+         * determinization, until it adds a new node or the game ends.
+         *
+         * @param node the node to start from
+         * @return the last node reached
+         */
+        private Node select(Node node) {
+            while (!state.isOver()) {
+                int count = state.legalMoves(moves);
+                Node best = null;
+                double bestScore = Double.NEGATIVE_INFINITY;
+                int untried = 0;
+                int untriedMove = 0;
+                for (int i = 0; i < count; i++) {
+                    Node child = node.child(moves[i]);
+                    if (child == null) {
+                        // Pick one untried move uniformly at random.
+                        if (random.nextInt(++untried) == 0) untriedMove = moves[i];
+                        continue;
+                    }
+                    child.availability++;
+                    double score = child.score();
+                    if (score > bestScore) {
+                        best = child;
+                        bestScore = score;
+                    }
+                }
+
+                int mover = state.getCurrent();
+                if (untried > 0) {
+                    Node child = new Node(untriedMove, mover, node);
+                    node.children.add(child);
+                    state.applyInPlace(untriedMove);
+                    return child;
+                }
+                state.applyInPlace(best.move);
+                node = best;
+            }
+            return node;
+        }
+
+        /**
+         * Finishes the game with random moves. Like a sensible player, the playout holds wilds back while it
+         * has anything else to play, and names its most common color when it plays one.
+         */
+        private void playOut() {
+            for (int turn = 0; turn < MAX_PLAYOUT_TURNS && !state.isOver(); turn++) {
+                int count = state.legalMoves(moves);
+                if (moves[0] == GameState.DRAW) {
+                    state.applyInPlace(GameState.DRAW);
+                    continue;
+                }
+                if (moves[count - 1] == GameState.DRAW) {
+                    // A pending penalty: always pass it on when possible.
+                    count--;
+                }
+
+                int plain = 0;
+                for (int i = 0; i < count; i++) {
+                    if (GameState.moveFace(moves[i]) < CardCodec.WILD) moves[plain++] = moves[i];
+                }
+                if (plain > 0) {
+                    state.applyInPlace(moves[random.nextInt(plain)]);
+                } else {
+                    int face = GameState.moveFace(moves[random.nextInt(count)]);
+                    state.applyInPlace(GameState.move(face, mostCommonColor(state.getCurrent()), 0));
+                }
+            }
+        }
+
+        /**
+         * Finds the most common color in a seat's hand.
+         *
+         * @param seat the seat
+         * @return the most common color, the first in color order if tied
+         */
+        private Color mostCommonColor(int seat) {
+            Color best = Color.values()[0];
+            int bestCount = -1;
+            for (Color color : Color.values()) {
+                int count = state.colorCount(seat, color);
+                if (count > bestCount) {
+                    best = color;
+                    bestCount = count;
+                }
+            }
+            return best;
+        }
+    }
+
+    /**
+     * The {@code Node} class is a move in a search tree, with the statistics of the iterations that made it.
+     */
+    private static final class Node {
+        /**
+         * The code of the move.
+         */
+        private final int move;
+
+        /**
+         * The seat that made the move.
+         */
+        private final int mover;
+
+        /**
+         * The node of the previous move, or {@code null} for the root.
+         */
+        private final Node parent;
+
+        /**
+         * The nodes of the moves tried after this one.
+         */
+        private final List<Node> children = new ArrayList<>();
+
+        /**
+         * The number of iterations that made this move.
+         */
+        private int visits;
+
+        /**
+         * The number of iterations in which the mover went on to win.
+         */
+        private int wins;
+
+        /**
+         * The number of iterations in which this move was legal when its parent was reached.
+         */
+        private int availability = 1;
+
+        /**
+         * Constructs a new node.
+         *
+         * @param move   the code of the move
+         * @param mover  the seat that made the move
+         * @param parent the node of the previous move
+         */
+        Node(int move, int mover, Node parent) {
+            this.move = move;
+            this.mover = mover;
+            this.parent = parent;
+        }
+
+        /**
+         * Finds the child for the specified move.
+         *
+         * @param move the code of the move
+         * @return the child, or {@code null} if the move has not been tried
+         */
+        Node child(int move) {
+            for (Node child : children) {
+                if (child.move == move) return child;
+            }
+            return null;
+        }
+
+        /**
+         * Scores the node with UCB1, counting how often the move was available instead of how often
+         * its parent was visited.
+         *
+         * @return the score of the node
+         */
+        double score() {
+            return (double) wins / visits + EXPLORATION * Math.sqrt(Math.log(availability) / visits);
+        }
+    }
+}
@@ -1,6 +1,7 @@
 package components.players;
 
 import components.Card;
+import components.TableView;
 import utils.Color;
 
 import java.util.ArrayList;
@@ -9,7 +10,8 @@ import java.util.List;
 /**
  * This AI Player class represents a medium-level computer player.
  * The player selects a playable card based on matching color or number, prioritizing
- * special cards and choosing a color based on the most common color in their hand.
+ * special cards and choosing a color based on the most common color in their hand. Among cards of the same
+ * kind, it plays the one with the lowest face code rather than the one drawn first.
  *
  * @author Riley Woolf
  * @version 1.0
@@ -50,14 +52,14 @@ public class MediumAIPlayer extends AIPlayer {
         List<Card> specialCards = new ArrayList<>();
         List<Card> wilds = new ArrayList<>();
 
-        // Go through the list of playable cards to find the first playable number card.
+        // Go through the list of playable cards to find the first playable number card, which is the one
+        // with the lowest color and number, since the hand lists its cards by face code.
         // Also keeps track of the different special and wild cards in the hand.
         for (Card c : playableCards) {
             switch (c.getType()) {
                 case NUMBER -> {
                     hand.remove(c);
                     if (hasUno()) callUno();
-                    printCard(c);
                     return c;
                 }
                 case WILD, WILD_DRAW_FOUR -> wilds.add(c);
@@ -69,17 +71,27 @@ public class MediumAIPlayer extends AIPlayer {
         if (!specialCards.isEmpty()) {
             hand.remove(specialCards.get(0));
             if (hasUno()) callUno();
-            printCard(specialCards.get(0));
             return specialCards.get(0);
         }
 
         // Just default to whatever is first in the wilds list if nothing else is playable so far.
         hand.remove(wilds.get(0));
         if (hasUno()) callUno();
-        printCard(wilds.get(0));
         return wilds.get(0);
     }
 
+    /**
+     * {@inheritDoc}
+     * The medium-level AI's choice depends only on the playable faces.
+     *
+     * @param playable the mask of the playable faces in the hand, not 0
+     * @return the mask of the playable faces
+     */
+    @Override
+    protected long decisionSignature(long playable) {
+        return playable;
+    }
+
     /**
      * {@inheritDoc}
      * Overrides the method to implement medium-level AI logic for choosing a color.
@@ -88,9 +100,7 @@ public class MediumAIPlayer extends AIPlayer {
      */
     @Override
     public Color chooseColor() {
-        Color color = getMostCommonColor().get(0);
-        if (print) { System.out.println("Chose color: " + color.name()); }
-        return color;
+        return hand.mostCommonColor();
     }
 
     /**
@@ -99,28 +109,26 @@ public class MediumAIPlayer extends AIPlayer {
      * The implementation of this method selects the player with the smallest hand size, considering the direction of play.
      * In the forward direction, it looks for the next player with the smallest hand; in the backward direction, it looks for the previous player.
      *
-     * @param handSizes    a list containing the sizes of hands for each player in the game
-     * @param forwardPlay  a boolean indicating the direction of play (true for forward, false for backward)
+     * @param table the view of the table, with the size of each hand and the direction of play
      * @return the index of the player to switch hands with
      */
     @Override
-    public int getPlayerToSwitchWith(List<Integer> handSizes, boolean forwardPlay) {
+    public int getPlayerToSwitchWith(TableView table) {
         int minHandSize = Integer.MAX_VALUE;
         int targetIndex = -1;
-        int playerCount = handSizes.size();
+        int playerCount = table.getNumPlayers();
+        boolean forwardPlay = table.isForwardPlay();
 
         // Iterate in the direction of play.
         for (int i = 0; i < playerCount; i++) {
             int indexToCheck = (playerIndex + (forwardPlay ? i : -i) + playerCount) % playerCount;
 
-            if (indexToCheck != playerIndex && handSizes.get(indexToCheck) < minHandSize) {
-                minHandSize = handSizes.get(indexToCheck);
+            if (indexToCheck != playerIndex && table.handSize(indexToCheck) < minHandSize) {
+                minHandSize = table.handSize(indexToCheck);
                 targetIndex = indexToCheck;
             }
         }
 
-        if (print) System.out.println("Chose to switch hands with player " + (targetIndex + 1));
-
         return targetIndex;
     }
 
@@ -1,10 +1,15 @@
 package components.players;
 
 import components.Card;
+import components.CardCodec;
+import components.CodeHand;
+import components.Game;
+import components.Hand;
+import components.LegalMoves;
+import components.TableView;
 import utils.Color;
 
-import java.util.ArrayList;
-import java.util.List;
+import java.util.SplittableRandom;
 
 /**
  * The {@code Player} class represents an abstract player in a card game, like Uno.
@@ -16,6 +21,13 @@ import java.util.List;
  * The class includes methods for checking Uno status, adding cards to the hand,
  * and defining strategies for playing cards, choosing colors, and selecting players to switch hands with.
  * </p>
+ * <p>
+ * A player can play any number of games, one at a time. Each game {@linkplain #bind(int) binds} the player
+ * to their seat and {@linkplain #reset() resets} them before dealing, so no cards or Uno declarations carry
+ * over from the last game, and the player's memory stays the same however many games they play. A player
+ * who is done with a game, such as one going back into a {@link PlayerPool}, is {@linkplain #release()
+ * released}, which lets go of the game as well.
+ * </p>
  *
  *
  * @author Riley Woolf
@@ -33,15 +45,27 @@ public abstract class Player {
     protected int playerIndex;
 
     /**
-     * The list of cards in the player's hand.
+     * The cards in the player's hand.
      */
-    protected List<Card> hand;
+    protected Hand hand;
 
     /**
      * A flag indicating whether the player has declared Uno.
      */
     protected boolean declaredUno;
 
+    /**
+     * The random source for any random choices the player makes. The game gives every player its own
+     * source, split from the game's seed, so seeded games can be replayed exactly.
+     */
+    protected SplittableRandom random;
+
+    /**
+     * What the player can see of the table of the game they are playing, kept up to date by the game, or
+     * {@code null} before the player joins a game.
+     */
+    protected TableView table;
+
     /**
      * Constructs a new player with the specified name and player index.
      *
@@ -49,10 +73,22 @@ public abstract class Player {
      * @param playerIndex the unique index assigned to the player
      */
     public Player(String name, int playerIndex) {
+        this(name, playerIndex, new CodeHand());
+    }
+
+    /**
+     * Constructs a new player with the specified name, player index, and (empty) hand implementation.
+     *
+     * @param name        the name of the player
+     * @param playerIndex the unique index assigned to the player
+     * @param hand        the empty hand the player starts with
+     */
+    protected Player(String name, int playerIndex, Hand hand) {
         this.name = name;
         this.playerIndex = playerIndex;
-        this.hand = new ArrayList<>();
+        this.hand = hand;
         this.declaredUno = false;
+        this.random = new SplittableRandom();
     }
 
     /**
@@ -62,22 +98,86 @@ public abstract class Player {
      */
     public String getName() { return name; }
 
+    /**
+     * Gets the seat the player is bound to.
+     *
+     * @return the index of the player in the game's list of players
+     */
+    public int getPlayerIndex() { return playerIndex; }
+
     /**
      * Gets the hand of the player.
      *
      * @return the hand of the player
      */
-    public List<Card> getHand() { return hand; }
+    public Hand getHand() { return hand; }
 
     /**
-     * Sets the hand of the player with the specified list of cards.
+     * Sets the hand of the player with the specified cards.
      *
-     * @param hand the list of cards to set as the player's hand
+     * @param hand the cards to set as the player's hand
      */
-    public void setHand(List<Card> hand) {
+    public void setHand(Hand hand) {
         this.hand = hand;
     }
 
+    /**
+     * Sets the random source for any random choices the player makes.
+     *
+     * @param random the random source to use
+     */
+    public void setRandom(SplittableRandom random) {
+        this.random = random;
+    }
+
+    /**
+     * Sets the view of the table the player reads during their decisions. The game gives every player its
+     * view before they join, and keeps it up to date while it plays.
+     *
+     * @param table the view of the table of the player's game
+     */
+    public void setTable(TableView table) {
+        this.table = table;
+    }
+
+    /**
+     * Binds the player to a seat. The game binds each of its players to their position in its list of
+     * players, before dealing.
+     *
+     * @param seat the index of the player in the game's list of players
+     */
+    public void bind(int seat) {
+        this.playerIndex = seat;
+    }
+
+    /**
+     * Empties the player's hand and forgets any Uno declaration, ready for a new game. The game calls this
+     * for each of its players before dealing, whether it is new or {@linkplain Game#reset(long) reset}.
+     */
+    public void reset() {
+        hand.clear();
+        declaredUno = false;
+    }
+
+    /**
+     * Lets go of the player's game: empties their hand and drops the view of the table, so that a player
+     * kept for later games does not keep a finished one alive. Subclasses that keep more of the game should
+     * drop it too.
+     */
+    public void release() {
+        reset();
+        table = null;
+    }
+
+    /**
+     * Called by the game when the player joins it, before the cards are dealt. Players that need to look at
+     * the game itself, such as search-based AIs, can keep a reference to it. Does nothing by default.
+     *
+     * @param game the game the player has joined
+     */
+    public void joinGame(Game game) {
+    }
+
     /**
      * Checks if the player has declared Uno.
      *
@@ -116,6 +216,51 @@ public abstract class Player {
      */
     public abstract Card play(Card topCard);
 
+    /**
+     * The player's strategy when a draw penalty is pending under the stacking rule: stack a Draw Two or
+     * Wild Draw Four onto it (see {@link LegalMoves#stackable(long, int)}) to pass it on, or draw the whole
+     * penalty. The game asks this instead of {@link #play(Card)}.
+     * <p>
+     * By default, the player stacks whenever they can, since passing the penalty on is never worse than
+     * drawing it, and keeps a Wild Draw Four back when a Draw Two will do.
+     * </p>
+     *
+     * @param topCard the draw card on top of the table
+     * @param penalty the number of cards the player draws if they do not stack
+     * @return the card stacked, removed from the hand, or {@code null} to draw the penalty
+     */
+    public Card stack(Card topCard, int penalty) {
+        long stackable = LegalMoves.stackable(hand.faceMask(), CardCodec.topState(topCard));
+        if (stackable == 0) {
+            return null;
+        }
+
+        // Draw Twos have lower codes than the Wild Draw Four.
+        int code = Long.numberOfTrailingZeros(stackable);
+        hand.removeCode(code);
+        if (hasUno()) declaredUno = true;
+        return CardCodec.decode(code);
+    }
+
+    /**
+     * The player's strategy under the jump-in rule when another player plays a card identical to one in
+     * this player's hand: play it out of turn, or let the chance pass. The game only asks players who hold
+     * the card.
+     * <p>
+     * By default, the player always jumps in, since it sheds a card without using up a turn.
+     * </p>
+     *
+     * @param topCard the card just played, which the player holds a copy of
+     * @return the identical card, removed from the hand, or {@code null} to not jump in
+     */
+    public Card jumpIn(Card topCard) {
+        if (!hand.removeCode(topCard.getCode())) {
+            return null;
+        }
+        if (hasUno()) declaredUno = true;
+        return CardCodec.decode(topCard.getCode());
+    }
+
     /**
      * Abstract method representing the player's strategy to choose a color
      * when required (e.g., after playing a Wild card).
@@ -129,11 +274,10 @@ public abstract class Player {
      * The implementation of this method should determine the index of the player in the list of players
      * with whom the current player wishes to exchange hands.
      *
-     * @param handSizes    a list containing the sizes of hands for each player in the game
-     * @param forwardPlay  a boolean indicating the direction of play (true for forward, false for backward)
+     * @param table the view of the table, with the size of each hand and the direction of play
      * @return the index of the player to switch hands with
      */
-    public abstract int getPlayerToSwitchWith(List<Integer> handSizes, boolean forwardPlay);
+    public abstract int getPlayerToSwitchWith(TableView table);
 
     /**
      * Abstract method representing the player's strategy to determine its type.
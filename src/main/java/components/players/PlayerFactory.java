@@ -0,0 +1,30 @@
+package components.players;
+
+/**
+ * The {@code PlayerFactory} interface creates new {@link Player} instances for a given seat.
+ * <p>
+ * Players hold their own hands, so a tournament cannot share one set of players between games that
+ * run at the same time. Each worker uses the factories to build players of its own instead.
+ * </p>
+ * <p>
+ * Usage example:
+ * <pre>
+ * {@code
+ * PlayerFactory difficult = index -> new DifficultAIPlayer("Player " + (index + 1), index, false);
+ * }
+ * </pre>
+ * </p>
+ *
+ * @author Riley Woolf
+ * @version 1.0
+ */
+@FunctionalInterface
+public interface PlayerFactory {
+    /**
+     * Creates a new player for the given seat.
+     *
+     * @param index the index of the player in the player and handSize arrays
+     * @return a new player
+     */
+    Player create(int index);
+}
@@ -0,0 +1,85 @@
+package components.players;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedDeque;
+
+/**
+ * The {@code PlayerPool} class lends out sets of players, one per seat, built by the seats'
+ * {@link PlayerFactory}s, and takes them back to lend out again.
+ * <p>
+ * A worker that plays a range of games {@linkplain #acquire() acquires} a set, plays every game of the range
+ * with it, and {@linkplain #release(List) releases} it. Released players are {@linkplain Player#release()
+ * released} themselves, so they hold no cards and no game while they wait, and the next game they join
+ * {@linkplain Player#bind(int) binds} and {@linkplain Player#reset() resets} them. A set is only ever lent to
+ * one worker at a time, so no player is shared between threads, and the pool never holds more sets than
+ * there have been workers playing at once, however many ranges or runs it serves.
+ * </p>
+ *
+ * @author Riley Woolf
+ * @version 1.0
+ */
+public class PlayerPool {
+    /**
+     * The factories used to create the player for each seat.
+     */
+    private final List<PlayerFactory> playerFactories;
+
+    /**
+     * The sets of players waiting to be lent out, most recently released first.
+     */
+    private final ConcurrentLinkedDeque<List<Player>> idle = new ConcurrentLinkedDeque<>();
+
+    /**
+     * Constructs a new, empty pool.
+     *
+     * @param playerFactories the factories used to create the player for each seat
+     */
+    public PlayerPool(List<PlayerFactory> playerFactories) {
+        this.playerFactories = List.copyOf(playerFactories);
+    }
+
+    /**
+     * Creates a new player for every seat.
+     *
+     * @return the list of new players, in seat order
+     */
+    public List<Player> create() {
+        List<Player> players = new ArrayList<>(playerFactories.size());
+        for (int i = 0; i < playerFactories.size(); i++) {
+            players.add(playerFactories.get(i).create(i));
+        }
+        return players;
+    }
+
+    /**
+     * Lends out a set of players, reusing one that was released if there is any.
+     *
+     * @return the players, in seat order
+     */
+    public List<Player> acquire() {
+        List<Player> players = idle.pollFirst();
+        return players != null ? players : create();
+    }
+
+    /**
+     * Takes back a set of players lent out by {@link #acquire()}, releasing each player.
+     *
+     * @param players the players, in seat order
+     */
+    public void release(List<Player> players) {
+        for (Player p : players) {
+            p.release();
+        }
+        idle.offerFirst(players);
+    }
+
+    /**
+     * Gets the number of sets of players waiting to be lent out.
+     *
+     * @return the number of idle sets
+     */
+    public int idleCount() {
+        return idle.size();
+    }
+}
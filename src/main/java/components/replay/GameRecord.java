@@ -0,0 +1,201 @@
+package components.replay;
+
+import components.SpecialRules;
+
+import java.nio.ByteBuffer;
+
+/**
+ * The {@code GameRecord} class is one game as it is stored in a {@link ReplayLog}: its id, seed, rules,
+ * number of players, winning seat, and move codes (see {@link ReplayRecorder}).
+ * <p>
+ * On disk a record is a 23-byte header followed by one byte per move code, so a typical game takes well
+ * under a hundred bytes.
+ * </p>
+ *
+ * @author Riley Woolf
+ * @version 1.0
+ */
+public class GameRecord {
+    /**
+     * The size of a record's header in bytes: id, seed, rules, players, winner, and move count.
+     */
+    static final int HEADER_SIZE = Long.BYTES + Long.BYTES + 3 + Integer.BYTES;
+
+    /**
+     * The id of the game.
+     */
+    private final long gameId;
+
+    /**
+     * The seed the game was created with.
+     */
+    private final long seed;
+
+    /**
+     * The special rules of the game.
+     */
+    private final SpecialRules specialRules;
+
+    /**
+     * The number of players in the game.
+     */
+    private final int numPlayers;
+
+    /**
+     * The seat that won the game.
+     */
+    private final int winner;
+
+    /**
+     * The move codes of the game.
+     */
+    private final byte[] moves;
+
+    /**
+     * Constructs a new record.
+     *
+     * @param gameId       the id of the game
+     * @param seed         the seed the game was created with
+     * @param specialRules the special rules of the game
+     * @param numPlayers   the number of players in the game
+     * @param winner       the seat that won the game
+     * @param moves        the move codes of the game
+     */
+    public GameRecord(long gameId, long seed, SpecialRules specialRules, int numPlayers, int winner, byte[] moves) {
+        this.gameId = gameId;
+        this.seed = seed;
+        this.specialRules = specialRules;
+        this.numPlayers = numPlayers;
+        this.winner = winner;
+        this.moves = moves;
+    }
+
+    /**
+     * Gets the id of the game.
+     *
+     * @return the id of the game
+     */
+    public long getGameId() {
+        return gameId;
+    }
+
+    /**
+     * Gets the seed the game was created with.
+     *
+     * @return the seed
+     */
+    public long getSeed() {
+        return seed;
+    }
+
+    /**
+     * Gets the special rules of the game.
+     *
+     * @return the special rules
+     */
+    public SpecialRules getSpecialRules() {
+        return specialRules;
+    }
+
+    /**
+     * Gets the number of players in the game.
+     *
+     * @return the number of players
+     */
+    public int getNumPlayers() {
+        return numPlayers;
+    }
+
+    /**
+     * Gets the seat that won the game.
+     *
+     * @return the winning seat
+     */
+    public int getWinner() {
+        return winner;
+    }
+
+    /**
+     * Gets the number of move codes in the game.
+     *
+     * @return the number of move codes
+     */
+    public int getNumMoves() {
+        return moves.length;
+    }
+
+    /**
+     * Gets a move code of the game.
+     *
+     * @param index the position of the move code
+     * @return the move code, from 0 to 255
+     */
+    public int getMove(int index) {
+        return moves[index] & 0xFF;
+    }
+
+    /**
+     * Gets the size of the record on disk.
+     *
+     * @return the size in bytes
+     */
+    int size() {
+        return HEADER_SIZE + moves.length;
+    }
+
+    /**
+     * Writes the record into a buffer, which must have room for {@link #size()} bytes.
+     *
+     * @param buffer the buffer to write into
+     */
+    void writeTo(ByteBuffer buffer) {
+        buffer.putLong(gameId)
+                .putLong(seed)
+                .put((byte) encodeRules(specialRules))
+                .put((byte) numPlayers)
+                .put((byte) winner)
+                .putInt(moves.length)
+                .put(moves);
+    }
+
+    /**
+     * Reads a record's header from a buffer, and then its move codes.
+     *
+     * @param header the buffer holding at least {@link #HEADER_SIZE} bytes of the record
+     * @param moves  the record's move codes, as read after the header
+     * @return the record
+     */
+    static GameRecord read(ByteBuffer header, byte[] moves) {
+        long gameId = header.getLong();
+        long seed = header.getLong();
+        SpecialRules rules = decodeRules(header.get());
+        int numPlayers = header.get();
+        int winner = header.get();
+        return new GameRecord(gameId, seed, rules, numPlayers, winner, moves);
+    }
+
+    /**
+     * Packs special rules into the bits of a byte.
+     *
+     * @param rules the special rules
+     * @return the packed rules
+     */
+    static int encodeRules(SpecialRules rules) {
+        return (rules.isAllowStacking() ? 1 : 0)
+                | (rules.isZerosRotate() ? 2 : 0)
+                | (rules.isSevensSwitchHands() ? 4 : 0)
+                | (rules.isAllowJumpIn() ? 8 : 0)
+                | (rules.isDrawUntilPlayable() ? 16 : 0);
+    }
+
+    /**
+     * Unpacks special rules from the bits of a byte.
+     *
+     * @param bits the packed rules
+     * @return the special rules
+     */
+    static SpecialRules decodeRules(int bits) {
+        return new SpecialRules((bits & 1) != 0, (bits & 2) != 0, (bits & 4) != 0, (bits & 8) != 0,
+                (bits & 16) != 0);
+    }
+}
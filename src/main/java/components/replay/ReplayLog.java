@@ -0,0 +1,230 @@
+package components.replay;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+
+/**
+ * The {@code ReplayLog} class appends {@link GameRecord}s to a data file and keeps an index of where each
+ * game starts, so that any game can be found again by its id.
+ * <p>
+ * The data file is append-only. The index file has one 8-byte slot per game id, holding the game's offset
+ * in the data file plus one (so an empty slot reads as zero); tournaments number their games from zero, so
+ * the index stays dense and a lookup is a single read. Since every tournament starts again from game zero,
+ * a log that already holds games is only opened again if the caller asks to overwrite it, so an earlier
+ * run is never lost by accident. Both files are written through {@link FileChannel}s,
+ * with records gathered in a direct buffer first, so recording millions of games costs a write every few
+ * hundred games rather than one per game.
+ * </p>
+ * <p>
+ * The log is safe to share between the threads of a tournament. It must be {@linkplain #close() closed}
+ * to write out the last records.
+ * </p>
+ *
+ * @author Riley Woolf
+ * @version 1.0
+ */
+public class ReplayLog implements Closeable {
+    /**
+     * The size of the buffer records are gathered in before they are written.
+     */
+    private static final int BUFFER_SIZE = 1 << 16;
+
+    /**
+     * The number of index entries gathered before they are written.
+     */
+    private static final int INDEX_BATCH = 4096;
+
+    /**
+     * The channel of the data file.
+     */
+    private final FileChannel data;
+
+    /**
+     * The channel of the index file.
+     */
+    private final FileChannel index;
+
+    /**
+     * The records not yet written to the data file.
+     */
+    private final ByteBuffer buffer = ByteBuffer.allocateDirect(BUFFER_SIZE);
+
+    /**
+     * The offset in the data file of the next record, counting the buffered records.
+     */
+    private long end;
+
+    /**
+     * The game ids of the index entries not yet written.
+     */
+    private final long[] pendingIds = new long[INDEX_BATCH];
+
+    /**
+     * The offsets of the index entries not yet written.
+     */
+    private final long[] pendingOffsets = new long[INDEX_BATCH];
+
+    /**
+     * The number of index entries not yet written.
+     */
+    private int pending;
+
+    /**
+     * Opens a new log, creating its files if they do not exist.
+     *
+     * @param dataFile  the path of the data file
+     * @param indexFile the path of the index file
+     * @throws FileAlreadyExistsException if either file already holds games
+     * @throws IOException                if a file cannot be opened
+     */
+    public ReplayLog(Path dataFile, Path indexFile) throws IOException {
+        this(dataFile, indexFile, false);
+    }
+
+    /**
+     * Opens a log, creating its files if they do not exist. Game ids restart at zero with every tournament,
+     * so the games of an earlier run would share index slots with the new ones: an existing log is either
+     * refused or, if the caller asks for it, emptied.
+     *
+     * @param dataFile  the path of the data file
+     * @param indexFile the path of the index file
+     * @param overwrite whether to empty a log that already holds games, rather than refuse to open it
+     * @throws FileAlreadyExistsException if either file already holds games and overwrite is not set
+     * @throws IOException                if a file cannot be opened
+     */
+    public ReplayLog(Path dataFile, Path indexFile, boolean overwrite) throws IOException {
+        if (!overwrite && (holdsData(dataFile) || holdsData(indexFile))) {
+            throw new FileAlreadyExistsException(dataFile.toString(), indexFile.toString(),
+                    "The replay log already holds games.");
+        }
+        this.data = FileChannel.open(dataFile, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING);
+        this.index = FileChannel.open(indexFile, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING);
+        this.end = 0;
+    }
+
+    /**
+     * Checks whether a file exists and is not empty.
+     *
+     * @param file the path of the file
+     * @return whether the file holds any data
+     * @throws IOException if the size of the file cannot be read
+     */
+    private static boolean holdsData(Path file) throws IOException {
+        return Files.exists(file) && Files.size(file) > 0;
+    }
+
+    /**
+     * Appends a game to the log.
+     *
+     * @param record the game to append
+     * @throws UncheckedIOException if the log cannot be written
+     */
+    public synchronized void append(GameRecord record) {
+        try {
+            if (record.size() > buffer.remaining()) {
+                flushData();
+            }
+            if (record.size() > buffer.capacity()) {
+                ByteBuffer large = ByteBuffer.allocate(record.size());
+                record.writeTo(large);
+                data.write(large.flip(), end);
+            } else {
+                record.writeTo(buffer);
+            }
+
+            pendingIds[pending] = record.getGameId();
+            pendingOffsets[pending] = end;
+            pending++;
+            end += record.size();
+            if (pending == INDEX_BATCH) {
+                flush();
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not write game " + record.getGameId() + " to the replay log.", e);
+        }
+    }
+
+    /**
+     * Writes out every buffered record and index entry.
+     *
+     * @throws IOException if the log cannot be written
+     */
+    public synchronized void flush() throws IOException {
+        flushData();
+        flushIndex();
+    }
+
+    /**
+     * Writes the buffered records to the data file.
+     *
+     * @throws IOException if the data file cannot be written
+     */
+    private void flushData() throws IOException {
+        buffer.flip();
+        long position = end - buffer.remaining();
+        while (buffer.hasRemaining()) {
+            position += data.write(buffer, position);
+        }
+        buffer.clear();
+    }
+
+    /**
+     * Writes the pending index entries, one write for each run of consecutive game ids.
+     * The data they point to must already be written.
+     *
+     * @throws IOException if the index file cannot be written
+     */
+    private void flushIndex() throws IOException {
+        // Sort the entries by game id, so the games of each tournament range come out as one run.
+        long[][] entries = new long[pending][];
+        for (int i = 0; i < pending; i++) {
+            entries[i] = new long[]{pendingIds[i], pendingOffsets[i]};
+        }
+        Arrays.sort(entries, (a, b) -> Long.compare(a[0], b[0]));
+
+        ByteBuffer run = ByteBuffer.allocate(pending * Long.BYTES);
+        int start = 0;
+        while (start < pending) {
+            int stop = start + 1;
+            while (stop < pending && entries[stop][0] == entries[stop - 1][0] + 1) {
+                stop++;
+            }
+            run.clear();
+            for (int i = start; i < stop; i++) {
+                run.putLong(entries[i][1] + 1);
+            }
+            run.flip();
+            long position = entries[start][0] * Long.BYTES;
+            while (run.hasRemaining()) {
+                position += index.write(run, position);
+            }
+            start = stop;
+        }
+        pending = 0;
+    }
+
+    /**
+     * Writes out everything buffered and closes the files.
+     *
+     * @throws IOException if the log cannot be written or closed
+     */
+    @Override
+    public synchronized void close() throws IOException {
+        try {
+            flush();
+        } finally {
+            data.close();
+            index.close();
+        }
+    }
+}
@@ -0,0 +1,184 @@
+package components.replay;
+
+import components.Card;
+import components.CardCodec;
+import components.TableView;
+import components.players.Player;
+import utils.Color;
+
+/**
+ * The {@code ReplayPlayer} class is a player that makes the decisions recorded in a {@link GameRecord}
+ * instead of its own.
+ * <p>
+ * Every player of a replayed game reads from the same {@link Script}, since the record holds the
+ * decisions of all seats in the order the game asked for them. A decision that does not fit the game,
+ * such as playing a card the player does not hold, means the replay has gone wrong and is reported with
+ * an {@link IllegalStateException}.
+ * </p>
+ *
+ * @author Riley Woolf
+ * @version 1.0
+ */
+class ReplayPlayer extends Player {
+    /**
+     * The recorded decisions of the game.
+     */
+    private final Script script;
+
+    /**
+     * Constructs a new replay player.
+     *
+     * @param name        the name of the player
+     * @param playerIndex the index of the player
+     * @param script      the recorded decisions of the game
+     */
+    ReplayPlayer(String name, int playerIndex, Script script) {
+        super(name, playerIndex);
+        this.script = script;
+    }
+
+    /**
+     * Plays the next recorded card, or draws if the record says so.
+     *
+     * @param topCard the current top card on the table
+     * @return the card played, or {@code null} to draw
+     */
+    @Override
+    public Card play(Card topCard) {
+        int move = script.next();
+        if (move == ReplayRecorder.DRAW) {
+            return null;
+        }
+        if ((move & ReplayRecorder.COLOR) != 0) {
+            throw script.diverged("a card", move);
+        }
+
+        int code = move & ReplayRecorder.CARD_MASK;
+        if (!hand.removeCode(code)) {
+            throw script.diverged(name + " to hold " + CardCodec.decode(code), move);
+        }
+        declaredUno = (move & ReplayRecorder.MISSED_UNO) == 0;
+        return CardCodec.decode(code);
+    }
+
+    /**
+     * Stacks the next recorded card onto the pending penalty, or draws the penalty if the record says so.
+     *
+     * @param topCard the draw card on top of the table
+     * @param penalty the number of cards the player draws if they do not stack
+     * @return the card stacked, or {@code null} to draw
+     */
+    @Override
+    public Card stack(Card topCard, int penalty) {
+        return play(topCard);
+    }
+
+    /**
+     * Jumps in with the next recorded card, or lets the chance pass if the record says so.
+     *
+     * @param topCard the card just played, which the player holds a copy of
+     * @return the card played, or {@code null} to not jump in
+     */
+    @Override
+    public Card jumpIn(Card topCard) {
+        return play(topCard);
+    }
+
+    /**
+     * Chooses the next recorded color.
+     *
+     * @return the chosen color
+     */
+    @Override
+    public Color chooseColor() {
+        int move = script.next();
+        if ((move & ReplayRecorder.KIND_MASK) != ReplayRecorder.COLOR) {
+            throw script.diverged("a color", move);
+        }
+        return Color.values()[move & 3];
+    }
+
+    /**
+     * Chooses the next recorded seat to switch hands with.
+     *
+     * @param table the view of the table
+     * @return the index of the player to switch hands with
+     */
+    @Override
+    public int getPlayerToSwitchWith(TableView table) {
+        int move = script.next();
+        if ((move & ReplayRecorder.KIND_MASK) != ReplayRecorder.TARGET) {
+            throw script.diverged("a seat to switch hands with", move);
+        }
+        return move & ~ReplayRecorder.KIND_MASK;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @return "Replay"
+     */
+    @Override
+    public String getPlayerType() {
+        return "Replay";
+    }
+
+    /**
+     * The {@code Script} class hands out the move codes of a record in order.
+     */
+    static class Script {
+        /**
+         * The record being replayed.
+         */
+        private final GameRecord record;
+
+        /**
+         * The position of the next move code.
+         */
+        private int position;
+
+        /**
+         * Constructs a new script for a record.
+         *
+         * @param record the record being replayed
+         */
+        Script(GameRecord record) {
+            this.record = record;
+        }
+
+        /**
+         * Gets the next move code.
+         *
+         * @return the move code
+         * @throws IllegalStateException if every move code has been used
+         */
+        int next() {
+            if (position == record.getNumMoves()) {
+                throw new IllegalStateException("Game " + record.getGameId() + " asked for more than its "
+                        + record.getNumMoves() + " recorded moves.");
+            }
+            return record.getMove(position++);
+        }
+
+        /**
+         * Checks if every move code has been used.
+         *
+         * @return {@code true} if the script is finished, {@code false} otherwise
+         */
+        boolean isFinished() {
+            return position == record.getNumMoves();
+        }
+
+        /**
+         * Creates the exception for a move code that does not fit the game.
+         *
+         * @param expected what the game expected
+         * @param move     the move code found
+         * @return the exception
+         */
+        IllegalStateException diverged(String expected, int move) {
+            return new IllegalStateException("Game " + record.getGameId() + " diverged at move " + (position - 1)
+                    + ": expected " + expected + " but the record has 0x" + Integer.toHexString(move) + ".");
+        }
+    }
+}
@@ -0,0 +1,189 @@
+package components.replay;
+
+import components.GameListener;
+import components.SpecialRules;
+import utils.Color;
+
+import java.util.Arrays;
+
+/**
+ * The {@code ReplayRecorder} class records the decisions made in one game as a stream of one-byte move codes,
+ * and appends the game to a {@link ReplayLog} when it ends.
+ * <p>
+ * Together with the game's seed and rules, the decisions are all it takes to play the game again exactly:
+ * the seed fixes every shuffle, and the {@link Replayer} makes the same decisions in the same order.
+ * A move code is one of:
+ * </p>
+ * <ul>
+ *     <li>the code of a card played (see {@link components.CardCodec}), with {@link #MISSED_UNO} set if the
+ *     player was left with one card without calling Uno,</li>
+ *     <li>{@link #DRAW} for a player who drew instead of playing, or who did not jump in,</li>
+ *     <li>{@link #COLOR} plus the ordinal of the color chosen for a wild,</li>
+ *     <li>{@link #TARGET} plus the seat chosen to switch hands with for a seven.</li>
+ * </ul>
+ *
+ * @author Riley Woolf
+ * @version 1.0
+ */
+public class ReplayRecorder implements GameListener {
+    /**
+     * The flag on a card played by a player who did not call Uno.
+     */
+    static final int MISSED_UNO = 0x40;
+
+    /**
+     * The move code of a player who drew instead of playing, or who did not jump in.
+     */
+    static final int DRAW = 0x7F;
+
+    /**
+     * The base of the move codes for a chosen color.
+     */
+    static final int COLOR = 0x80;
+
+    /**
+     * The base of the move codes for a chosen hand-switch target.
+     */
+    static final int TARGET = 0xC0;
+
+    /**
+     * The mask of the kind of a color or target move code.
+     */
+    static final int KIND_MASK = 0xC0;
+
+    /**
+     * The mask of the card code of a card move code.
+     */
+    static final int CARD_MASK = 0x3F;
+
+    /**
+     * The log the game is appended to.
+     */
+    private final ReplayLog log;
+
+    /**
+     * The id of the game in the log.
+     */
+    private final long gameId;
+
+    /**
+     * The seed the game was created with.
+     */
+    private final long seed;
+
+    /**
+     * The special rules of the game.
+     */
+    private final SpecialRules specialRules;
+
+    /**
+     * The number of players in the game.
+     */
+    private final int numPlayers;
+
+    /**
+     * The move codes recorded so far.
+     */
+    private byte[] moves = new byte[256];
+
+    /**
+     * The number of move codes recorded so far.
+     */
+    private int size;
+
+    /**
+     * Constructs a new recorder for one game. The game must have been created with the specified seed,
+     * and the recorder added to it before it is played.
+     *
+     * @param log          the log the game is appended to
+     * @param gameId       the id of the game in the log
+     * @param seed         the seed the game was created with
+     * @param specialRules the special rules of the game
+     * @param numPlayers   the number of players in the game
+     */
+    public ReplayRecorder(ReplayLog log, long gameId, long seed, SpecialRules specialRules, int numPlayers) {
+        this.log = log;
+        this.gameId = gameId;
+        this.seed = seed;
+        this.specialRules = specialRules;
+        this.numPlayers = numPlayers;
+    }
+
+    /**
+     * Records a move code.
+     *
+     * @param move the move code
+     */
+    private void record(int move) {
+        if (size == moves.length) {
+            moves = Arrays.copyOf(moves, size * 2);
+        }
+        moves[size++] = (byte) move;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void cardPlayed(int seat, int code) {
+        record(code);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void turnPassed(int seat) {
+        record(DRAW);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void jumpInDeclined(int seat, int code) {
+        record(DRAW);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void playDeclined(int seat) {
+        record(DRAW);
+    }
+
+    /**
+     * {@inheritDoc}
+     * Marks the card just played.
+     */
+    @Override
+    public void unoNotCalled(int seat) {
+        moves[size - 1] |= MISSED_UNO;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void colorChosen(int seat, Color color) {
+        record(COLOR | color.ordinal());
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void handsSwapped(int seat, int target) {
+        record(TARGET | target);
+    }
+
+    /**
+     * {@inheritDoc}
+     * Appends the game to the log.
+     */
+    @Override
+    public void gameWon(int seat) {
+        log.append(new GameRecord(gameId, seed, specialRules, numPlayers, seat, Arrays.copyOf(moves, size)));
+    }
+}
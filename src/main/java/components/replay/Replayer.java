@@ -0,0 +1,209 @@
+package components.replay;
+
+import components.Game;
+import components.players.Player;
+
+import java.io.Closeable;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * The {@code Replayer} class reads the games of a {@link ReplayLog} and plays them again.
+ * <p>
+ * A game is rebuilt from its seed and rules, with {@link ReplayPlayer}s making the recorded decisions, and
+ * {@link #verify(long)} checks that it ends the same way: the same seat wins, and every recorded move is
+ * used. The class can also be run from the command line to check a whole log, or a few games of it:
+ * <pre>
+ * {@code
+ * java components.replay.Replayer games.replay games.index [gameId ...]
+ * }
+ * </pre>
+ * </p>
+ *
+ * @author Riley Woolf
+ * @version 1.0
+ */
+public class Replayer implements Closeable {
+    /**
+     * The channel of the data file.
+     */
+    private final FileChannel data;
+
+    /**
+     * The channel of the index file.
+     */
+    private final FileChannel index;
+
+    /**
+     * Opens a log for reading.
+     *
+     * @param dataFile  the path of the data file
+     * @param indexFile the path of the index file
+     * @throws IOException if a file cannot be opened
+     */
+    public Replayer(Path dataFile, Path indexFile) throws IOException {
+        this.data = FileChannel.open(dataFile, StandardOpenOption.READ);
+        this.index = FileChannel.open(indexFile, StandardOpenOption.READ);
+    }
+
+    /**
+     * Reads the record of a game.
+     *
+     * @param gameId the id of the game
+     * @return the record of the game
+     * @throws IOException              if the log cannot be read
+     * @throws IllegalArgumentException if the log has no game with that id
+     */
+    public GameRecord read(long gameId) throws IOException {
+        long slot = gameId * Long.BYTES;
+        if (gameId < 0 || slot + Long.BYTES > index.size()) {
+            throw new IllegalArgumentException("The replay log has no game " + gameId + ".");
+        }
+        ByteBuffer entry = ByteBuffer.allocate(Long.BYTES);
+        readFully(index, entry, slot);
+        long offset = entry.flip().getLong() - 1;
+        if (offset < 0) {
+            throw new IllegalArgumentException("The replay log has no game " + gameId + ".");
+        }
+        return readAt(offset);
+    }
+
+    /**
+     * Reads the record at an offset of the data file.
+     *
+     * @param offset the offset of the record
+     * @return the record
+     * @throws IOException if the data file cannot be read
+     */
+    private GameRecord readAt(long offset) throws IOException {
+        ByteBuffer header = ByteBuffer.allocate(GameRecord.HEADER_SIZE);
+        readFully(data, header, offset);
+        header.flip();
+        int numMoves = header.getInt(GameRecord.HEADER_SIZE - Integer.BYTES);
+
+        ByteBuffer moves = ByteBuffer.allocate(numMoves);
+        readFully(data, moves, offset + GameRecord.HEADER_SIZE);
+        return GameRecord.read(header, moves.array());
+    }
+
+    /**
+     * Fills a buffer from a channel, starting at the specified position.
+     *
+     * @param channel  the channel to read
+     * @param buffer   the buffer to fill
+     * @param position the position to start reading at
+     * @throws IOException if the channel ends before the buffer is full
+     */
+    private static void readFully(FileChannel channel, ByteBuffer buffer, long position) throws IOException {
+        while (buffer.hasRemaining()) {
+            int read = channel.read(buffer, position);
+            if (read < 0) {
+                throw new EOFException("The replay log ends in the middle of a record.");
+            }
+            position += read;
+        }
+    }
+
+    /**
+     * Plays a recorded game again and checks that it ends the same way.
+     *
+     * @param record the record of the game
+     * @return the winner of the replayed game
+     * @throws IllegalStateException if the replayed game differs from the record
+     */
+    public static Player replay(GameRecord record) {
+        ReplayPlayer.Script script = new ReplayPlayer.Script(record);
+        List<Player> players = new ArrayList<>(record.getNumPlayers());
+        for (int i = 0; i < record.getNumPlayers(); i++) {
+            players.add(new ReplayPlayer("Player " + (i + 1), i, script));
+        }
+
+        Player winner = new Game(players, record.getSpecialRules(), record.getSeed()).play();
+        int winnerSeat = players.indexOf(winner);
+        if (winnerSeat != record.getWinner()) {
+            throw new IllegalStateException("Game " + record.getGameId() + " was won by seat " + record.getWinner()
+                    + " but the replay was won by seat " + winnerSeat + ".");
+        }
+        if (!script.isFinished()) {
+            throw new IllegalStateException("Game " + record.getGameId() + " ended before all of its "
+                    + record.getNumMoves() + " recorded moves were used.");
+        }
+        return winner;
+    }
+
+    /**
+     * Reads a game and plays it again, checking that it ends the same way.
+     *
+     * @param gameId the id of the game
+     * @return the record of the game
+     * @throws IOException           if the log cannot be read
+     * @throws IllegalStateException if the replayed game differs from the record
+     */
+    public GameRecord verify(long gameId) throws IOException {
+        GameRecord record = read(gameId);
+        replay(record);
+        return record;
+    }
+
+    /**
+     * Reads every game of the data file in order and plays each one again.
+     *
+     * @return the number of games verified
+     * @throws IOException           if the log cannot be read
+     * @throws IllegalStateException if a replayed game differs from its record
+     */
+    public long verifyAll() throws IOException {
+        long games = 0;
+        long offset = 0;
+        while (offset < data.size()) {
+            GameRecord record = readAt(offset);
+            replay(record);
+            offset += record.size();
+            games++;
+        }
+        return games;
+    }
+
+    /**
+     * Closes the files of the log.
+     *
+     * @throws IOException if a file cannot be closed
+     */
+    @Override
+    public void close() throws IOException {
+        data.close();
+        index.close();
+    }
+
+    /**
+     * Checks the games of a replay log from the command line.
+     *
+     * @param args the data file, the index file, and optionally the ids of the games to check
+     * @throws IOException if the log cannot be read
+     */
+    public static void main(String[] args) throws IOException {
+        if (args.length < 2) {
+            System.out.println("Usage: Replayer <data file> <index file> [gameId ...]");
+            return;
+        }
+
+        try (Replayer replayer = new Replayer(Path.of(args[0]), Path.of(args[1]))) {
+            if (args.length == 2) {
+                System.out.println("Verified " + replayer.verifyAll() + " games.");
+                return;
+            }
+            for (int i = 2; i < args.length; i++) {
+                GameRecord record = replayer.verify(Long.parseLong(args[i]));
+                System.out.println("Game " + record.getGameId() + ": seed " + record.getSeed() + ", "
+                        + record.getNumPlayers() + " players, " + record.getNumMoves() + " moves, won by seat "
+                        + record.getWinner() + ". Verified.");
+            }
+        }
+    }
+}
@@ -0,0 +1,360 @@
+package components.stats;
+
+import utils.CardType;
+
+/**
+ * The {@code GameStats} class accumulates statistics over many games between the same seats: wins, game
+ * lengths, cards drawn, turns passed, cards played by type, and the average hand size of each seat over
+ * the first turns of a game.
+ * <p>
+ * An instance is not thread-safe, and is not meant to be. Each worker of a tournament fills its own, with
+ * no locks or shared counters, and the workers' statistics are {@linkplain #merge(GameStats) merged} when
+ * their work is joined. Everything is kept in flat {@code long} arrays, so recording a turn is a few array
+ * increments.
+ * </p>
+ * <p>
+ * Wins are counted for every game. The other statistics are only counted for games watched by a
+ * {@link StatsRecorder}, see {@link #getDetailedGames()}.
+ * </p>
+ *
+ * @author Riley Woolf
+ * @version 1.0
+ */
+public class GameStats {
+    /**
+     * The number of turns of a game for which hand sizes are tracked.
+     */
+    public static final int TRACKED_TURNS = 100;
+
+    /**
+     * The z-score of a 95% confidence interval.
+     */
+    public static final double Z_95 = 1.959963984540054;
+
+    /**
+     * The number of card types.
+     */
+    private static final int NUM_TYPES = CardType.values().length;
+
+    /**
+     * The number of seats.
+     */
+    private final int numSeats;
+
+    /**
+     * The number of games won by each seat.
+     */
+    private final long[] wins;
+
+    /**
+     * The number of games watched by a recorder.
+     */
+    private long detailedGames;
+
+    /**
+     * The total number of turns of the watched games.
+     */
+    private long turns;
+
+    /**
+     * The total of the squared number of turns of the watched games.
+     */
+    private long turnsSquared;
+
+    /**
+     * The number of cards drawn by each seat, for any reason.
+     */
+    private final long[] cardsDrawn;
+
+    /**
+     * The number of turns each seat passed by drawing instead of playing.
+     */
+    private final long[] turnsPassed;
+
+    /**
+     * The number of cards each seat played, by seat and then card type.
+     */
+    private final long[] cardsPlayed;
+
+    /**
+     * The total hand size of each seat, by turn and then seat.
+     */
+    private final long[] handSizes;
+
+    /**
+     * The number of watched games that reached each turn.
+     */
+    private final long[] handSizeSamples;
+
+    /**
+     * Constructs new, empty statistics for the specified number of seats.
+     *
+     * @param numSeats the number of seats
+     */
+    public GameStats(int numSeats) {
+        this.numSeats = numSeats;
+        this.wins = new long[numSeats];
+        this.cardsDrawn = new long[numSeats];
+        this.turnsPassed = new long[numSeats];
+        this.cardsPlayed = new long[numSeats * NUM_TYPES];
+        this.handSizes = new long[TRACKED_TURNS * numSeats];
+        this.handSizeSamples = new long[TRACKED_TURNS];
+    }
+
+    //----------------------------------------------------RECORDING----------------------------------------------------
+
+    /**
+     * Counts a game won by the specified seat.
+     *
+     * @param seat the winning seat
+     */
+    public void recordWin(int seat) {
+        wins[seat]++;
+    }
+
+    /**
+     * Counts the hand size of every seat at a turn of a watched game.
+     *
+     * @param turn  the number of the turn, from zero
+     * @param sizes the hand size of each seat
+     */
+    void recordHandSizes(int turn, int[] sizes) {
+        if (turn >= TRACKED_TURNS) return;
+        int base = turn * numSeats;
+        for (int seat = 0; seat < numSeats; seat++) {
+            handSizes[base + seat] += sizes[seat];
+        }
+        handSizeSamples[turn]++;
+    }
+
+    /**
+     * Counts a card played by a seat.
+     *
+     * @param seat the seat
+     * @param type the type of the card
+     */
+    void recordCardPlayed(int seat, CardType type) {
+        cardsPlayed[seat * NUM_TYPES + type.ordinal()]++;
+    }
+
+    /**
+     * Counts cards drawn by a seat.
+     *
+     * @param seat     the seat
+     * @param numCards the number of cards drawn
+     */
+    void recordCardsDrawn(int seat, int numCards) {
+        cardsDrawn[seat] += numCards;
+    }
+
+    /**
+     * Counts a turn passed by a seat.
+     *
+     * @param seat the seat
+     */
+    void recordTurnPassed(int seat) {
+        turnsPassed[seat]++;
+    }
+
+    /**
+     * Counts the end of a watched game.
+     *
+     * @param numTurns the number of turns the game took
+     */
+    void recordGameEnd(int numTurns) {
+        detailedGames++;
+        turns += numTurns;
+        turnsSquared += (long) numTurns * numTurns;
+    }
+
+    /**
+     * Adds the specified statistics into these. Both must have the same number of seats.
+     *
+     * @param other the statistics to add
+     * @return these statistics
+     */
+    public GameStats merge(GameStats other) {
+        if (other.numSeats != numSeats) {
+            throw new IllegalArgumentException("Cannot merge statistics for a different number of seats.");
+        }
+        add(wins, other.wins);
+        add(cardsDrawn, other.cardsDrawn);
+        add(turnsPassed, other.turnsPassed);
+        add(cardsPlayed, other.cardsPlayed);
+        add(handSizes, other.handSizes);
+        add(handSizeSamples, other.handSizeSamples);
+        detailedGames += other.detailedGames;
+        turns += other.turns;
+        turnsSquared += other.turnsSquared;
+        return this;
+    }
+
+    /**
+     * Adds one array into another, element by element.
+     *
+     * @param into the array added to
+     * @param from the array to add
+     */
+    private static void add(long[] into, long[] from) {
+        for (int i = 0; i < into.length; i++) {
+            into[i] += from[i];
+        }
+    }
+
+    //-----------------------------------------------------QUERIES-----------------------------------------------------
+
+    /**
+     * Gets the number of seats.
+     *
+     * @return the number of seats
+     */
+    public int getNumSeats() {
+        return numSeats;
+    }
+
+    /**
+     * Gets the number of games, counted by their winners.
+     *
+     * @return the number of games
+     */
+    public long getGames() {
+        long games = 0;
+        for (long w : wins) {
+            games += w;
+        }
+        return games;
+    }
+
+    /**
+     * Gets the number of games watched by a recorder, which the other statistics are averaged over.
+     *
+     * @return the number of watched games
+     */
+    public long getDetailedGames() {
+        return detailedGames;
+    }
+
+    /**
+     * Gets the number of games won by a seat.
+     *
+     * @param seat the seat
+     * @return the number of wins
+     */
+    public long getWins(int seat) {
+        return wins[seat];
+    }
+
+    /**
+     * Gets the fraction of games won by a seat.
+     *
+     * @param seat the seat
+     * @return the win rate, or 0 if no games were played
+     */
+    public double getWinRate(int seat) {
+        long games = getGames();
+        return games == 0 ? 0 : (double) wins[seat] / games;
+    }
+
+    /**
+     * Gets the 95% Wilson score interval of a seat's win rate.
+     *
+     * @param seat the seat
+     * @return the lower and upper bounds of the interval
+     */
+    public double[] getWinRateInterval(int seat) {
+        return wilsonInterval(wins[seat], getGames(), Z_95);
+    }
+
+    /**
+     * Gets the average number of turns of a watched game.
+     *
+     * @return the average number of turns
+     */
+    public double getAverageTurns() {
+        return detailedGames == 0 ? 0 : (double) turns / detailedGames;
+    }
+
+    /**
+     * Gets the standard deviation of the number of turns of a watched game.
+     *
+     * @return the standard deviation of the number of turns
+     */
+    public double getTurnsStandardDeviation() {
+        if (detailedGames == 0) return 0;
+        double mean = getAverageTurns();
+        return Math.sqrt(Math.max(0, (double) turnsSquared / detailedGames - mean * mean));
+    }
+
+    /**
+     * Gets the average number of cards a seat draws per watched game, for any reason.
+     *
+     * @param seat the seat
+     * @return the average number of cards drawn
+     */
+    public double getCardsDrawnPerGame(int seat) {
+        return perGame(cardsDrawn[seat]);
+    }
+
+    /**
+     * Gets the average number of turns a seat passes per watched game.
+     *
+     * @param seat the seat
+     * @return the average number of turns passed
+     */
+    public double getTurnsPassedPerGame(int seat) {
+        return perGame(turnsPassed[seat]);
+    }
+
+    /**
+     * Gets the average number of cards of a type a seat plays per watched game.
+     *
+     * @param seat the seat
+     * @param type the type of card
+     * @return the average number of cards played
+     */
+    public double getCardsPlayedPerGame(int seat, CardType type) {
+        return perGame(cardsPlayed[seat * NUM_TYPES + type.ordinal()]);
+    }
+
+    /**
+     * Gets the average hand size of a seat at a turn, over the watched games that reached that turn.
+     *
+     * @param seat the seat
+     * @param turn the number of the turn, from zero, below {@link #TRACKED_TURNS}
+     * @return the average hand size, or 0 if no game reached the turn
+     */
+    public double getAverageHandSize(int seat, int turn) {
+        long samples = handSizeSamples[turn];
+        return samples == 0 ? 0 : (double) handSizes[turn * numSeats + seat] / samples;
+    }
+
+    /**
+     * Averages a total over the watched games.
+     *
+     * @param total the total
+     * @return the average per watched game
+     */
+    private double perGame(long total) {
+        return detailedGames == 0 ? 0 : (double) total / detailedGames;
+    }
+
+    /**
+     * Computes the Wilson score interval of a proportion.
+     *
+     * @param successes the number of successes
+     * @param trials    the number of trials
+     * @param z         the z-score of the confidence level
+     * @return the lower and upper bounds of the interval
+     */
+    public static double[] wilsonInterval(long successes, long trials, double z) {
+        if (trials == 0) {
+            return new double[]{0, 1};
+        }
+        double p = (double) successes / trials;
+        double z2 = z * z;
+        double denominator = 1 + z2 / trials;
+        double center = (p + z2 / (2 * trials)) / denominator;
+        double margin = z * Math.sqrt(p * (1 - p) / trials + z2 / (4.0 * trials * trials)) / denominator;
+        return new double[]{Math.max(0, center - margin), Math.min(1, center + margin)};
+    }
+}
@@ -0,0 +1,101 @@
+package components.stats;
+
+import components.CardCodec;
+import components.Game;
+import components.GameListener;
+import components.players.Player;
+
+import java.util.List;
+
+/**
+ * The {@code StatsRecorder} class is a {@link GameListener} that counts the events of one game into a
+ * {@link GameStats}: turns, cards drawn, turns passed, cards played by type, and hand sizes.
+ * <p>
+ * The statistics are usually owned by the thread playing the game, so the recorder updates them directly,
+ * without any synchronization.
+ * </p>
+ *
+ * @author Riley Woolf
+ * @version 1.0
+ */
+public class StatsRecorder implements GameListener {
+    /**
+     * The statistics the game is counted into.
+     */
+    private final GameStats stats;
+
+    /**
+     * The players of the game, used to read hand sizes.
+     */
+    private final List<Player> players;
+
+    /**
+     * The hand size of each seat, read at the start of a turn.
+     */
+    private final int[] sizes;
+
+    /**
+     * The number of turns started so far.
+     */
+    private int turn;
+
+    /**
+     * Constructs a new recorder for one game.
+     *
+     * @param stats the statistics the game is counted into
+     * @param game  the game being recorded
+     */
+    public StatsRecorder(GameStats stats, Game game) {
+        this.stats = stats;
+        this.players = game.getPlayers();
+        this.sizes = new int[players.size()];
+    }
+
+    /**
+     * {@inheritDoc}
+     * Counts the turn and, for the first turns, every seat's hand size.
+     */
+    @Override
+    public void turnStarted(int seat, int topState) {
+        if (turn < GameStats.TRACKED_TURNS) {
+            for (int i = 0; i < sizes.length; i++) {
+                sizes[i] = players.get(i).getHand().size();
+            }
+            stats.recordHandSizes(turn, sizes);
+        }
+        turn++;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void cardPlayed(int seat, int code) {
+        stats.recordCardPlayed(seat, CardCodec.typeOf(code));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void cardsDrawn(int seat, int numCards) {
+        stats.recordCardsDrawn(seat, numCards);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void turnPassed(int seat) {
+        stats.recordTurnPassed(seat);
+    }
+
+    /**
+     * {@inheritDoc}
+     * Counts the length of the game. The win itself is counted by whoever owns the statistics.
+     */
+    @Override
+    public void gameWon(int seat) {
+        stats.recordGameEnd(turn);
+    }
+}
@@ -0,0 +1,171 @@
+package utils;
+
+import components.CardCodec;
+import components.Game;
+import components.GameListener;
+import components.players.Player;
+
+/**
+ * The {@code ConsoleGameListener} class prints a {@link Game} to the console through a {@link ConsoleRenderer}.
+ * <p>
+ * Watching one seat, it prints the top card and hand at the start of each of that seat's turns, and the
+ * cards, colors, and hand switches it chooses. This is the output the AI players used to print themselves
+ * when asked to. Watching the whole game with a summary-only renderer, it prints a throttled line of hand
+ * sizes and the top card, and the winner. Either way the output of a turn is written at once, when the
+ * next turn starts.
+ * </p>
+ * <p>
+ * Because it is just a listener, a game nobody asked to print never formats a string or touches
+ * {@code System.out}.
+ * </p>
+ *
+ * @author Riley Woolf
+ * @version 1.1
+ */
+public class ConsoleGameListener implements GameListener {
+    /**
+     * The seat value meaning every seat is watched.
+     */
+    private static final int EVERY_SEAT = -1;
+
+    /**
+     * The game being printed.
+     */
+    private final Game game;
+
+    /**
+     * The seat whose turns are printed, or {@link #EVERY_SEAT}.
+     */
+    private final int seat;
+
+    /**
+     * The renderer the output is built in.
+     */
+    private final ConsoleRenderer renderer;
+
+    /**
+     * The size of each seat's hand, filled in for summary lines.
+     */
+    private final int[] handSizes;
+
+    /**
+     * The number of turns started so far.
+     */
+    private int turn;
+
+    /**
+     * Constructs a new listener that prints the turns of the specified seat to {@code System.out}.
+     *
+     * @param game the game being printed
+     * @param seat the seat whose turns are printed
+     */
+    public ConsoleGameListener(Game game, int seat) {
+        this(game, seat, new ConsoleRenderer(System.out));
+    }
+
+    /**
+     * Constructs a new listener that prints the whole game with the specified renderer, which is
+     * usually summary-only.
+     *
+     * @param game     the game being printed
+     * @param renderer the renderer the output is built in
+     */
+    public ConsoleGameListener(Game game, ConsoleRenderer renderer) {
+        this(game, EVERY_SEAT, renderer);
+    }
+
+    /**
+     * Constructs a new listener.
+     *
+     * @param game     the game being printed
+     * @param seat     the seat whose turns are printed, or {@link #EVERY_SEAT}
+     * @param renderer the renderer the output is built in
+     */
+    private ConsoleGameListener(Game game, int seat, ConsoleRenderer renderer) {
+        this.game = game;
+        this.seat = seat;
+        this.renderer = renderer;
+        this.handSizes = new int[game.getPlayers().size()];
+    }
+
+    /**
+     * Checks if the specified seat is watched.
+     *
+     * @param seat the seat
+     * @return {@code true} if the seat's turns are printed, {@code false} otherwise
+     */
+    private boolean watches(int seat) {
+        return this.seat == EVERY_SEAT || this.seat == seat;
+    }
+
+    /**
+     * {@inheritDoc}
+     * Prints the top card and the seat's hand, or a summary line, and writes out the turn.
+     */
+    @Override
+    public void turnStarted(int seat, int topState) {
+        turn++;
+        if (renderer.isSummaryOnly()) {
+            renderer.appendSummary(turn, handSizes(), topState, false);
+        } else if (watches(seat)) {
+            Player player = game.getPlayers().get(seat);
+            renderer.appendTopCard(topState).appendHand(player.getName(), player.getHand());
+        }
+        renderer.flush();
+    }
+
+    /**
+     * {@inheritDoc}
+     * Prints the card the seat played.
+     */
+    @Override
+    public void cardPlayed(int seat, int code) {
+        if (!watches(seat)) return;
+        renderer.appendCardPlayed(game.getPlayers().get(seat).getName(), code);
+    }
+
+    /**
+     * {@inheritDoc}
+     * Prints the color the seat chose.
+     */
+    @Override
+    public void colorChosen(int seat, Color color) {
+        if (!watches(seat) || renderer.isSummaryOnly()) return;
+        renderer.appendLine("Chose color: " + color.name());
+    }
+
+    /**
+     * {@inheritDoc}
+     * Prints the seat the seat chose to switch hands with.
+     */
+    @Override
+    public void handsSwapped(int seat, int target) {
+        if (!watches(seat) || renderer.isSummaryOnly()) return;
+        renderer.appendLine("Chose to switch hands with player " + (target + 1));
+    }
+
+    /**
+     * {@inheritDoc}
+     * Prints the winner when watching the whole game, and writes out the rest of the game.
+     */
+    @Override
+    public void gameWon(int seat) {
+        if (this.seat == EVERY_SEAT) {
+            renderer.appendSummary(turn, handSizes(), CardCodec.topState(game.getTopCard()), true)
+                    .appendWinner(game.getPlayers().get(seat).getName());
+        }
+        renderer.flush();
+    }
+
+    /**
+     * Fills in the size of each seat's hand.
+     *
+     * @return the hand sizes
+     */
+    private int[] handSizes() {
+        for (int i = 0; i < handSizes.length; i++) {
+            handSizes[i] = game.getPlayers().get(i).getHand().size();
+        }
+        return handSizes;
+    }
+}
@@ -0,0 +1,263 @@
+package utils;
+
+import components.Card;
+import components.CardCodec;
+import components.Hand;
+
+import java.io.PrintStream;
+import java.util.List;
+
+/**
+ * The {@code ConsoleRenderer} class builds game output for the console in a reusable buffer and writes it
+ * in one go.
+ * <p>
+ * The colored text of every card face and every top state is rendered once, when the class is loaded, so
+ * showing a hand is a run of appends instead of a separate write for each color escape, card, and reset.
+ * Nothing reaches the terminal until {@link #flush()}, which callers make once per turn.
+ * </p>
+ * <p>
+ * A renderer can also be made summary-only, for watching fast games: it then ignores the per-card output
+ * and prints at most one {@linkplain #appendSummary summary line} per interval.
+ * </p>
+ *
+ * @author Riley Woolf
+ * @version 1.0
+ */
+public class ConsoleRenderer {
+    /**
+     * The colored text of each card face, indexed by card code.
+     */
+    private static final String[] FACES = new String[CardCodec.FACE_COUNT];
+
+    /**
+     * The colored text of each top state, indexed by top state.
+     */
+    private static final String[] TOP_STATES = new String[CardCodec.TOP_STATE_COUNT];
+
+    static {
+        for (int code = 0; code < CardCodec.FACE_COUNT; code++) {
+            FACES[code] = colored(CardCodec.decode(code));
+        }
+        for (int topState = 0; topState < CardCodec.TOP_STATE_COUNT; topState++) {
+            TOP_STATES[topState] = colored(CardCodec.decodeTopState(topState));
+        }
+    }
+
+    /**
+     * The stream the output is written to.
+     */
+    private final PrintStream out;
+
+    /**
+     * The output built since the last flush.
+     */
+    private final StringBuilder buffer = new StringBuilder(1024);
+
+    /**
+     * The shortest time between two summary lines in nanoseconds, or -1 if the renderer shows everything.
+     */
+    private final long summaryIntervalNanos;
+
+    /**
+     * The {@link System#nanoTime()} of the last summary line.
+     */
+    private long lastSummary;
+
+    /**
+     * Constructs a new renderer that shows everything.
+     *
+     * @param out the stream the output is written to
+     */
+    public ConsoleRenderer(PrintStream out) {
+        this.out = out;
+        this.summaryIntervalNanos = -1;
+    }
+
+    /**
+     * Constructs a new summary-only renderer.
+     *
+     * @param out                   the stream the output is written to
+     * @param summaryIntervalMillis the shortest time between two summary lines, in milliseconds
+     */
+    public ConsoleRenderer(PrintStream out, long summaryIntervalMillis) {
+        this.out = out;
+        this.summaryIntervalNanos = Math.max(0, summaryIntervalMillis) * 1_000_000;
+        this.lastSummary = System.nanoTime() - summaryIntervalNanos;
+    }
+
+    /**
+     * Gets the colored text of a card face, followed by a color reset.
+     *
+     * @param code the code of the card face
+     * @return the colored text
+     */
+    public static String face(int code) {
+        return FACES[code];
+    }
+
+    /**
+     * Gets the colored text of a top state, followed by a color reset.
+     *
+     * @param topState the top state
+     * @return the colored text
+     */
+    public static String topState(int topState) {
+        return TOP_STATES[topState];
+    }
+
+    /**
+     * Checks if the renderer only shows summary lines.
+     *
+     * @return {@code true} if the renderer is summary-only, {@code false} otherwise
+     */
+    public boolean isSummaryOnly() {
+        return summaryIntervalNanos >= 0;
+    }
+
+    /**
+     * Appends the top card line.
+     *
+     * @param topState the top state of the discard pile
+     * @return this renderer
+     */
+    public ConsoleRenderer appendTopCard(int topState) {
+        if (isSummaryOnly()) return this;
+        buffer.append("Top card:  ").append(TOP_STATES[topState]).append('\n');
+        return this;
+    }
+
+    /**
+     * Appends a player's hand, numbering each card.
+     *
+     * @param name the name of the player
+     * @param hand the cards in the player's hand
+     * @return this renderer
+     */
+    public ConsoleRenderer appendHand(String name, Hand hand) {
+        if (isSummaryOnly()) return this;
+        buffer.append(name).append("'s hand:\n");
+        for (int i = 0; i < hand.size(); i++) {
+            buffer.append(i).append(": ").append(FACES[hand.codeAt(i)]).append("  ");
+        }
+        buffer.append('\n');
+        return this;
+    }
+
+    /**
+     * Appends a player's hand, numbering each card.
+     *
+     * @param name the name of the player
+     * @param hand the cards in the player's hand
+     * @return this renderer
+     */
+    public ConsoleRenderer appendHand(String name, List<Card> hand) {
+        if (hand instanceof Hand codes) {
+            return appendHand(name, codes);
+        }
+        if (isSummaryOnly()) return this;
+        buffer.append(name).append("'s hand:\n");
+        for (int i = 0; i < hand.size(); i++) {
+            buffer.append(i).append(": ").append(colored(hand.get(i))).append("  ");
+        }
+        buffer.append('\n');
+        return this;
+    }
+
+    /**
+     * Appends the line for a card being played.
+     *
+     * @param name the name of the player
+     * @param code the code of the card played
+     * @return this renderer
+     */
+    public ConsoleRenderer appendCardPlayed(String name, int code) {
+        if (isSummaryOnly()) return this;
+        buffer.append(name).append("' Turn: Card played:  ").append(FACES[code]).append('\n');
+        return this;
+    }
+
+    /**
+     * Appends a line of plain text.
+     *
+     * @param line the text
+     * @return this renderer
+     */
+    public ConsoleRenderer appendLine(String line) {
+        if (isSummaryOnly()) return this;
+        buffer.append(line).append('\n');
+        return this;
+    }
+
+    /**
+     * Appends a summary line of the game, if the renderer is summary-only and its interval has passed
+     * since the last one, or if {@code force} is set.
+     *
+     * @param turn      the number of the turn
+     * @param handSizes the size of each seat's hand
+     * @param topState  the top state of the discard pile
+     * @param force     whether to append the line even if the interval has not passed
+     * @return this renderer
+     */
+    public ConsoleRenderer appendSummary(int turn, int[] handSizes, int topState, boolean force) {
+        if (!isSummaryOnly()) return this;
+        long now = System.nanoTime();
+        if (!force && now - lastSummary < summaryIntervalNanos) return this;
+        lastSummary = now;
+
+        buffer.append("Turn ").append(turn).append(" | hands:");
+        for (int size : handSizes) {
+            buffer.append(' ').append(size);
+        }
+        buffer.append(" | top: ").append(TOP_STATES[topState]).append('\n');
+        return this;
+    }
+
+    /**
+     * Appends a line announcing the winner. Shown in both modes.
+     *
+     * @param name the name of the winner
+     * @return this renderer
+     */
+    public ConsoleRenderer appendWinner(String name) {
+        buffer.append("Winner: ").append(name).append('\n');
+        return this;
+    }
+
+    /**
+     * Writes everything appended since the last flush to the stream, in one write, and empties the buffer.
+     */
+    public void flush() {
+        if (buffer.isEmpty()) return;
+        out.print(buffer);
+        out.flush();
+        buffer.setLength(0);
+    }
+
+    /**
+     * Renders a card in its color, followed by a color reset.
+     *
+     * @param card the card
+     * @return the colored text
+     */
+    private static String colored(Card card) {
+        return colorCode(card.getColor()) + card + ConsoleColors.RESET;
+    }
+
+    /**
+     * Gets the escape code of a card color.
+     *
+     * @param color the color, or {@code null} for an undeclared wild
+     * @return the escape code
+     */
+    static String colorCode(Color color) {
+        if (color == null) {
+            return ConsoleColors.RESET;
+        }
+        return switch (color) {
+            case RED -> ConsoleColors.RED_BOLD;
+            case BLUE -> ConsoleColors.BLUE_BOLD;
+            case YELLOW -> ConsoleColors.YELLOW_BOLD;
+            case GREEN -> ConsoleColors.GREEN_BOLD;
+        };
+    }
+}
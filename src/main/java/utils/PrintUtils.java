@@ -1,6 +1,7 @@
 package utils;
 
 import components.Card;
+import components.CardCodec;
 
 import java.util.List;
 
@@ -14,21 +15,13 @@ import java.util.List;
 public class PrintUtils {
 
     /**
-     * Displays the current hand of a player in the console.
+     * Displays the current hand of a player in the console, in one write.
      *
      * @param name the name of the player
      * @param hand the list of cards in the player's hand
      */
     public static void displayHand(String name, List<Card> hand) {
-        System.out.println(name + "'s hand:");
-
-        for (int i = 0; i < hand.size(); i++) {
-            displayColor(hand.get(i));
-
-            System.out.print(i + ": " + hand.get(i) + "  ");
-        }
-        resetColor();
-        System.out.println();
+        new ConsoleRenderer(System.out).appendHand(name, hand).flush();
     }
 
     /**
@@ -37,17 +30,7 @@ public class PrintUtils {
      * @param card the card whose color is to be displayed
      */
     public static void displayColor(Card card) {
-        if (card.getColor() == null) {
-            System.out.print(ConsoleColors.RESET);
-            return;
-        }
-        switch (card.getColor()) {
-            case RED -> System.out.print(ConsoleColors.RED_BOLD);
-            case BLUE -> System.out.print(ConsoleColors.BLUE_BOLD);
-            case YELLOW -> System.out.print(ConsoleColors.YELLOW_BOLD);
-            case GREEN -> System.out.print(ConsoleColors.GREEN_BOLD);
-            default -> System.out.print(ConsoleColors.RESET);
-        }
+        System.out.print(ConsoleRenderer.colorCode(card.getColor()));
     }
 
     /**
@@ -56,9 +39,7 @@ public class PrintUtils {
      * @param topCard the current top card on the table
      */
     public static void displayTopCard(Card topCard) {
-        displayColor(topCard);
-        System.out.println("Top card:  " + topCard);
-        resetColor();
+        System.out.println("Top card:  " + ConsoleRenderer.topState(CardCodec.topState(topCard)));
     }
 
     /**
@@ -67,10 +48,7 @@ public class PrintUtils {
      * @param card the card to display
      */
     public static void displayCard(Card card) {
-        displayColor(card);
-        System.out.print("Card played:  " + card);
-        resetColor();
-        System.out.println();
+        System.out.println("Card played:  " + ConsoleRenderer.face(card.getCode()));
     }
 
     /**
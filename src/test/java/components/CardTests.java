@@ -21,18 +21,24 @@ public class CardTests {
      */
     @Test
     public void getColor() {
-        Card card = new Card(Color.RED, CardType.NUMBER, 5);
+        Card card = Card.of(Color.RED, CardType.NUMBER, 5);
         assertEquals(Color.RED, card.getColor());
     }
 
     /**
-     * Test for setting the color of a card.
+     * Test for getting cards, which should be the shared instance of each face and declared color.
      */
     @Test
-    public void setColor() {
-        Card card = new Card(Color.BLUE, CardType.NUMBER, 7);
-        card.setColor(Color.YELLOW);
-        assertEquals(Color.YELLOW, card.getColor());
+    public void ofSharesInstances() {
+        assertSame(Card.of(Color.BLUE, CardType.NUMBER, 7), Card.of(Color.BLUE, CardType.NUMBER, 7));
+        assertSame(CardCodec.decode(CardCodec.WILD), Card.of(null, CardType.WILD, -1));
+
+        // A wild with a declared color is a different card, and the wild in hand keeps no color.
+        Card declared = Card.of(Color.YELLOW, CardType.WILD, -1);
+        assertEquals(Color.YELLOW, declared.getColor());
+        assertEquals(CardCodec.WILD, declared.getCode());
+        assertNull(Card.of(null, CardType.WILD, -1).getColor());
+        assertEquals(CardCodec.topState(CardCodec.WILD, Color.YELLOW), declared.getTopState());
     }
 
     /**
@@ -40,7 +46,7 @@ public class CardTests {
      */
     @Test
     public void getType() {
-        Card card = new Card(Color.GREEN, CardType.SKIP, 0);
+        Card card = Card.of(Color.GREEN, CardType.SKIP, 0);
         assertEquals(CardType.SKIP, card.getType());
     }
 
@@ -49,7 +55,7 @@ public class CardTests {
      */
     @Test
     public void getNumber() {
-        Card card = new Card(Color.RED, CardType.NUMBER, 3);
+        Card card = Card.of(Color.RED, CardType.NUMBER, 3);
         assertEquals(3, card.getNumber());
     }
 
@@ -58,23 +64,23 @@ public class CardTests {
      */
     @Test
     public void validMove() {
-        Card topCard = new Card(Color.BLUE, CardType.NUMBER, 5);
+        Card topCard = Card.of(Color.BLUE, CardType.NUMBER, 5);
 
         // Test valid moves
-        Card validCard = new Card(Color.BLUE, CardType.NUMBER, 8);
+        Card validCard = Card.of(Color.BLUE, CardType.NUMBER, 8);
         assertTrue(validCard.validMove(topCard));
 
-        validCard = new Card(Color.GREEN, CardType.NUMBER, 5);
+        validCard = Card.of(Color.GREEN, CardType.NUMBER, 5);
         assertTrue(validCard.validMove(topCard));
 
-        validCard = new Card(Color.BLUE, CardType.REVERSE, -1);
+        validCard = Card.of(Color.BLUE, CardType.REVERSE, -1);
         assertTrue(validCard.validMove(topCard));
 
         // Test invalid moves
-        Card invalidCard = new Card(Color.RED, CardType.NUMBER, 2);
+        Card invalidCard = Card.of(Color.RED, CardType.NUMBER, 2);
         assertFalse(invalidCard.validMove(topCard));
 
-        invalidCard = new Card(Color.GREEN, CardType.SKIP, -1);
+        invalidCard = Card.of(Color.GREEN, CardType.SKIP, -1);
         assertFalse(invalidCard.validMove(topCard));
     }
 
@@ -83,14 +89,14 @@ public class CardTests {
      */
     @Test
     public void validMoveWild() {
-        Card topCard = new Card(Color.YELLOW, CardType.SKIP, -1);
+        Card topCard = Card.of(Color.YELLOW, CardType.SKIP, -1);
 
         // Wild cards are always valid moves
-        Card wildCard = new Card(null, CardType.WILD, 0);
+        Card wildCard = Card.of(null, CardType.WILD, 0);
         assertTrue(wildCard.validMove(topCard));
 
         topCard = wildCard;
-        wildCard = new Card(null, CardType.WILD_DRAW_FOUR, -1);
+        wildCard = Card.of(null, CardType.WILD_DRAW_FOUR, -1);
         assertTrue(wildCard.validMove(topCard));
     }
 
@@ -99,7 +105,7 @@ public class CardTests {
      */
     @Test
     public void toStringNumberCard() {
-        Card numberCard = new Card(Color.GREEN, CardType.NUMBER, 4);
+        Card numberCard = Card.of(Color.GREEN, CardType.NUMBER, 4);
         assertEquals("GREEN 4", numberCard.toString());
     }
 
@@ -108,7 +114,7 @@ public class CardTests {
      */
     @Test
     public void toStringWildCard() {
-        Card wildCard = new Card(null, CardType.WILD, -1);
+        Card wildCard = Card.of(null, CardType.WILD, -1);
         assertEquals("WILD", wildCard.toString());
     }
 
@@ -117,7 +123,7 @@ public class CardTests {
      */
     @Test
     public void toStringWildDrawFourCard() {
-        Card wildDrawFourCard = new Card(Color.BLUE, CardType.WILD_DRAW_FOUR, -1);
+        Card wildDrawFourCard = Card.of(Color.BLUE, CardType.WILD_DRAW_FOUR, -1);
         assertEquals("WILD_DRAW_FOUR BLUE", wildDrawFourCard.toString());
     }
 }
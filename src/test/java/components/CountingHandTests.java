@@ -0,0 +1,104 @@
+package components;
+
+import org.junit.*;
+import utils.CardType;
+import utils.Color;
+
+import static org.junit.Assert.*;
+
+/**
+ * The {@code CountingHandTests} class contains JUnit tests for the {@link CountingHand} class.
+ * It includes tests for adding and removing cards, the running color and type counts, and indexed access.
+ *
+ * @author Riley Woolf
+ * @version 1.0
+ */
+public class CountingHandTests {
+
+    /**
+     * Test that adding and removing cards keeps the size and counts up to date.
+     */
+    @Test
+    public void addAndRemove() {
+        CountingHand hand = new CountingHand();
+        Card redFive = Card.of(Color.RED, CardType.NUMBER, 5);
+        hand.add(redFive);
+        hand.add(Card.of(Color.RED, CardType.NUMBER, 5));
+        hand.add(Card.of(null, CardType.WILD, -1));
+
+        assertEquals(3, hand.size());
+        assertEquals(2, hand.countOf(redFive.getCode()));
+        assertEquals(2, hand.colorCount(Color.RED));
+        assertEquals(1, hand.typeCount(CardType.WILD));
+
+        assertTrue(hand.remove(redFive));
+        assertTrue(hand.remove(redFive));
+        assertFalse(hand.remove(redFive));
+        assertEquals(1, hand.size());
+        assertEquals(0, hand.colorCount(Color.RED));
+        assertEquals(1L << CardCodec.WILD, hand.faceMask());
+    }
+
+    /**
+     * Test that the most common color follows the cards in the hand.
+     */
+    @Test
+    public void mostCommonColor() {
+        CountingHand hand = new CountingHand();
+        hand.add(Card.of(Color.BLUE, CardType.SKIP, -1));
+        hand.add(Card.of(Color.YELLOW, CardType.NUMBER, 1));
+        hand.add(Card.of(Color.YELLOW, CardType.NUMBER, 2));
+        assertEquals(Color.YELLOW, hand.mostCommonColor());
+
+        hand.remove(Card.of(Color.YELLOW, CardType.NUMBER, 1));
+        hand.add(Card.of(Color.BLUE, CardType.REVERSE, -1));
+        assertEquals(Color.BLUE, hand.mostCommonColor());
+    }
+
+    /**
+     * Test that indexed access and iteration both walk the cards in face order.
+     */
+    @Test
+    public void indexedAccess() {
+        CountingHand hand = new CountingHand();
+        hand.add(Card.of(Color.GREEN, CardType.NUMBER, 3));
+        hand.add(Card.of(Color.RED, CardType.NUMBER, 9));
+        hand.add(Card.of(Color.GREEN, CardType.NUMBER, 3));
+
+        assertEquals("RED 9", hand.get(0).toString());
+        assertEquals("GREEN 3", hand.get(1).toString());
+        assertEquals("GREEN 3", hand.get(2).toString());
+        assertEquals(1, hand.indexOf(Card.of(Color.GREEN, CardType.NUMBER, 3)));
+
+        int i = 0;
+        for (Card card : hand) {
+            assertEquals(hand.codeAt(i++), card.getCode());
+        }
+        assertEquals(3, i);
+
+        assertEquals("RED 9", hand.remove(0).toString());
+        assertEquals(2, hand.size());
+    }
+
+    /**
+     * Test that adding cards in bulk keeps the same counts as adding them one at a time.
+     */
+    @Test
+    public void addCodesInBulk() {
+        byte[] codes = {5, 17, 5, (byte) CardCodec.WILD_DRAW_FOUR, 30};
+        CountingHand bulk = new CountingHand();
+        bulk.addCodes(codes, 1, 3);
+        CodeHand plain = new CodeHand();
+        plain.addCodes(codes, 1, 3);
+
+        assertEquals(3, bulk.size());
+        assertEquals(1, bulk.countOf(5));
+        assertEquals(1, bulk.countOf(17));
+        assertEquals(1, bulk.typeCount(CardType.WILD_DRAW_FOUR));
+        assertEquals(2, bulk.colorCount(Color.RED) + bulk.colorCount(Color.YELLOW)
+                + bulk.colorCount(Color.GREEN) + bulk.colorCount(Color.BLUE));
+        assertEquals(bulk.faceMask(), plain.faceMask());
+        assertEquals(3, plain.size());
+        assertEquals(17, plain.codeAt(0));
+    }
+}
@@ -4,6 +4,7 @@ import org.junit.*;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.SplittableRandom;
 
 import static org.junit.Assert.*;
 
@@ -60,6 +61,19 @@ public class DeckTests {
         assertNotEquals(originalOrder, deck.getCards());
     }
 
+    /**
+     * Test that two decks shuffled with the same seed deal the same cards.
+     */
+    @Test
+    public void sameSeedSameOrder() {
+        Deck first = new Deck(new SplittableRandom(7));
+        Deck second = new Deck(new SplittableRandom(7));
+
+        while (first.size() > 0) {
+            assertEquals(first.drawCode(), second.drawCode());
+        }
+    }
+
     /**
      * Test for drawing all cards from the deck.
      */
@@ -75,6 +89,26 @@ public class DeckTests {
         assertTrue(deck.getCards().isEmpty());
     }
 
+    /**
+     * Test for refilling an empty deck from the discard pile.
+     */
+    @Test
+    public void refillFromDiscardPile() {
+        Deck deck = new Deck();
+        DiscardPile discardPile = new DiscardPile();
+        int fullSize = deck.size();
+
+        // Play every card onto the discard pile.
+        while (deck.size() > 0) {
+            discardPile.add(deck.drawCode());
+        }
+
+        // Refilling should move every card back into the deck and empty the pile.
+        deck.refill(discardPile);
+        assertEquals(fullSize, deck.size());
+        assertEquals(0, discardPile.size());
+    }
+
     /**
      * Test for drawing a card after the deck is empty, which should reinitialize the deck.
      */
@@ -93,4 +127,41 @@ public class DeckTests {
         deck.draw();
         assertFalse(deck.getCards().isEmpty());
     }
+
+    /**
+     * Test for finding the first card of a set of faces in a single scan from the top of the deck.
+     */
+    @Test
+    public void depthOfFirstMatch() {
+        Deck deck = new Deck(new SplittableRandom(3));
+        int depth = deck.depthOf(1L << CardCodec.WILD);
+
+        // The match is the deepest card of the run, and nothing above it matches.
+        assertTrue(depth > 0);
+        assertEquals(CardCodec.WILD, deck.codeAt(deck.size() - depth));
+        for (int i = deck.size() - depth + 1; i < deck.size(); i++) {
+            assertNotEquals(CardCodec.WILD, deck.codeAt(i));
+        }
+
+        // Nothing matches an empty set of faces.
+        assertEquals(0, deck.depthOf(0L));
+    }
+
+    /**
+     * Test for resetting a used deck, which should deal the same cards as a new deck with the same seed.
+     */
+    @Test
+    public void resetMatchesNewDeck() {
+        Deck deck = new Deck(new SplittableRandom(1));
+        for (int i = 0; i < 40; i++) {
+            deck.drawCode();
+        }
+
+        deck.reset(7);
+        Deck fresh = new Deck(new SplittableRandom(7));
+        assertEquals(CardCodec.DECK_SIZE, deck.size());
+        for (int i = 0; i < CardCodec.DECK_SIZE; i++) {
+            assertEquals(fresh.drawCode(), deck.drawCode());
+        }
+    }
 }
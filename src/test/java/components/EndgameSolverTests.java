@@ -0,0 +1,105 @@
+package components;
+
+import org.junit.jupiter.api.Test;
+import utils.CardType;
+import utils.Color;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class EndgameSolverTests {
+
+    private final int redFive = CardCodec.encode(Color.RED, CardType.NUMBER, 5);
+    private final int redFour = CardCodec.encode(Color.RED, CardType.NUMBER, 4);
+    private final int redSeven = CardCodec.encode(Color.RED, CardType.NUMBER, 7);
+    private final int redSkip = CardCodec.encode(Color.RED, CardType.SKIP, -1);
+
+    private GameState endgame(int[] seatZero, int[] seatOne, int deckCode) {
+        GameState state = new GameState(2, new SpecialRules());
+        for (int code : seatZero) {
+            state.addToHand(0, code);
+        }
+        for (int code : seatOne) {
+            state.addToHand(1, code);
+        }
+        for (int i = 0; i < 20; i++) {
+            state.addToDeck(deckCode);
+        }
+        state.setPosition(redFive, true, 0);
+        return state;
+    }
+
+    @Test
+    void testPlaysWinningCard() {
+        GameState state = endgame(new int[]{redFour}, new int[]{redSeven, redSeven},
+                CardCodec.encode(Color.BLUE, CardType.NUMBER, 2));
+
+        EndgameSolver.Solution solution = new EndgameSolver().solve(state, Long.MAX_VALUE, Long.MAX_VALUE);
+
+        assertEquals(redFour, solution.getMove());
+        assertTrue(solution.isWin());
+        assertEquals(EndgameSolver.WIN - 1, solution.getScore());
+    }
+
+    @Test
+    void testSkipsBeforeGoingOut() {
+        // Playing the 4 first lets the other seat go out with its 7; the skip keeps the turn.
+        GameState state = endgame(new int[]{redSkip, redFour}, new int[]{redSeven},
+                CardCodec.encode(Color.BLUE, CardType.NUMBER, 2));
+
+        EndgameSolver.Solution solution = new EndgameSolver().solve(state, Long.MAX_VALUE, Long.MAX_VALUE);
+
+        assertEquals(redSkip, solution.getMove());
+        assertTrue(solution.isWin());
+        assertEquals(EndgameSolver.WIN - 2, solution.getScore());
+    }
+
+    @Test
+    void testProvesLoss() {
+        GameState state = endgame(new int[]{CardCodec.encode(Color.GREEN, CardType.NUMBER, 1)},
+                new int[]{redSeven}, CardCodec.encode(Color.BLUE, CardType.NUMBER, 2));
+
+        EndgameSolver.Solution solution = new EndgameSolver().solve(state, Long.MAX_VALUE, Long.MAX_VALUE);
+
+        assertEquals(GameState.DRAW, solution.getMove());
+        assertTrue(solution.isProven());
+        assertFalse(solution.isWin());
+        assertTrue(solution.getScore() < 0);
+    }
+
+    @Test
+    void testStaysWithinNodeBudget() {
+        int[] hand = new int[6];
+        for (int i = 0; i < hand.length; i++) {
+            hand[i] = CardCodec.encode(Color.values()[i % 4], CardType.NUMBER, i);
+        }
+        GameState state = endgame(hand, hand, CardCodec.encode(Color.YELLOW, CardType.NUMBER, 8));
+
+        EndgameSolver.Solution solution = new EndgameSolver(10).solve(state, Long.MAX_VALUE, 1000);
+
+        assertTrue(solution.getNodes() <= 1000 + 256);
+        assertNotEquals(0, state.legalMoves(new int[state.maxMoves()]));
+        assertFalse(state.isOver());
+    }
+
+    @Test
+    void testTranspositionsHashAlike() {
+        EndgameSolver solver = new EndgameSolver();
+        int blueFive = CardCodec.encode(Color.BLUE, CardType.NUMBER, 5);
+        GameState first = endgame(new int[]{redFour, blueFive}, new int[]{redSeven}, redSeven);
+        GameState second = endgame(new int[]{blueFive, redFour}, new int[]{redSeven}, redSeven);
+        assertEquals(solver.hash(first), solver.hash(second));
+
+        second.applyInPlace(GameState.DRAW);
+        assertNotEquals(solver.hash(first), solver.hash(second));
+    }
+
+    @Test
+    void testRejectsMoreThanTwoPlayers() {
+        GameState state = new GameState(3, new SpecialRules());
+        state.addToHand(0, redFour);
+        state.setPosition(redFive, true, 0);
+        assertFalse(EndgameSolver.applies(state, EndgameSolver.DEFAULT_MAX_CARDS));
+        assertThrows(IllegalArgumentException.class,
+                () -> new EndgameSolver().solve(state, Long.MAX_VALUE, Long.MAX_VALUE));
+    }
+}
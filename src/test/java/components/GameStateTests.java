@@ -0,0 +1,228 @@
+package components;
+
+import components.players.EasyAIPlayer;
+import org.junit.jupiter.api.Test;
+import utils.CardType;
+import utils.Color;
+
+import java.util.List;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class GameStateTests {
+
+    private static GameState dealtState(int numPlayers, SpecialRules rules, long seed) {
+        Deck deck = new Deck(new SplittableRandom(seed));
+        GameState state = new GameState(numPlayers, rules);
+        for (int i = 0; i < 7; i++) {
+            for (int seat = 0; seat < numPlayers; seat++) {
+                state.addToHand(seat, deck.drawCode());
+            }
+        }
+        int top = deck.drawCode();
+        while (top >= CardCodec.WILD) {
+            state.addToDiscard(top);
+            top = deck.drawCode();
+        }
+        while (deck.size() > 0) {
+            state.addToDeck(deck.drawCode());
+        }
+        state.setPosition(top, true, 0);
+        state.setShuffleSeed(seed);
+        return state;
+    }
+
+    private static int totalCards(GameState state) {
+        int total = state.getDeckSize() + state.getDiscardSize() + 1;
+        for (int seat = 0; seat < state.getNumPlayers(); seat++) {
+            total += state.handSize(seat);
+        }
+        return total;
+    }
+
+    @Test
+    void testApplyDoesNotChangeOriginal() {
+        GameState state = dealtState(3, new SpecialRules(), 1);
+        int[] moves = new int[state.maxMoves()];
+        state.legalMoves(moves);
+
+        GameState next = state.apply(moves[0]);
+
+        assertEquals(0, state.getCurrent());
+        assertEquals(0, state.getTurn());
+        assertEquals(7, state.handSize(0));
+        assertEquals(1, next.getTurn());
+        assertEquals(CardCodec.DECK_SIZE, totalCards(next));
+    }
+
+    @Test
+    void testDrawIsOnlyMoveWhenNothingPlayable() {
+        GameState state = new GameState(2, new SpecialRules());
+        state.addToHand(0, CardCodec.encode(Color.BLUE, CardType.NUMBER, 3));
+        state.addToHand(1, CardCodec.encode(Color.RED, CardType.NUMBER, 4));
+        state.addToDeck(CardCodec.encode(Color.GREEN, CardType.NUMBER, 1));
+        state.setPosition(CardCodec.encode(Color.RED, CardType.NUMBER, 5), true, 0);
+
+        int[] moves = new int[state.maxMoves()];
+        assertEquals(1, state.legalMoves(moves));
+        assertEquals(GameState.DRAW, moves[0]);
+
+        state.applyInPlace(GameState.DRAW);
+        assertEquals(2, state.handSize(0));
+        assertEquals(0, state.getDeckSize());
+        assertEquals(1, state.getCurrent());
+    }
+
+    @Test
+    void testWildMovesCoverEveryColor() {
+        GameState state = new GameState(2, new SpecialRules());
+        state.addToHand(0, CardCodec.WILD);
+        state.addToHand(0, CardCodec.encode(Color.BLUE, CardType.NUMBER, 3));
+        state.setPosition(CardCodec.encode(Color.RED, CardType.NUMBER, 5), true, 0);
+
+        int[] moves = new int[state.maxMoves()];
+        assertEquals(4, state.legalMoves(moves));
+
+        state.applyInPlace(moves[2]);
+        assertEquals(CardCodec.topState(CardCodec.WILD, Color.values()[2]), state.getTopState());
+    }
+
+    @Test
+    void testRandomPlayoutEndsWithWinner() {
+        SpecialRules rules = new SpecialRules(false, true, true, false);
+        SplittableRandom random = new SplittableRandom(7);
+        for (long seed = 0; seed < 50; seed++) {
+            GameState state = dealtState(4, rules, seed);
+            int[] moves = new int[state.maxMoves()];
+            while (!state.isOver()) {
+                int count = state.legalMoves(moves);
+                state.applyInPlace(moves[random.nextInt(count)]);
+                assertEquals(CardCodec.DECK_SIZE, totalCards(state));
+            }
+            assertEquals(0, state.handSize(state.getWinner()));
+        }
+    }
+
+    @Test
+    void testCopyFromMatchesCopy() {
+        GameState state = dealtState(3, new SpecialRules(), 3);
+        GameState scratch = dealtState(3, new SpecialRules(), 4);
+        scratch.copyFrom(state);
+
+        assertEquals(state.toString(), scratch.toString());
+        for (int seat = 0; seat < 3; seat++) {
+            assertEquals(state.faceMask(seat), scratch.faceMask(seat));
+        }
+        assertEquals(state.getDeckSize(), scratch.getDeckSize());
+    }
+
+    @Test
+    void testDeterminizeKeepsWhatSeatCanSee() {
+        GameState state = dealtState(3, new SpecialRules(), 5);
+        state.applyInPlace(GameState.DRAW);
+        GameState guess = state.copy();
+        guess.determinize(0, new SplittableRandom(9));
+
+        assertEquals(state.faceMask(0), guess.faceMask(0));
+        for (int seat = 0; seat < 3; seat++) {
+            assertEquals(state.handSize(seat), guess.handSize(seat));
+        }
+        assertEquals(state.getDeckSize(), guess.getDeckSize());
+        assertEquals(state.getTopState(), guess.getTopState());
+        assertNotEquals(state.faceMask(1), guess.faceMask(1));
+    }
+
+    @Test
+    void testSnapshotBeforeStartThrows() {
+        Game game = new Game(List.of(new EasyAIPlayer("Player 1", 0), new EasyAIPlayer("Player 2", 1)),
+                new SpecialRules(), 1L);
+        assertThrows(IllegalStateException.class, game::snapshot);
+    }
+
+    @Test
+    void testStackingOffersDrawCardsThenPenalty() {
+        GameState state = new GameState(2, new SpecialRules(true, false, false, false));
+        int redDrawTwo = CardCodec.encode(Color.RED, CardType.DRAW_TWO, -1);
+        state.addToHand(0, CardCodec.encode(Color.BLUE, CardType.DRAW_TWO, -1));
+        state.addToHand(0, CardCodec.encode(Color.RED, CardType.NUMBER, 3));
+        state.addToHand(1, CardCodec.encode(Color.RED, CardType.NUMBER, 4));
+        for (int i = 0; i < 10; i++) {
+            state.addToDeck(CardCodec.encode(Color.GREEN, CardType.NUMBER, 1));
+        }
+        state.setPosition(redDrawTwo, true, 0);
+        state.setPendingPenalty(2);
+
+        int[] moves = new int[state.maxMoves()];
+        assertEquals(2, state.legalMoves(moves));
+        assertEquals(GameState.DRAW, moves[1]);
+
+        state.applyInPlace(moves[0]);
+        assertEquals(1, state.getCurrent());
+        assertEquals(4, state.getPendingPenalty());
+        assertEquals(1, state.legalMoves(moves));
+
+        state.applyInPlace(GameState.DRAW);
+        assertEquals(5, state.handSize(1));
+        assertEquals(0, state.getPendingPenalty());
+        assertEquals(0, state.getCurrent());
+    }
+
+    @Test
+    void testDrawUntilPlayableKeepsTurn() {
+        GameState state = new GameState(2, new SpecialRules(false, false, false, false, true));
+        int redNine = CardCodec.encode(Color.RED, CardType.NUMBER, 9);
+        state.addToHand(0, CardCodec.encode(Color.GREEN, CardType.NUMBER, 1));
+        state.addToHand(1, CardCodec.encode(Color.RED, CardType.NUMBER, 4));
+        state.addToDeck(redNine);
+        state.addToDeck(CardCodec.encode(Color.BLUE, CardType.NUMBER, 2));
+        state.addToDeck(CardCodec.encode(Color.BLUE, CardType.NUMBER, 3));
+        state.setPosition(CardCodec.encode(Color.RED, CardType.NUMBER, 5), true, 0);
+
+        state.applyInPlace(GameState.DRAW);
+        assertEquals(4, state.handSize(0));
+        assertEquals(0, state.getCurrent());
+
+        int[] moves = new int[state.maxMoves()];
+        assertEquals(1, state.legalMoves(moves));
+        assertEquals(redNine, moves[0]);
+    }
+
+    @Test
+    void testZeroPassesHandsInDirectionOfPlay() {
+        GameState state = new GameState(4, new SpecialRules(false, true, false, false));
+        int redZero = CardCodec.encode(Color.RED, CardType.NUMBER, 0);
+        int blueOne = CardCodec.encode(Color.BLUE, CardType.NUMBER, 1);
+        for (int i = 0; i < 3; i++) {
+            state.addToHand(0, redZero);
+        }
+        for (int seat = 1; seat < 4; seat++) {
+            for (int i = 0; i <= seat + 1; i++) {
+                state.addToHand(seat, blueOne);
+            }
+        }
+        state.setPosition(CardCodec.encode(Color.RED, CardType.NUMBER, 5), true, 0);
+
+        // Forward, seat 0's two remaining zeros pass to seat 1.
+        state.applyInPlace(GameState.move(redZero, null, 0));
+        assertEquals(5, state.handSize(0));
+        assertEquals(2, state.countOf(1, redZero));
+        assertEquals(3, state.handSize(2));
+        assertEquals(4, state.handSize(3));
+
+        // Backward, seat 1's last zero passes to seat 0.
+        state.setPosition(redZero, false, 1);
+        state.applyInPlace(GameState.move(redZero, null, 0));
+        assertEquals(1, state.countOf(0, redZero));
+        assertEquals(3, state.handSize(1));
+        assertEquals(4, state.handSize(2));
+        assertEquals(5, state.handSize(3));
+        assertEquals(0, state.getCurrent());
+
+        // A seat that plays its last card wins before the hands move.
+        state.applyInPlace(GameState.move(redZero, null, 0));
+        assertTrue(state.isOver());
+        assertEquals(0, state.handSize(0));
+        assertEquals(3, state.handSize(1));
+    }
+}
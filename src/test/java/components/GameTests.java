@@ -1,5 +1,6 @@
 package components;
 
+import components.players.MediumAIPlayer;
 import components.players.Player;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -7,6 +8,7 @@ import utils.CardType;
 import utils.Color;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -18,11 +20,11 @@ public class GameTests {
     private Game threePlayerGame;
     private List<Player> threePlayers;
 
-    private final Card reverse = new Card(Color.RED, CardType.REVERSE, -1);
-    private final Card drawTwo = new Card(Color.RED, CardType.DRAW_TWO, -1);
-    private final Card skip = new Card(Color.RED, CardType.SKIP, -1);
-    private final Card wild = new Card(null, CardType.WILD, -1);
-    private final Card wildFour = new Card(null, CardType.WILD_DRAW_FOUR, -1);
+    private final Card reverse = Card.of(Color.RED, CardType.REVERSE, -1);
+    private final Card drawTwo = Card.of(Color.RED, CardType.DRAW_TWO, -1);
+    private final Card skip = Card.of(Color.RED, CardType.SKIP, -1);
+    private final Card wild = Card.of(null, CardType.WILD, -1);
+    private final Card wildFour = Card.of(null, CardType.WILD_DRAW_FOUR, -1);
 
     @BeforeEach
     void setUp() {
@@ -132,12 +134,12 @@ public class GameTests {
     @Test
     void testHandleSpecialTopCard_Wild() {
         assertEquals(0, twoPlayerGame.getCurrentIndex());
-        Card result = twoPlayerGame.handleSpecialTopCard(new Card(null, CardType.WILD, -1));
+        Card result = twoPlayerGame.handleSpecialTopCard(Card.of(null, CardType.WILD, -1));
         assertNotEquals(wild, result);
         assertEquals(Color.BLUE, result.getColor());
 
         assertEquals(0, threePlayerGame.getCurrentIndex());
-        result = threePlayerGame.handleSpecialTopCard(new Card(null, CardType.WILD, -1));
+        result = threePlayerGame.handleSpecialTopCard(Card.of(null, CardType.WILD, -1));
         assertNotEquals(wild, result);
         assertEquals(Color.BLUE, result.getColor());
     }
@@ -202,30 +204,304 @@ public class GameTests {
     @Test
     void testHandleSpecialCards_Wild() {
         assertEquals(0, twoPlayerGame.getCurrentIndex());
-        Card result = twoPlayerGame.handleSpecialCards(new Card(null, CardType.WILD, -1));
+        Card result = twoPlayerGame.handleSpecialCards(Card.of(null, CardType.WILD, -1));
         assertNotEquals(wild, result);
         assertEquals(Color.BLUE, result.getColor());
 
         assertEquals(0, threePlayerGame.getCurrentIndex());
-        result = threePlayerGame.handleSpecialCards(new Card(null, CardType.WILD, -1));
+        result = threePlayerGame.handleSpecialCards(Card.of(null, CardType.WILD, -1));
         assertNotEquals(wild, result);
         assertEquals(Color.BLUE, result.getColor());
     }
     @Test
     void testHandleSpecialCards_WildDrawFour() {
         assertEquals(0, twoPlayerGame.getCurrentIndex());
-        Card result = twoPlayerGame.handleSpecialCards(new Card(null, CardType.WILD_DRAW_FOUR, -1));
+        Card result = twoPlayerGame.handleSpecialCards(Card.of(null, CardType.WILD_DRAW_FOUR, -1));
         assertNotEquals(wildFour, result);
         assertEquals(Color.BLUE, result.getColor());
         assertEquals(11, twoPlayerGame.getPlayers().get(1).getHand().size());
 
         assertEquals(0, threePlayerGame.getCurrentIndex());
-        result = threePlayerGame.handleSpecialCards(new Card(null, CardType.WILD_DRAW_FOUR, -1));
+        result = threePlayerGame.handleSpecialCards(Card.of(null, CardType.WILD_DRAW_FOUR, -1));
         assertNotEquals(wildFour, result);
         assertEquals(Color.BLUE, result.getColor());
         assertEquals(11, threePlayerGame.getPlayers().get(1).getHand().size());
     }
 
+    @Test
+    void testListenerSeesWholeGame() {
+        List<Player> players = List.of(new MediumAIPlayer("Player1", 0, false), new MediumAIPlayer("Player2", 1, false));
+        Game game = new Game(players, new SpecialRules(), 3L);
+        int[] played = new int[2];
+        int[] winner = {-1};
+        game.addListener(new GameListener() {
+            @Override
+            public void cardPlayed(int seat, int code) {
+                assertEquals(-1, winner[0]);
+                played[seat]++;
+            }
+
+            @Override
+            public void gameWon(int seat) {
+                winner[0] = seat;
+            }
+        });
+
+        Player result = game.play();
+
+        assertEquals(players.indexOf(result), winner[0]);
+        assertTrue(played[winner[0]] >= 7);
+    }
+
+
+    @Test
+    void testStackingGrowsPendingPenalty() {
+        List<Player> players = List.of(new TestPlayer("Player1"), new TestPlayer("Player2"));
+        Game game = new Game(players, new SpecialRules(true, false, false, false));
+        game.handleSpecialCards(drawTwo);
+        assertEquals(0, game.getCurrentIndex());
+        assertEquals(2, game.getPendingPenalty());
+        assertEquals(7, game.getPlayers().get(1).getHand().size());
+
+        game.handleSpecialCards(Card.of(null, CardType.WILD_DRAW_FOUR, -1));
+        assertEquals(6, game.getPendingPenalty());
+        assertEquals(7, game.getPlayers().get(1).getHand().size());
+    }
+
+    @Test
+    void testStackedPenaltyIsDrawnInOneGo() {
+        int[] largest = {0};
+        for (long seed = 0; seed < 50; seed++) {
+            List<Player> players = List.of(new MediumAIPlayer("Player1", 0, false),
+                    new MediumAIPlayer("Player2", 1, false), new MediumAIPlayer("Player3", 2, false));
+            Game game = new Game(players, new SpecialRules(true, false, false, false), seed);
+            game.addListener(new GameListener() {
+                @Override
+                public void cardsDrawn(int seat, int numCards) {
+                    largest[0] = Math.max(largest[0], numCards);
+                }
+            });
+            game.play();
+        }
+        assertTrue(largest[0] >= 6);
+    }
+
+    @Test
+    void testJumpInHandsTurnToJumper() {
+        List<Player> players = List.of(new TestPlayer("Player1"), new TestPlayer("Player2"), new TestPlayer("Player3"));
+        Game game = new Game(players, new SpecialRules(false, false, false, true));
+        Card five = Card.of(Color.RED, CardType.NUMBER, 5);
+        while (players.get(0).getHand().removeCode(five.getCode())) { }
+        while (players.get(1).getHand().removeCode(five.getCode())) { }
+        players.get(2).getHand().addCode(five.getCode());
+        int size = players.get(2).getHand().size();
+
+        assertEquals(2, game.handleJumpIns(five, 0));
+        assertEquals(2, game.getCurrentIndex());
+        assertEquals(size - 1, players.get(2).getHand().size());
+        assertEquals(five.getCode(), game.getTopCard().getCode());
+    }
+
+    @Test
+    void testJumpInsAreDeterministic() {
+        int[][] jumps = new int[2][];
+        for (int run = 0; run < 2; run++) {
+            List<Player> players = new ArrayList<>();
+            for (int i = 0; i < 10; i++) {
+                players.add(new MediumAIPlayer("Player" + (i + 1), i, false));
+            }
+            Game game = new Game(players, new SpecialRules(false, false, false, true), 5L);
+            List<Integer> outOfTurn = new ArrayList<>();
+            game.addListener(new GameListener() {
+                private int turn;
+
+                @Override
+                public void turnStarted(int seat, int topState) {
+                    turn = seat;
+                }
+
+                @Override
+                public void cardPlayed(int seat, int code) {
+                    if (seat != turn) {
+                        outOfTurn.add(seat);
+                    }
+                    turn = seat;
+                }
+            });
+            game.play();
+            jumps[run] = outOfTurn.stream().mapToInt(Integer::intValue).toArray();
+        }
+
+        assertTrue(jumps[0].length > 0);
+        assertArrayEquals(jumps[0], jumps[1]);
+    }
+
+    @Test
+    void testTableViewKeepsUpWithGame() {
+        for (long seed = 0; seed < 20; seed++) {
+            List<Player> players = new ArrayList<>();
+            for (int i = 0; i < 5; i++) {
+                players.add(new MediumAIPlayer("Player" + (i + 1), i, false));
+            }
+            Game game = new Game(players, new SpecialRules(true, true, true, true, true), seed);
+            TableView table = game.getTable();
+            int[] turns = new int[1];
+            game.addListener(new GameListener() {
+                @Override
+                public void turnStarted(int seat, int topState) {
+                    turns[0]++;
+                    assertEquals(game.getTurnCount(), table.getTurnNumber());
+                    assertEquals(game.isForwardPlay(), table.isForwardPlay());
+                    for (int i = 0; i < players.size(); i++) {
+                        assertEquals(players.get(i).getHand().size(), table.handSize(i));
+                    }
+                    int discarded = 0;
+                    for (int code = 0; code < CardCodec.FACE_COUNT; code++) {
+                        discarded += table.discardCount(code);
+                    }
+                    assertEquals(table.getDiscardSize(), discarded);
+                }
+            });
+            game.play();
+            assertTrue(turns[0] > 0);
+        }
+    }
+
+    @Test
+    void testZeroPassesHandsInDirectionOfPlay() {
+        List<Player> players = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            players.add(new TestPlayer("Player" + (i + 1)));
+        }
+        Game game = new Game(players, new SpecialRules(false, true, false, false), 3L);
+        Hand[] hands = new Hand[4];
+        for (int i = 0; i < 4; i++) {
+            hands[i] = players.get(i).getHand();
+        }
+        game.drawCards(2, 1, false);
+
+        game.zeroCardRotateHands();
+        for (int i = 0; i < 4; i++) {
+            assertSame(hands[(i + 3) % 4], players.get(i).getHand());
+            assertEquals(players.get(i).getHand().size(), game.getTable().handSize(i));
+        }
+        assertEquals(9, game.getTable().handSize(2));
+
+        game.reversePlay();
+        game.zeroCardRotateHands();
+        for (int i = 0; i < 4; i++) {
+            assertSame(hands[i], players.get(i).getHand());
+            assertEquals(hands[i].size(), game.getTable().handSize(i));
+        }
+    }
+
+    @Test
+    void testResetPlaysLikeNewGame() {
+        SpecialRules rules = new SpecialRules(true, true, true, true, true);
+        List<Player> reused = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            reused.add(new MediumAIPlayer("Player" + (i + 1), i, false));
+        }
+        Game game = new Game(reused, rules, 100L);
+        game.play();
+
+        for (long seed = 0; seed < 20; seed++) {
+            List<Player> players = new ArrayList<>();
+            for (int i = 0; i < 4; i++) {
+                players.add(new MediumAIPlayer("Player" + (i + 1), i, false));
+            }
+            Game fresh = new Game(players, rules, seed);
+            int winner = players.indexOf(fresh.play());
+
+            game.reset(seed);
+            assertEquals(0, game.getTurnCount());
+            assertEquals(CardCodec.DECK_SIZE - 4 * 7, game.getDeck().size());
+            assertEquals(0, game.getDiscardPile().size());
+            for (int i = 0; i < 4; i++) {
+                assertEquals(7, reused.get(i).getHand().size());
+                assertEquals(7, game.getTable().handSize(i));
+            }
+            assertEquals(winner, reused.indexOf(game.play()));
+            assertEquals(fresh.getTurnCount(), game.getTurnCount());
+        }
+    }
+
+    @Test
+    void testPlayersReusedInNewGamesAreBoundAndReset() {
+        SpecialRules rules = new SpecialRules(true, true, true, true, true);
+        List<Player> players = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            players.add(new MediumAIPlayer("Player" + (i + 1), 3 - i, false));
+        }
+        new Game(players, rules, 7L).play();
+
+        List<Player> reseated = new ArrayList<>(players);
+        Collections.reverse(reseated);
+        new Game(reseated, rules, 8L);
+        for (int i = 0; i < 4; i++) {
+            assertEquals(i, reseated.get(i).getPlayerIndex());
+            assertEquals(7, reseated.get(i).getHand().size());
+        }
+
+        for (Player p : reseated) {
+            p.release();
+            assertTrue(p.hasNoCards());
+        }
+    }
+
+    @Test
+    void testDrawUntilPlayableDealsRunInBulk() {
+        List<Player> players = List.of(new TestPlayer("Player1"), new TestPlayer("Player2"));
+        Game game = new Game(players, new SpecialRules(false, false, false, false, true), 1L);
+        Card top = Card.of(Color.RED, CardType.NUMBER, 5);
+        int topState = CardCodec.topState(top);
+        int depth = game.getDeck().depthOf(LegalMoves.mask(topState));
+        Hand hand = players.get(0).getHand();
+        int size = hand.size();
+
+        assertNull(game.getCard(top));
+        assertEquals(size + depth, hand.size());
+        assertTrue(LegalMoves.isLegal(hand.codeAt(size), topState));
+        for (int i = size + 1; i < hand.size(); i++) {
+            assertFalse(LegalMoves.isLegal(hand.codeAt(i), topState));
+        }
+        assertEquals(1, game.getCurrentIndex());
+    }
+
+    @Test
+    void testDrawUntilPlayableOnlyPassesTurnsThatEndWithoutPlay() {
+        // The first player refuses to play on its first turn, even after drawing until it could.
+        Player stubborn = new MediumAIPlayer("Player1", 0, false) {
+            private int refusals = 2;
+
+            @Override
+            public Card play(Card topCard) {
+                return refusals-- > 0 ? null : super.play(topCard);
+            }
+        };
+        List<Player> players = List.of(stubborn, new MediumAIPlayer("Player2", 1, false));
+        Game game = new Game(players, new SpecialRules(false, false, false, false, true), 5L);
+        int[] declined = new int[1];
+        int[] passed = new int[1];
+        game.addListener(new GameListener() {
+            @Override
+            public void playDeclined(int seat) {
+                declined[0]++;
+            }
+
+            @Override
+            public void turnPassed(int seat) {
+                passed[0]++;
+            }
+        });
+
+        game.play();
+
+        // The medium AI plays whenever it can, so only the refused turn passes, and it passes once.
+        assertTrue(declined[0] > 1);
+        assertEquals(1, passed[0]);
+    }
+
     class TestPlayer extends Player {
         public TestPlayer(String name) {
             super(name, 1);
@@ -243,8 +519,13 @@ public class GameTests {
         }
 
         @Override
-        public int getPlayerToSwitchWith(List<Integer> handSizes, boolean forwardPlay) {
+        public int getPlayerToSwitchWith(TableView table) {
             return 0;
         }
+
+        @Override
+        public String getPlayerType() {
+            return "Test";
+        }
     }
 }
@@ -0,0 +1,78 @@
+package components;
+
+import org.junit.*;
+import utils.CardType;
+import utils.Color;
+
+import static org.junit.Assert.*;
+
+/**
+ * The {@code LegalMovesTests} class contains JUnit tests for the {@link LegalMoves} table.
+ * It checks the table against the card comparison rules for every face and top state.
+ *
+ * @author Riley Woolf
+ * @version 1.0
+ */
+public class LegalMovesTests {
+
+    /**
+     * Test that the table agrees with the card rules for every face and every colored top card.
+     */
+    @Test
+    public void matchesCardRules() {
+        for (int top = 0; top < CardCodec.WILD; top++) {
+            Card topCard = CardCodec.decode(top);
+            for (int code = 0; code < CardCodec.FACE_COUNT; code++) {
+                Card card = CardCodec.decode(code);
+                boolean expected = card.getType() == CardType.WILD || card.getType() == CardType.WILD_DRAW_FOUR
+                        || card.getColor() == topCard.getColor()
+                        || (card.getType() == CardType.NUMBER ? card.getNumber() == topCard.getNumber()
+                                                              : card.getType() == topCard.getType());
+                assertEquals(card + " on " + topCard, expected, LegalMoves.isLegal(code, top));
+            }
+        }
+    }
+
+    /**
+     * Test that a wild with a declared color only accepts that color and other wilds.
+     */
+    @Test
+    public void declaredWild() {
+        Card topCard = Card.of(Color.GREEN, CardType.WILD_DRAW_FOUR, -1);
+        long mask = LegalMoves.mask(CardCodec.topState(topCard));
+
+        assertEquals(CardCodec.RANKS_PER_COLOR + 2, Long.bitCount(mask));
+        assertTrue(Card.of(Color.GREEN, CardType.SKIP, -1).validMove(topCard));
+        assertFalse(Card.of(Color.RED, CardType.SKIP, -1).validMove(topCard));
+    }
+
+    /**
+     * Test that the playable mask of a hand only keeps the faces that can be played.
+     */
+    @Test
+    public void playableHand() {
+        Hand hand = new CodeHand();
+        hand.add(Card.of(Color.RED, CardType.NUMBER, 3));
+        hand.add(Card.of(Color.BLUE, CardType.NUMBER, 3));
+        hand.add(Card.of(Color.BLUE, CardType.NUMBER, 4));
+        hand.add(Card.of(null, CardType.WILD, -1));
+
+        long playable = LegalMoves.playable(hand.faceMask(), Card.of(Color.RED, CardType.NUMBER, 7).getCode());
+        assertEquals(2, Long.bitCount(playable));
+    }
+
+    /**
+     * Test that Draw Twos and Wild Draw Fours stack on a Draw Two, but only Wild Draw Fours on a Wild Draw Four.
+     */
+    @Test
+    public void stackable() {
+        int redDrawTwo = CardCodec.encode(Color.RED, CardType.DRAW_TWO, -1);
+        int blueDrawTwo = CardCodec.encode(Color.BLUE, CardType.DRAW_TWO, -1);
+        int redFive = CardCodec.encode(Color.RED, CardType.NUMBER, 5);
+        long hand = 1L << blueDrawTwo | 1L << redFive | 1L << CardCodec.WILD_DRAW_FOUR | 1L << CardCodec.WILD;
+
+        assertEquals(1L << blueDrawTwo | 1L << CardCodec.WILD_DRAW_FOUR, LegalMoves.stackable(hand, redDrawTwo));
+        assertEquals(1L << CardCodec.WILD_DRAW_FOUR,
+                LegalMoves.stackable(hand, CardCodec.topState(CardCodec.WILD_DRAW_FOUR, Color.GREEN)));
+    }
+}
@@ -0,0 +1,142 @@
+package components;
+
+import components.players.DifficultAIPlayer;
+import components.players.EasyAIPlayer;
+import components.players.ISMCTSAIPlayer;
+import components.players.MediumAIPlayer;
+import components.players.PlayerFactory;
+import components.stats.GameStats;
+import org.junit.jupiter.api.Test;
+import utils.CardType;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class TournamentTests {
+
+    private final List<PlayerFactory> seats = List.of(
+            index -> new EasyAIPlayer("Player 1", index),
+            index -> new MediumAIPlayer("Player 2", index, false),
+            index -> new DifficultAIPlayer("Player 3", index, false));
+
+    @Test
+    void testEveryGameHasOneWinner() {
+        TournamentResult result = new Tournament(seats, new SpecialRules(), 2).run(500);
+
+        long totalWins = 0;
+        for (int i = 0; i < result.getNumSeats(); i++) {
+            totalWins += result.getWins(i);
+        }
+        assertEquals(500, totalWins);
+        assertEquals("Medium AI", result.getPlayerType(1));
+    }
+
+    @Test
+    void testSameSeedSameResultsForAnyThreadCount() {
+        SpecialRules rules = new SpecialRules(false, true, true, false);
+        TournamentResult oneThread = new Tournament(seats, rules, 1, 42L).run(2000);
+        TournamentResult fourThreads = new Tournament(seats, rules, 4, 42L).run(2000);
+
+        for (int i = 0; i < oneThread.getNumSeats(); i++) {
+            assertEquals(oneThread.getWins(i), fourThreads.getWins(i));
+        }
+    }
+
+    @Test
+    void testPooledPlayersGiveSameResultsAsFreshPlayers() {
+        SpecialRules rules = new SpecialRules(true, true, true, true, true);
+        Tournament fresh = new Tournament(seats, rules, 2, 7L);
+        fresh.setPooledPlayers(false);
+        TournamentResult freshResult = fresh.run(2000);
+        Tournament pooled = new Tournament(seats, rules, 2, 7L);
+        TournamentResult pooledResult = pooled.run(2000);
+        TournamentResult pooledAgain = pooled.run(2000);
+
+        for (int i = 0; i < freshResult.getNumSeats(); i++) {
+            assertEquals(freshResult.getWins(i), pooledResult.getWins(i));
+            assertEquals(freshResult.getWins(i), pooledAgain.getWins(i));
+        }
+    }
+
+    @Test
+    void testSearchBeatsDifficultHeadToHead() {
+        List<PlayerFactory> headToHead = List.of(
+                index -> new ISMCTSAIPlayer("Player 1", index, false, 300, 0, 1),
+                index -> new DifficultAIPlayer("Player 2", index, false));
+        TournamentResult result = new Tournament(headToHead, new SpecialRules(), 1, 42L).run(300);
+
+        assertTrue(result.getWins(0) > result.getWins(1));
+    }
+
+    @Test
+    void testCollectedStatsAddUpForAnyThreadCount() {
+        SpecialRules rules = new SpecialRules(false, true, true, false);
+        Tournament tournament = new Tournament(seats, rules, 4, 7L);
+        tournament.setCollectStats(true);
+        GameStats stats = tournament.run(1000).getStats();
+
+        assertEquals(1000, stats.getGames());
+        assertEquals(1000, stats.getDetailedGames());
+        assertTrue(stats.getAverageTurns() > 0);
+        assertTrue(stats.getAverageHandSize(0, 0) >= 7);
+
+        Tournament oneThread = new Tournament(seats, rules, 1, 7L);
+        oneThread.setCollectStats(true);
+        GameStats expected = oneThread.run(1000).getStats();
+        assertEquals(expected.getAverageTurns(), stats.getAverageTurns(), 1e-9);
+        for (int i = 0; i < stats.getNumSeats(); i++) {
+            assertEquals(expected.getWins(i), stats.getWins(i));
+            assertEquals(expected.getCardsPlayedPerGame(i, CardType.SKIP), stats.getCardsPlayedPerGame(i, CardType.SKIP), 1e-9);
+
+            double[] interval = stats.getWinRateInterval(i);
+            assertTrue(interval[0] < stats.getWinRate(i) && stats.getWinRate(i) < interval[1]);
+        }
+    }
+
+    @Test
+    void testTypeWinRatePoolsSeatsOfTheSameType() {
+        List<PlayerFactory> twoEasy = List.of(
+                index -> new EasyAIPlayer("Player 1", index),
+                index -> new EasyAIPlayer("Player 2", index),
+                index -> new DifficultAIPlayer("Player 3", index, false));
+        TournamentResult result = new Tournament(twoEasy, new SpecialRules(), 2, 3L).run(400);
+
+        assertEquals(List.of("Easy AI", "Difficult AI"), result.getPlayerTypes());
+        assertEquals(800, result.getTypeGames("Easy AI"));
+        assertEquals(result.getWins(0) + result.getWins(1), result.getTypeWins("Easy AI"));
+        assertEquals(0, result.getStats().getDetailedGames());
+    }
+
+    @Test
+    void testPooledSetsSurviveAThrowingGameAndLabelTheResult() {
+        AtomicInteger created = new AtomicInteger();
+        AtomicBoolean fail = new AtomicBoolean(true);
+        List<PlayerFactory> failing = List.of(
+                index -> {
+                    created.incrementAndGet();
+                    return new EasyAIPlayer("Player 1", index) {
+                        @Override
+                        public Card play(Card topCard) {
+                            if (fail.get()) {
+                                throw new IllegalStateException("Broken player.");
+                            }
+                            return super.play(topCard);
+                        }
+                    };
+                },
+                index -> new MediumAIPlayer("Player 2", index, false));
+        Tournament tournament = new Tournament(failing, new SpecialRules(), 1, 3L);
+
+        assertThrows(IllegalStateException.class, () -> tournament.run(1));
+        assertEquals(1, created.get());
+
+        fail.set(false);
+        TournamentResult result = tournament.run(100);
+        assertEquals(1, created.get());
+        assertEquals("Player 1", result.getName(0));
+        assertEquals("Medium AI", result.getPlayerType(1));
+    }
+}
@@ -0,0 +1,120 @@
+package components.batch;
+
+import components.TournamentResult;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class BatchTests {
+
+    @TempDir
+    Path dir;
+
+    @Test
+    void testArgumentsOverrideConfigFile() throws Exception {
+        Path file = dir.resolve("run.properties");
+        Files.writeString(file, "players=e,m,d\nrules=zeros,sevens\ngames=1000\nseed=7\nformat=json\n");
+
+        BatchConfig config = BatchConfig.fromArgs(new String[]{"--config", file.toString(), "--games=50",
+                "--threads", "3"});
+
+        assertEquals(50, config.getGames());
+        assertEquals(3, config.getThreads());
+        assertEquals(7L, config.getSeed());
+        assertEquals(ResultFormat.JSON, config.getFormat());
+        assertTrue(config.getSpecialRules().isZerosRotate());
+        assertFalse(config.getSpecialRules().isAllowStacking());
+        assertEquals(3, config.getPlayerFactories().size());
+    }
+
+    @Test
+    void testInvalidSettingsAreRejected() {
+        assertThrows(IllegalArgumentException.class,
+                () -> BatchConfig.fromArgs(new String[]{"--players", "e,h", "--games", "10"}));
+        assertThrows(IllegalArgumentException.class,
+                () -> BatchConfig.fromArgs(new String[]{"--players", "e,m", "--games", "0"}));
+        assertThrows(IllegalArgumentException.class,
+                () -> BatchConfig.fromArgs(new String[]{"--players", "e,m", "--games", "10", "--rules", "sixes"}));
+        assertThrows(IllegalArgumentException.class,
+                () -> BatchConfig.fromArgs(new String[]{"--players", "e,m", "--games", "10", "--gmaes", "5"}));
+        assertThrows(IllegalArgumentException.class,
+                () -> BatchConfig.fromArgs(new String[]{"--games", "10"}));
+    }
+
+    @Test
+    void testEveryGameIsStreamedOnceAndSummaryAddsUp() throws Exception {
+        Path out = dir.resolve("games.csv");
+        Path summary = dir.resolve("seats.csv");
+        BatchConfig config = BatchConfig.fromArgs(new String[]{"--players", "e,m,d", "--rules", "sevens",
+                "--games", "2000", "--threads", "4", "--seed", "11", "--out", out.toString(),
+                "--summary", summary.toString()});
+        TournamentResult result = new BatchRunner(config).run(new PrintStream(new ByteArrayOutputStream()));
+
+        List<String> rows = Files.readAllLines(out);
+        assertEquals("game,seed,winner,turns", rows.get(0));
+        assertEquals(2001, rows.size());
+        Set<Long> games = new HashSet<>();
+        long[] wins = new long[3];
+        for (String row : rows.subList(1, rows.size())) {
+            String[] fields = row.split(",");
+            games.add(Long.parseLong(fields[0]));
+            wins[Integer.parseInt(fields[2])]++;
+            assertTrue(Integer.parseInt(fields[3]) > 0);
+        }
+        assertEquals(2000, games.size());
+
+        List<String> seats = Files.readAllLines(summary);
+        assertEquals(4, seats.size());
+        for (int i = 0; i < 3; i++) {
+            assertEquals(result.getWins(i), wins[i]);
+            assertTrue(seats.get(i + 1).startsWith(i + ",Player " + (i + 1) + ","));
+            assertEquals(String.valueOf(wins[i]), seats.get(i + 1).split(",")[4]);
+        }
+    }
+
+    @Test
+    void testDecisionCacheDoesNotChangeResults() throws Exception {
+        Path plain = dir.resolve("plain.csv");
+        Path cached = dir.resolve("cached.csv");
+        String[] args = {"--players", "m,d,d,m", "--rules", "zeros,sevens", "--games", "500", "--threads", "2",
+                "--seed", "23", "--summary", dir.resolve("seats.csv").toString(), "--out"};
+        BatchConfig config = BatchConfig.fromArgs(concat(args, plain.toString()));
+        new BatchRunner(config).run(new PrintStream(new ByteArrayOutputStream()));
+        BatchConfig cachedConfig = BatchConfig.fromArgs(concat(args, cached.toString(), "--cache", "4096"));
+        ByteArrayOutputStream log = new ByteArrayOutputStream();
+        new BatchRunner(cachedConfig).run(new PrintStream(log));
+
+        assertNull(config.getDecisionCache());
+        // The threads finish their games in any order, but every game must have the same row.
+        assertEquals(new HashSet<>(Files.readAllLines(plain)), new HashSet<>(Files.readAllLines(cached)));
+        assertTrue(cachedConfig.getDecisionCache().getHits() > 0);
+        assertTrue(log.toString().contains("hit rate"));
+    }
+
+    private static String[] concat(String[] args, String... more) {
+        String[] all = new String[args.length + more.length];
+        System.arraycopy(args, 0, all, 0, args.length);
+        System.arraycopy(more, 0, all, args.length, more.length);
+        return all;
+    }
+
+    @Test
+    void testJsonRowsAreOneObjectPerLine() {
+        StringBuilder rows = new StringBuilder();
+        ResultFormat.JSON.appendGame(rows, 3, -5, 1, 40);
+        ResultFormat.JSON.appendSeat(rows, 0, "Player \"1\"", "Easy AI", 10, 4, new double[]{0.1, 0.7});
+
+        assertEquals("{\"game\":3,\"seed\":-5,\"winner\":1,\"turns\":40}\n"
+                + "{\"seat\":0,\"name\":\"Player \\\"1\\\"\",\"type\":\"Easy AI\",\"games\":10,\"wins\":4,"
+                + "\"winRate\":0.400000,\"ciLow\":0.100000,\"ciHigh\":0.700000}\n", rows.toString());
+    }
+}
@@ -0,0 +1,59 @@
+package components.metrics;
+
+import org.junit.jupiter.api.Test;
+import utils.CardType;
+
+import javax.management.MBeanServer;
+import javax.management.MBeanServerFactory;
+import javax.management.ObjectName;
+import javax.management.openmbean.CompositeData;
+import javax.management.openmbean.TabularData;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class GameMetricsTests {
+
+    @Test
+    void testPercentilesAreWithinAFactorOfTwo() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (int i = 1; i <= 1000; i++) {
+            histogram.record(i * 1000L);
+        }
+
+        LatencySnapshot snapshot = histogram.snapshot();
+        assertEquals(1000, snapshot.getCount());
+        assertEquals(500_500, snapshot.getMeanNanos(), 1e-6);
+        assertEquals(1_000_000, snapshot.getMaxNanos());
+        assertTrue(snapshot.getP50Nanos() >= 500_000 && snapshot.getP50Nanos() < 1_000_000);
+        assertTrue(snapshot.getP99Nanos() >= 990_000 && snapshot.getP99Nanos() <= 1_000_000);
+
+        histogram.reset();
+        assertEquals(0, histogram.getCount());
+        assertEquals(0, histogram.getPercentile(0.5));
+    }
+
+    @Test
+    void testMetricsAreReadableAsOpenTypes() throws Exception {
+        GameMetrics metrics = new GameMetrics();
+        metrics.countGame();
+        metrics.countDeckDraw();
+        metrics.countBranch(GameMetrics.Branch.of(CardType.SKIP));
+        metrics.decisionLatencies("Easy AI")[GameMetrics.Decision.PLAY.ordinal()].record(1500);
+
+        MBeanServer server = MBeanServerFactory.newMBeanServer();
+        ObjectName name = new ObjectName(GameMetrics.OBJECT_NAME);
+        server.registerMBean(metrics, name);
+
+        assertEquals(1L, server.getAttribute(name, "Games"));
+        assertEquals(1L, server.getAttribute(name, "DeckDraws"));
+        TabularData branches = (TabularData) server.getAttribute(name, "SpecialCardBranches");
+        assertEquals(1L, branches.get(new Object[]{"SKIP"}).get("value"));
+        TabularData latencies = (TabularData) server.getAttribute(name, "DecisionLatencies");
+        CompositeData play = (CompositeData) latencies.get(new Object[]{"Easy AI play"}).get("value");
+        assertEquals(1L, play.get("count"));
+        assertEquals(1500L, play.get("maxNanos"));
+
+        server.invoke(name, "reset", null, null);
+        assertEquals(0L, server.getAttribute(name, "Games"));
+    }
+}
@@ -0,0 +1,39 @@
+package components.players;
+
+import components.Card;
+import org.junit.jupiter.api.Test;
+import utils.CardType;
+import utils.Color;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class AIChoiceTests {
+
+    private final Card topCard = Card.of(Color.BLUE, CardType.NUMBER, 7);
+
+    @Test
+    void testEasyPlaysLowestFaceNotFirstDrawn() {
+        EasyAIPlayer player = new EasyAIPlayer("Easy", 0);
+        player.addCard(Card.of(null, CardType.WILD, -1));
+        player.addCard(Card.of(Color.BLUE, CardType.SKIP, -1));
+        player.addCard(Card.of(Color.BLUE, CardType.NUMBER, 3));
+        player.addCard(Card.of(Color.RED, CardType.NUMBER, 7));
+
+        assertEquals(Card.of(Color.RED, CardType.NUMBER, 7), player.play(topCard));
+        assertEquals(Card.of(Color.BLUE, CardType.NUMBER, 3), player.play(topCard));
+        assertEquals(Card.of(Color.BLUE, CardType.SKIP, -1), player.play(topCard));
+    }
+
+    @Test
+    void testMediumPlaysLowestNumberNotFirstDrawn() {
+        MediumAIPlayer player = new MediumAIPlayer("Medium", 0, false);
+        player.addCard(Card.of(Color.BLUE, CardType.DRAW_TWO, -1));
+        player.addCard(Card.of(Color.YELLOW, CardType.NUMBER, 7));
+        player.addCard(Card.of(Color.BLUE, CardType.NUMBER, 9));
+        player.addCard(Card.of(Color.BLUE, CardType.NUMBER, 1));
+        player.addCard(Card.of(Color.GREEN, CardType.NUMBER, 7));
+
+        assertEquals(Card.of(Color.GREEN, CardType.NUMBER, 7), player.play(topCard));
+        assertEquals(Card.of(Color.BLUE, CardType.NUMBER, 1), player.play(topCard));
+    }
+}
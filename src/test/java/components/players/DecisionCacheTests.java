@@ -0,0 +1,113 @@
+package components.players;
+
+import components.SpecialRules;
+import components.Tournament;
+import components.TournamentResult;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class DecisionCacheTests {
+
+    @Test
+    void testCachedDecisionsAreFound() {
+        DecisionCache cache = new DecisionCache(64);
+        assertEquals(DecisionCache.MISS, cache.get(0b1011));
+        cache.put(0b1011, 12);
+        cache.put(0b0110, 0);
+        cache.put(Long.MIN_VALUE | 0b1011, 53);
+
+        assertEquals(12, cache.get(0b1011));
+        assertEquals(0, cache.get(0b0110));
+        assertEquals(53, cache.get(Long.MIN_VALUE | 0b1011));
+        assertEquals(DecisionCache.MISS, cache.get(0b0111));
+        assertEquals(3, cache.getHits());
+        assertEquals(2, cache.getMisses());
+        assertEquals(0.6, cache.getHitRate(), 1e-9);
+    }
+
+    @Test
+    void testCapacityIsBoundedAndRecentEntriesSurvive() {
+        DecisionCache cache = new DecisionCache(5);
+        assertEquals(8, cache.getCapacity());
+
+        cache.put(1, 1);
+        for (long signature = 2; signature <= 1000; signature++) {
+            cache.put(signature, (int) (signature % 54));
+            // Keep using the first entry, so the clock always gives it a second chance.
+            assertEquals(1, cache.get(1));
+        }
+
+        assertEquals(1000 - cache.getCapacity(), cache.getEvictions(), 8);
+        int found = 0;
+        for (long signature = 2; signature <= 1000; signature++) {
+            int code = cache.get(signature);
+            if (code != DecisionCache.MISS) {
+                assertEquals(signature % 54, code);
+                found++;
+            }
+        }
+        assertTrue(found < cache.getCapacity());
+    }
+
+    @Test
+    void testInvalidCapacityIsRejected() {
+        assertThrows(IllegalArgumentException.class, () -> new DecisionCache(0));
+    }
+
+    @Test
+    void testConcurrentReadersNeverSeeAnotherSignaturesCard() throws InterruptedException {
+        // One set of four entries, and signatures that differ only in their low bits.
+        DecisionCache cache = new DecisionCache(4);
+        AtomicBoolean wrong = new AtomicBoolean();
+        Thread[] threads = new Thread[4];
+        for (int t = 0; t < threads.length; t++) {
+            threads[t] = new Thread(() -> {
+                for (int i = 0; i < 200_000; i++) {
+                    long signature = 1 + i % 16;
+                    int code = cache.get(signature);
+                    if (code != DecisionCache.MISS && code != (int) signature) {
+                        wrong.set(true);
+                    }
+                    cache.put(signature, (int) signature);
+                }
+            });
+            threads[t].start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        assertFalse(wrong.get());
+    }
+
+    @Test
+    void testSharedCacheGivesSameTournamentResults() {
+        SpecialRules rules = new SpecialRules(true, true, true, true, true);
+        TournamentResult uncached = new Tournament(seats(null), rules, 4, 11L).run(3000);
+        // A small cache, so the threads keep evicting and overwriting each other's entries.
+        DecisionCache cache = new DecisionCache(16);
+        TournamentResult cached = new Tournament(seats(cache), rules, 4, 11L).run(3000);
+
+        assertTrue(cache.getHits() > 0);
+        for (int i = 0; i < uncached.getNumSeats(); i++) {
+            assertEquals(uncached.getWins(i), cached.getWins(i));
+        }
+    }
+
+    private static List<PlayerFactory> seats(DecisionCache cache) {
+        return List.of(
+                index -> cached(new MediumAIPlayer("Player 1", index, false), cache),
+                index -> cached(new DifficultAIPlayer("Player 2", index, false), cache),
+                index -> cached(new MediumAIPlayer("Player 3", index, false), cache),
+                index -> cached(new DifficultAIPlayer("Player 4", index, false), cache));
+    }
+
+    private static AIPlayer cached(AIPlayer player, DecisionCache cache) {
+        player.setDecisionCache(cache);
+        return player;
+    }
+}
@@ -0,0 +1,117 @@
+package components.replay;
+
+import components.SpecialRules;
+import components.Tournament;
+import components.TournamentResult;
+import components.players.DifficultAIPlayer;
+import components.players.EasyAIPlayer;
+import components.players.MediumAIPlayer;
+import components.players.PlayerFactory;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ReplayTests {
+
+    private final List<PlayerFactory> seats = List.of(
+            index -> new EasyAIPlayer("Player 1", index),
+            index -> new MediumAIPlayer("Player 2", index, false),
+            index -> new DifficultAIPlayer("Player 3", index, false));
+
+    @TempDir
+    Path dir;
+
+    private TournamentResult record(int numGames) throws IOException {
+        return record(numGames, new SpecialRules(false, true, true, false));
+    }
+
+    private TournamentResult record(int numGames, SpecialRules specialRules) throws IOException {
+        return record(numGames, specialRules, false);
+    }
+
+    private TournamentResult record(int numGames, SpecialRules specialRules, boolean overwrite)
+            throws IOException {
+        Tournament tournament = new Tournament(seats, specialRules, 2, 11L);
+        Path dataFile = dir.resolve("games.replay");
+        try (ReplayLog log = new ReplayLog(dataFile, dir.resolve("games.index"), overwrite)) {
+            tournament.setReplayLog(log);
+            return tournament.run(numGames);
+        }
+    }
+
+    @Test
+    void testEveryRecordedGameReplays() throws IOException {
+        TournamentResult result = record(300);
+
+        try (Replayer replayer = new Replayer(dir.resolve("games.replay"), dir.resolve("games.index"))) {
+            assertEquals(300, replayer.verifyAll());
+
+            long[] wins = new long[3];
+            for (long id = 0; id < 300; id++) {
+                GameRecord record = replayer.verify(id);
+                assertEquals(id, record.getGameId());
+                assertEquals(Tournament.gameSeed(11L, id), record.getSeed());
+                wins[record.getWinner()]++;
+            }
+            for (int seat = 0; seat < 3; seat++) {
+                assertEquals(result.getWins(seat), wins[seat]);
+            }
+        }
+    }
+
+    @Test
+    void testEveryRuleReplays() throws IOException {
+        record(200, new SpecialRules(true, true, true, true, true));
+
+        try (Replayer replayer = new Replayer(dir.resolve("games.replay"), dir.resolve("games.index"))) {
+            assertEquals(200, replayer.verifyAll());
+        }
+    }
+
+    @Test
+    void testExistingLogIsKeptUnlessOverwritten() throws IOException {
+        record(300);
+        assertThrows(FileAlreadyExistsException.class, () -> record(40));
+
+        try (Replayer replayer = new Replayer(dir.resolve("games.replay"), dir.resolve("games.index"))) {
+            assertEquals(300, replayer.verifyAll());
+            assertEquals(Tournament.gameSeed(11L, 299), replayer.verify(299).getSeed());
+        }
+    }
+
+    @Test
+    void testOverwrittenLogHoldsOnlyTheNewRun() throws IOException {
+        record(300);
+        record(40, new SpecialRules(false, true, true, false), true);
+
+        try (Replayer replayer = new Replayer(dir.resolve("games.replay"), dir.resolve("games.index"))) {
+            assertEquals(40, replayer.verifyAll());
+            assertEquals(Tournament.gameSeed(11L, 39), replayer.verify(39).getSeed());
+            assertThrows(IllegalArgumentException.class, () -> replayer.read(40));
+        }
+    }
+
+    @Test
+    void testTamperedRecordIsCaught() throws IOException {
+        record(5);
+
+        try (Replayer replayer = new Replayer(dir.resolve("games.replay"), dir.resolve("games.index"))) {
+            GameRecord record = replayer.read(3);
+            byte[] moves = new byte[record.getNumMoves()];
+            for (int i = 0; i < moves.length; i++) {
+                moves[i] = (byte) record.getMove(i);
+            }
+            GameRecord tampered = new GameRecord(3, record.getSeed() + 1, record.getSpecialRules(),
+                    record.getNumPlayers(), record.getWinner(), moves);
+
+            assertThrows(IllegalStateException.class, () -> Replayer.replay(tampered));
+            assertThrows(IllegalArgumentException.class, () -> replayer.read(5));
+        }
+    }
+}